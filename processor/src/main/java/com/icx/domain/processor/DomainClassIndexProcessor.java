@@ -0,0 +1,145 @@
+package com.icx.domain.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor which generates domain class index at compile time.
+ * <p>
+ * Collects all top level classes of compilation which extend {@code com.icx.domain.DomainObject} (directly or indirectly) and writes their binary names - one per line - to resource
+ * {@code META-INF/com.icx.domain/domain-classes}. On registering domain classes by package name, registry reads these resources from class path instead of scanning class path for domain classes.
+ * <p>
+ * On incremental compilation (only some classes are compiled) index written before is merged: indexed classes which were not compiled again are kept if they still exist and are still domain classes.
+ * <p>
+ * Usage (Gradle): {@code annotationProcessor 'com.icx.domain:processor:<version>'} in project containing domain classes.
+ *
+ * @author baumgrai
+ */
+public class DomainClassIndexProcessor extends AbstractProcessor {
+
+	// Must match Registry#DOMAIN_CLASS_INDEX_RESOURCE
+	static final String DOMAIN_CLASS_INDEX_RESOURCE = "META-INF/com.icx.domain/domain-classes";
+
+	static final String DOMAIN_OBJECT_CLASS_NAME = "com.icx.domain.DomainObject";
+
+	// Domain classes found in all processing rounds
+	private final SortedSet<String> domainClassNames = new TreeSet<>();
+
+	// Top level classes compiled in all processing rounds
+	private final Set<String> compiledClassNames = new HashSet<>();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton("*");
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	// Check if class extends domain object class
+	private static boolean isDomainClass(TypeElement typeElement) {
+
+		TypeMirror superclass = typeElement.getSuperclass();
+		while (superclass.getKind() == TypeKind.DECLARED) {
+			TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+			if (superElement.getQualifiedName().contentEquals(DOMAIN_OBJECT_CLASS_NAME)) {
+				return true;
+			}
+			superclass = superElement.getSuperclass();
+		}
+		return false;
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+		for (Element element : roundEnv.getRootElements()) {
+			if (element.getKind() == ElementKind.CLASS && ((TypeElement) element).getNestingKind() == NestingKind.TOP_LEVEL) {
+				String className = processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString();
+				compiledClassNames.add(className);
+				if (isDomainClass((TypeElement) element)) {
+					domainClassNames.add(className);
+				}
+			}
+		}
+
+		if (roundEnv.processingOver()) {
+			boolean indexExists = mergeExistingDomainClassIndex();
+			if (indexExists || !domainClassNames.isEmpty()) { // Overwrite existing index even if no domain class is left
+				writeDomainClassIndex();
+			}
+		}
+
+		return false;
+	}
+
+	// Add domain classes of existing index (written by previous compilation) which were not compiled now but still exist and are still domain classes - returns false if no index exists
+	private boolean mergeExistingDomainClassIndex() {
+
+		List<String> indexedClassNames = new ArrayList<>();
+		try {
+			FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", DOMAIN_CLASS_INDEX_RESOURCE);
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8))) {
+				reader.lines().map(String::trim).filter(className -> !className.isEmpty()).forEach(indexedClassNames::add);
+			}
+		}
+		catch (IOException | IllegalArgumentException e) {
+			return false; // No index written before
+		}
+
+		for (String className : indexedClassNames) {
+			if (!compiledClassNames.contains(className)) {
+				TypeElement typeElement = processingEnv.getElementUtils().getTypeElement(className);
+				if (typeElement != null && isDomainClass(typeElement)) {
+					domainClassNames.add(className);
+				}
+			}
+		}
+		return true;
+	}
+
+	// Write domain class index resource
+	private void writeDomainClassIndex() {
+
+		try {
+			FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", DOMAIN_CLASS_INDEX_RESOURCE);
+			try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+				for (String domainClassName : domainClassNames) {
+					writer.write(domainClassName);
+					writer.write('\n');
+				}
+			}
+			processingEnv.getMessager().printMessage(Kind.NOTE, "Domain class index written: " + domainClassNames.size() + " domain classes");
+		}
+		catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Domain class index '" + DOMAIN_CLASS_INDEX_RESOURCE + "' cannot be written: " + e.getMessage());
+		}
+	}
+}
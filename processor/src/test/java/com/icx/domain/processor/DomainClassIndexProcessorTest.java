@@ -0,0 +1,96 @@
+package com.icx.domain.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(OrderAnnotation.class)
+class DomainClassIndexProcessorTest {
+
+	// Write source file for class to source directory
+	static File source(Path srcDir, String className, String code) throws IOException {
+
+		Path file = srcDir.resolve(className.replace('.', '/') + ".java");
+		Files.createDirectories(file.getParent());
+		Files.write(file, code.getBytes(StandardCharsets.UTF_8));
+		return file.toFile();
+	}
+
+	// Compile given source files using domain class index processor - output directory is also class path (like on incremental compilation)
+	static void compile(Path outDir, File... sourceFiles) throws IOException {
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		assertNotNull(compiler, "Tests must run on JDK");
+
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+			Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects(sourceFiles);
+			List<String> options = Arrays.asList("-d", outDir.toString(), "-classpath", outDir.toString());
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, compilationUnits);
+			task.setProcessors(Collections.singletonList(new DomainClassIndexProcessor()));
+			assertTrue(task.call(), "Compilation failed");
+		}
+	}
+
+	// Read class names from domain class index
+	static List<String> readIndex(Path outDir) throws IOException {
+
+		Path index = outDir.resolve(DomainClassIndexProcessor.DOMAIN_CLASS_INDEX_RESOURCE);
+		try (Stream<String> lines = Files.lines(index, StandardCharsets.UTF_8)) {
+			return lines.map(String::trim).filter(l -> !l.isEmpty()).collect(Collectors.toList());
+		}
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	@Order(1)
+	void fullAndIncrementalCompilation() throws Exception {
+
+		Path srcDir = Files.createTempDirectory("src");
+		Path outDir = Files.createTempDirectory("out");
+
+		File domainObject = source(srcDir, "com.icx.domain.DomainObject", "package com.icx.domain; public abstract class DomainObject {}");
+		File a = source(srcDir, "p.A", "package p; public abstract class A extends com.icx.domain.DomainObject { public static class Inner extends com.icx.domain.DomainObject {} }");
+		File b = source(srcDir, "p.B", "package p; public class B extends A {}");
+		File other = source(srcDir, "p.Other", "package p; public class Other {}");
+
+		// Full compilation: top level domain classes are indexed - also indirectly derived ones, but not nested classes
+		compile(outDir, domainObject, a, b, other);
+		assertEquals(Arrays.asList("p.A", "p.B"), readIndex(outDir));
+
+		// Incremental compilation of new domain class: existing index is merged
+		File c = source(srcDir, "p.sub.C", "package p.sub; public class C extends p.A {}");
+		compile(outDir, c);
+		assertEquals(Arrays.asList("p.A", "p.B", "p.sub.C"), readIndex(outDir));
+
+		// Incremental compilation of class which is no domain class anymore
+		source(srcDir, "p.B", "package p; public class B {}");
+		compile(outDir, srcDir.resolve("p/B.java").toFile());
+		assertEquals(Arrays.asList("p.A", "p.sub.C"), readIndex(outDir));
+
+		// Indexed class was removed: class is removed from index on next compilation
+		Files.delete(outDir.resolve("p/sub/C.class"));
+		compile(outDir, other);
+		assertEquals(Collections.singletonList("p.A"), readIndex(outDir));
+	}
+}
@@ -18,6 +18,7 @@ ALTER TABLE DOM_A_STRING_ARRAY DROP CONSTRAINT FK_A_STRING_ARRAY#A;
 ALTER TABLE DOM_A DROP CONSTRAINT FK_A#O;
 ALTER TABLE DOM_A_INNER DROP CONSTRAINT FK_A_INNER#A;
 ALTER TABLE DOM_C DROP CONSTRAINT FK_C#C;
+ALTER TABLE DOM_E DROP CONSTRAINT FK_E#D;
 
 DROP TABLE DOM_AB;
 DROP TABLE DOM_SEC_B;
@@ -39,6 +40,10 @@ DROP TABLE DOM_A;
 DROP TABLE DOM_A_INNER;
 DROP TABLE DOM_O;
 DROP TABLE DOM_C;
+DROP TABLE DOM_E;
+DROP TABLE DOM_D;
+DROP TABLE DOM_F;
+DROP TABLE DOM_ID_BLOCK;
 
 CREATE TABLE DOM_C
 (
@@ -50,6 +55,41 @@ CREATE TABLE DOM_C
 );
 CREATE INDEX DOM_IDX_C#LAST_MODIFIED ON DOM_C (LAST_MODIFIED);
 
+CREATE TABLE DOM_D
+(
+	DOMAIN_CLASS				NVARCHAR(64),
+	ID 								BIGINT							PRIMARY KEY,
+	LAST_MODIFIED				DATETIME,
+	NAME								NVARCHAR(512)
+);
+CREATE INDEX DOM_IDX_D#LAST_MODIFIED ON DOM_D (LAST_MODIFIED);
+
+CREATE TABLE DOM_ID_BLOCK
+(
+	NAME								NVARCHAR(64)			NOT NULL PRIMARY KEY,
+	NEXT_HI							BIGINT							NOT NULL
+);
+
+CREATE TABLE DOM_E
+(
+	DOMAIN_CLASS				NVARCHAR(64),
+	ID 								BIGINT							PRIMARY KEY,
+	LAST_MODIFIED				DATETIME,
+	NAME								NVARCHAR(512),
+	D_ID								BIGINT
+);
+CREATE INDEX DOM_IDX_E#LAST_MODIFIED ON DOM_E (LAST_MODIFIED);
+
+CREATE TABLE DOM_F
+(
+	DOMAIN_CLASS				NVARCHAR(64),
+	ID 								BIGINT							PRIMARY KEY,
+	LAST_MODIFIED				DATETIME,
+	NAME								NVARCHAR(512),
+	I  								INTEGER							NOT NULL
+);
+CREATE INDEX DOM_IDX_F#LAST_MODIFIED ON DOM_F (LAST_MODIFIED);
+
 CREATE TABLE DOM_O
 (
 	DOMAIN_CLASS				NVARCHAR(64),
@@ -248,6 +288,7 @@ CREATE TABLE DOM_AB
 
 
 ALTER TABLE DOM_C ADD CONSTRAINT FK_C#C FOREIGN KEY (C_ID) REFERENCES DOM_C(ID);
+ALTER TABLE DOM_E ADD CONSTRAINT FK_E#D FOREIGN KEY (D_ID) REFERENCES DOM_D(ID);
 ALTER TABLE DOM_A_INNER ADD CONSTRAINT FK_A_INNER#A FOREIGN KEY (A_ID) REFERENCES DOM_A(ID);
 ALTER TABLE DOM_A ADD CONSTRAINT FK_A#O FOREIGN KEY (O_ID) REFERENCES DOM_O(ID) ON DELETE CASCADE;
 ALTER TABLE DOM_A_STRING_ARRAY ADD CONSTRAINT FK_A_STRING_ARRAY#A FOREIGN KEY (A_ID) REFERENCES DOM_A(ID);
@@ -0,0 +1,86 @@
+package com.icx.domain;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Change of domain object published to {@link ChangeListener}s.
+ * 
+ * @param <T>
+ *            type of domain objects
+ * 
+ * @author baumgrai
+ */
+public final class ChangeEvent<T extends DomainObject> {
+
+	/**
+	 * Change types.
+	 */
+	public enum Type {
+		/**
+		 * Object was registered in object store (created locally or loaded from database) - for {@code SqlDomainController}: object was initially saved to or loaded from database
+		 */
+		CREATED,
+		/**
+		 * Field values of object were saved to or loaded from database
+		 */
+		CHANGED,
+		/**
+		 * Object was unregistered from object store (deleted locally or in database, fell out of data horizon or was evicted from cache)
+		 */
+		DELETED
+	}
+
+	// Change type
+	private final Type type;
+
+	// Changed object
+	private final T object;
+
+	// Changed fields - empty for CREATED and DELETED
+	private final Set<Field> changedFields;
+
+	ChangeEvent(
+			Type type,
+			T object,
+			Set<Field> changedFields) {
+
+		this.type = type;
+		this.object = object;
+		this.changedFields = Collections.unmodifiableSet(changedFields);
+	}
+
+	/**
+	 * Get change type.
+	 * 
+	 * @return change type
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Get changed object.
+	 * 
+	 * @return changed object
+	 */
+	public T getObject() {
+		return object;
+	}
+
+	/**
+	 * Get fields whose values were saved to or loaded from database.
+	 * 
+	 * @return immutable set of changed fields - empty set for {@link Type#CREATED} and {@link Type#DELETED} events
+	 */
+	public Set<Field> getChangedFields() {
+		return changedFields;
+	}
+
+	@Override
+	public String toString() {
+		return type + " " + object.name() + (changedFields.isEmpty() ? "" : " " + changedFields.stream().map(Field::getName).sorted().collect(Collectors.toList()));
+	}
+}
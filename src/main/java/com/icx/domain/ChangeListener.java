@@ -0,0 +1,26 @@
+package com.icx.domain;
+
+import java.util.List;
+
+/**
+ * Listener for changes of domain objects registered by {@link DomainController#addChangeListener(ChangeListener)} or {@link DomainController#addChangeListener(ChangeListener, java.util.concurrent.Executor)}.
+ * <p>
+ * Listener is called with batches of change events - one batch per save, delete, load or synchronization operation. Implementations should be fast if listener is called synchronously because
+ * listener is called in thread of persistence operation then. Exceptions thrown by listener are logged and ignored.
+ * 
+ * @param <T>
+ *            type of domain objects
+ * 
+ * @author baumgrai
+ */
+@FunctionalInterface
+public interface ChangeListener<T extends DomainObject> {
+
+	/**
+	 * Handle batch of change events.
+	 * 
+	 * @param events
+	 *            immutable list of change events in order of occurrence
+	 */
+	void onChanges(List<ChangeEvent<T>> events);
+}
@@ -0,0 +1,378 @@
+package com.icx.domain;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Memory compact object store using open addressing hash tables with primitive {@code long} keys - no boxed ids and no node objects per stored object. Only used internally.
+ * <p>
+ * Store is divided into segments which are locked for writing. Reads are lock-free (optimistic) and only fall back to a read lock if a concurrent write is detected. Objects are NOT iterated in order
+ * of their ids - use {@link DomainController#sort(java.util.Collection)} where order is needed.
+ *
+ * @param <T>
+ *            type of domain objects
+ *
+ * @author baumgrai
+ */
+class CompactObjectStore<T extends DomainObject> implements ObjectStore<T> {
+
+	static final int SEGMENT_BITS = 4;
+	static final int INITIAL_SEGMENT_CAPACITY = 8; // Must be power of 2
+
+	// Segment: hash table with linear probing - slot is empty if value is null
+	@SuppressWarnings("serial")
+	private static class Segment extends StampedLock {
+
+		long[] keys = new long[INITIAL_SEGMENT_CAPACITY];
+		Object[] values = new Object[INITIAL_SEGMENT_CAPACITY];
+		volatile int size = 0;
+
+		// Find value for key - may be called without lock (optimistic read must be validated afterwards)
+		Object find(long key, int hash) {
+
+			long[] k = keys;
+			Object[] v = values;
+			if (k.length != v.length) {
+				return null; // Concurrent resize
+			}
+
+			int mask = k.length - 1;
+			int i = hash & mask;
+			for (int n = 0; n < k.length; n++) {
+				Object value = v[i];
+				if (value == null) {
+					return null;
+				}
+				else if (k[i] == key) {
+					return value;
+				}
+				i = (i + 1) & mask;
+			}
+			return null;
+		}
+
+		// Insert or replace value for key (write lock must be held) - returns previous value or null
+		Object put(long key, int hash, Object value, boolean onlyIfAbsent) {
+
+			int mask = keys.length - 1;
+			int i = hash & mask;
+			while (values[i] != null) {
+				if (keys[i] == key) {
+					Object previous = values[i];
+					if (!onlyIfAbsent) {
+						values[i] = value;
+					}
+					return previous;
+				}
+				i = (i + 1) & mask;
+			}
+
+			keys[i] = key;
+			values[i] = value;
+			size++;
+			if (size > keys.length / 4 * 3) {
+				resize();
+			}
+			return null;
+		}
+
+		// Double capacity and rehash (write lock must be held)
+		private void resize() {
+
+			long[] newKeys = new long[keys.length * 2];
+			Object[] newValues = new Object[values.length * 2];
+			int mask = newKeys.length - 1;
+			for (int j = 0; j < keys.length; j++) {
+				if (values[j] != null) {
+					int i = hash(keys[j]) & mask;
+					while (newValues[i] != null) {
+						i = (i + 1) & mask;
+					}
+					newKeys[i] = keys[j];
+					newValues[i] = values[j];
+				}
+			}
+			keys = newKeys;
+			values = newValues;
+		}
+
+		// Remove value for key using backward shift deletion to keep probe sequences intact (write lock must be held) - returns removed value or null
+		Object remove(long key, int hash) {
+
+			int mask = keys.length - 1;
+			int i = hash & mask;
+			while (values[i] != null && keys[i] != key) {
+				i = (i + 1) & mask;
+			}
+			Object removed = values[i];
+			if (removed == null) {
+				return null;
+			}
+
+			values[i] = null;
+			size--;
+
+			// Shift following entries of probe sequence back if their home slot is not between gap and their current slot
+			int j = i;
+			while (true) {
+				j = (j + 1) & mask;
+				if (values[j] == null) {
+					break;
+				}
+				int home = hash(keys[j]) & mask;
+				boolean shift = (i <= j ? (home <= i || home > j) : (home <= i && home > j));
+				if (shift) {
+					keys[i] = keys[j];
+					values[i] = values[j];
+					values[j] = null;
+					i = j;
+				}
+			}
+			return removed;
+		}
+
+		// Copy values (read lock must be held)
+		Object[] snapshot() {
+
+			Object[] snapshot = new Object[size];
+			int n = 0;
+			for (Object value : values) {
+				if (value != null && n < snapshot.length) {
+					snapshot[n++] = value;
+				}
+			}
+			return snapshot;
+		}
+	}
+
+	private final Segment[] segments = new Segment[1 << SEGMENT_BITS];
+
+	CompactObjectStore() {
+		for (int s = 0; s < segments.length; s++) {
+			segments[s] = new Segment();
+		}
+	}
+
+	// Spread bits of object id (ids are not uniformly distributed in lower bits)
+	static int hash(long id) {
+
+		long h = id;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		return (int) h;
+	}
+
+	private Segment segmentFor(int hash) {
+		return segments[hash >>> (32 - SEGMENT_BITS)];
+	}
+
+	// Get snapshot of values of segment
+	private Object[] snapshot(int s) {
+
+		Segment segment = segments[s];
+		long stamp = segment.readLock();
+		try {
+			return segment.snapshot();
+		}
+		finally {
+			segment.unlockRead(stamp);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Object store methods
+	// -------------------------------------------------------------------------
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(long id) {
+
+		int hash = hash(id);
+		Segment segment = segmentFor(hash);
+
+		long stamp = segment.tryOptimisticRead();
+		Object value = segment.find(id, hash);
+		if (!segment.validate(stamp)) {
+			stamp = segment.readLock();
+			try {
+				value = segment.find(id, hash);
+			}
+			finally {
+				segment.unlockRead(stamp);
+			}
+		}
+		return (T) value;
+	}
+
+	@Override
+	public boolean containsKey(long id) {
+		return (get(id) != null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private T put(long id, T obj, boolean onlyIfAbsent) {
+
+		int hash = hash(id);
+		Segment segment = segmentFor(hash);
+
+		long stamp = segment.writeLock();
+		try {
+			return (T) segment.put(id, hash, obj, onlyIfAbsent);
+		}
+		finally {
+			segment.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void put(long id, T obj) {
+		put(id, obj, false);
+	}
+
+	@Override
+	public T putIfAbsent(long id, T obj) {
+		return put(id, obj, true);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T remove(long id) {
+
+		int hash = hash(id);
+		Segment segment = segmentFor(hash);
+
+		long stamp = segment.writeLock();
+		try {
+			return (T) segment.remove(id, hash);
+		}
+		finally {
+			segment.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public int size() {
+
+		int size = 0;
+		for (Segment segment : segments) {
+			size += segment.size;
+		}
+		return size;
+	}
+
+	@Override
+	public Collection<T> values() {
+		return values;
+	}
+
+	// -------------------------------------------------------------------------
+	// Values view
+	// -------------------------------------------------------------------------
+
+	// Weakly consistent view - iterates segment by segment using snapshots of segments
+	private final Collection<T> values = new AbstractCollection<T>() {
+
+		@Override
+		public Iterator<T> iterator() {
+			return new Iterator<T>() {
+
+				final ValuesSpliterator spliterator = new ValuesSpliterator(0, segments.length);
+				T next = null;
+
+				@Override
+				public boolean hasNext() {
+					if (next == null) {
+						spliterator.tryAdvance(o -> next = o);
+					}
+					return (next != null);
+				}
+
+				@Override
+				public T next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					T current = next;
+					next = null;
+					return current;
+				}
+			};
+		}
+
+		@Override
+		public Spliterator<T> spliterator() {
+			return new ValuesSpliterator(0, segments.length);
+		}
+
+		@Override
+		public int size() {
+			return CompactObjectStore.this.size();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return CompactObjectStore.this.isEmpty();
+		}
+	};
+
+	// Spliterator over range of segments - splits by segments to allow parallel streaming
+	private class ValuesSpliterator implements Spliterator<T> {
+
+		int segment; // Next segment to take snapshot of
+		final int endSegment;
+		Object[] current = null;
+		int index = 0;
+
+		ValuesSpliterator(
+				int segment,
+				int endSegment) {
+
+			this.segment = segment;
+			this.endSegment = endSegment;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean tryAdvance(Consumer<? super T> action) {
+
+			while (current == null || index >= current.length) {
+				if (segment >= endSegment) {
+					return false;
+				}
+				current = snapshot(segment++);
+				index = 0;
+			}
+			action.accept((T) current[index++]);
+			return true;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+
+			int remaining = endSegment - segment;
+			if (remaining < 2) {
+				return null;
+			}
+			int mid = segment + remaining / 2;
+			ValuesSpliterator prefix = new ValuesSpliterator(segment, mid);
+			segment = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return (long) size() * (endSegment - segment) / segments.length + (current != null ? current.length - index : 0);
+		}
+
+		@Override
+		public int characteristics() {
+			return (Spliterator.NONNULL | Spliterator.DISTINCT | Spliterator.CONCURRENT);
+		}
+	}
+}
@@ -3,10 +3,13 @@ package com.icx.domain;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Date;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -17,17 +20,23 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.icx.common.CRandom;
 import com.icx.common.CReflection;
 import com.icx.common.Common;
 import com.icx.domain.sql.Annotations.Accumulation;
@@ -77,9 +86,63 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 		this.registry = registry;
 	}
 
-	// Object store - map of maps of objects by object id by domain class
+	// Object store - map of maps of objects by object id by domain class - private because type of object store is internal (use find(), all(), view() etc. to access registered objects)
 	// Note: Objects of domain classes which are derived from other domain classes have multiple entries - one entry per (derived) domain class - here
-	protected Map<Class<? extends T>, SortedMap<Long, T>> objectMap = new ConcurrentHashMap<>();
+	private Map<Class<? extends T>, ObjectStore<T>> objectMap = new ConcurrentHashMap<>();
+
+	// Use memory compact (but unordered) object store instead of default object store sorted by object id
+	private boolean useCompactObjectStore = false;
+
+	/**
+	 * Use memory compact object store based on open addressing hash tables with primitive object ids instead of default object store (skip lists with boxed object ids).
+	 * <p>
+	 * Reduces memory overhead of object store for large numbers of objects. Objects of a domain class are not retrieved in order of their ids then - use {@link #sort(Collection)} where order is
+	 * needed. Must be called before registering domain classes. Can be set in {@code domain.properties} by {@code compactObjectStore=true} for {@link SqlDomainController}.
+	 * 
+	 * @param useCompactObjectStore
+	 *            true to use compact object store
+	 */
+	public void setCompactObjectStore(boolean useCompactObjectStore) {
+		this.useCompactObjectStore = useCompactObjectStore;
+	}
+
+	// Create object store for one domain class
+	private ObjectStore<T> createObjectStore() {
+		return (useCompactObjectStore ? new CompactObjectStore<>() : new SortedObjectStore<>());
+	}
+
+	// In-memory indexes for fields annotated with @Indexed by indexed field
+	private Map<Field, FieldIndex<T>> indexMap = new ConcurrentHashMap<>();
+
+	// Parent/child index - children by reference field by referenced (parent) object - for all reference fields
+	// Note: Index is updated incrementally per object - on object registration, saving and loading and on reference changes reported by #updateChildrenIndex(DomainObject) - so unlike accumulations it
+	// may also reflect unsaved reference changes
+	private Map<DomainObject, Map<Field, Set<T>>> childrenIndexMap = new ConcurrentHashMap<>();
+
+	// Fork/join pool for parallel queries (common pool if not set)
+	private ForkJoinPool parallelQueryPool = null;
+
+	/**
+	 * Set fork/join pool to use for parallel queries ({@link #parallelFindAll(Class, Predicate)}, {@link #parallelCount(Class, Predicate)}, {@link #parallelGroupBy(Class, Function)}).
+	 * <p>
+	 * If no pool is set common fork/join pool is used.
+	 * 
+	 * @param parallelQueryPool
+	 *            fork/join pool or null to use common pool
+	 */
+	public void setParallelQueryPool(ForkJoinPool parallelQueryPool) {
+		this.parallelQueryPool = parallelQueryPool;
+	}
+
+	// Write phases - phases where domain controller changes object store or field values of registered objects - used to capture consistent snapshots
+	private final AtomicInteger activeWritePhases = new AtomicInteger();
+	private final AtomicLong writePhaseSequence = new AtomicLong();
+
+	// Change listeners with executor for asynchronous dispatch (null for synchronous dispatch)
+	private final Map<ChangeListener<T>, Optional<Executor>> changeListenerMap = new ConcurrentHashMap<>();
+
+	// Change events of current change batch of thread
+	private final ThreadLocal<ChangeBatch<T>> changeBatch = new ThreadLocal<>();
 
 	// -------------------------------------------------------------------------
 	// Register domain classes
@@ -104,7 +167,8 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	public void registerDomainClasses(Class<T> baseClass, String domainPackageName) throws DomainException {
 
 		registry.registerDomainClasses(baseClass, domainPackageName);
-		registry.getRegisteredDomainClasses().forEach(c -> objectMap.put(c, new ConcurrentSkipListMap<>()));
+		registry.getRegisteredDomainClasses().forEach(c -> objectMap.put(c, createObjectStore()));
+		createIndexes();
 	}
 
 	/**
@@ -125,7 +189,17 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	public final void registerDomainClasses(Class<T> baseClass, Class<? extends T>... domainClasses) throws DomainException {
 
 		registry.registerDomainClasses(baseClass, domainClasses);
-		registry.getRegisteredDomainClasses().forEach(c -> objectMap.put(c, new ConcurrentSkipListMap<>()));
+		registry.getRegisteredDomainClasses().forEach(c -> objectMap.put(c, createObjectStore()));
+		createIndexes();
+	}
+
+	// Create (empty) in-memory indexes for indexed fields of registered domain classes
+	private void createIndexes() {
+
+		indexMap.clear();
+		for (Class<? extends T> domainClass : registry.getRegisteredDomainClasses()) {
+			registry.getIndexedFields(domainClass).forEach(f -> indexMap.put(f, new FieldIndex<>(registry.getAccessor(f), Registry.isSortedIndex(f))));
+		}
 	}
 
 	/**
@@ -139,45 +213,50 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	// Get registered domain class by it's name
 	public final Class<? extends T> getDomainClassByName(String className) {
 
-		Optional<Class<? extends T>> o = registry.getRegisteredDomainClasses().stream().filter(c -> c.getSimpleName().equals(className)).findFirst();
-		if (o.isPresent()) {
-			return o.get();
-		}
-		else {
+		Class<? extends T> domainClass = registry.getRegisteredDomainClassBySimpleName(className);
+		if (domainClass == null) {
 			log.error("Class '{}' of missing object is not registered as domain class", className);
 		}
-		return null;
+		return domainClass;
 	}
 
 	// -------------------------------------------------------------------------
 	// Create domain objects
 	// -------------------------------------------------------------------------
 
-	static AtomicInteger counterWithinMilliseconds = new AtomicInteger(0);
-	static long last = new Date().getTime();
+	// Id generator - lock-free time based generator by default
+	private IdGenerator idGenerator = new TimeBasedIdGenerator();
 
-	// Use milliseconds, atomic int and random value for unique identifier
-	private static synchronized long generateUniqueIdStatic() {
-
-		long now = new Date().getTime();
-		if (now > last) {
-			last = now;
-			counterWithinMilliseconds = new AtomicInteger(CRandom.randomInt(100) * 100);
-		}
+	/**
+	 * Set strategy to generate ids of new objects.
+	 * <p>
+	 * Should be called before any object is created.
+	 * 
+	 * @param idGenerator
+	 *            id generator
+	 */
+	public void setIdGenerator(IdGenerator idGenerator) {
+		this.idGenerator = idGenerator;
+	}
 
-		return now * 1000000 + (counterWithinMilliseconds.getAndIncrement() % 1000) * 1000 + CRandom.randomInt(1000);
+	/**
+	 * Get strategy to generate ids of new objects.
+	 * 
+	 * @return id generator
+	 */
+	public IdGenerator getIdGenerator() {
+		return idGenerator;
 	}
 
 	/**
 	 * Only for internal use but may be overridden: Generate unique object id.
 	 * <p>
-	 * Id scheme: {@code Date().getTime()} * 1.000.000 + (atomic counter % 1000 starting randomly with 100, 200, ..., 900) * 1000 + random integer % 1000
+	 * Delegates to id generator - {@link TimeBasedIdGenerator} by default.
 	 * 
 	 * @return unique id
 	 */
-	@SuppressWarnings("static-method")
-	protected synchronized long generateUniqueId() {
-		return generateUniqueIdStatic();
+	protected long generateUniqueId() {
+		return idGenerator.nextId();
 	}
 
 	/**
@@ -245,27 +324,111 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	// Accumulations
 	// -------------------------------------------------------------------------
 
+	// Add child to parent/child index
+	private void addToChildrenIndex(DomainObject parentObj, Field refField, T obj) {
+
+		childrenIndexMap.compute(parentObj, (p, childrenByRefFieldMap) -> {
+			if (childrenByRefFieldMap == null) {
+				childrenByRefFieldMap = new ConcurrentHashMap<>();
+			}
+			childrenByRefFieldMap.computeIfAbsent(refField, f -> ConcurrentHashMap.newKeySet()).add(obj);
+			return childrenByRefFieldMap;
+		});
+	}
+
+	// Remove child from parent/child index - remove parent entry if parent is not referenced anymore
+	private void removeFromChildrenIndex(DomainObject parentObj, Field refField, T obj) {
+
+		childrenIndexMap.computeIfPresent(parentObj, (p, childrenByRefFieldMap) -> {
+			childrenByRefFieldMap.computeIfPresent(refField, (f, children) -> {
+				children.remove(obj);
+				return (children.isEmpty() ? null : children);
+			});
+			return (childrenByRefFieldMap.isEmpty() ? null : childrenByRefFieldMap);
+		});
+	}
+
+	/**
+	 * Update parent/child index to reflect reference changes of given object which are not saved yet.
+	 * <p>
+	 * Parent/child index (used on checking if objects are referenced and on recursive deletion) is updated automatically on registering, saving and loading objects. Call this method after changing
+	 * references of an object without saving it if this change shall be considered by deletion of referenced objects. {@link com.icx.domain.sql.SqlDomainObject#setAndMarkDirty(String, Object)} and
+	 * {@link com.icx.domain.sql.SqlDomainObject#markDirty(String)} call this method for reference fields.
+	 * 
+	 * @param obj
+	 *            object whose references were changed
+	 */
+	public void updateChildrenIndex(T obj) {
+
+		DomainObject[] indexedRefs = obj.indexedRefs;
+		if (indexedRefs == null || !isRegistered(obj)) { // Avoid indexing unregistered objects again
+			return;
+		}
+
+		List<FieldAccessor> refAccessors = registry.getAllReferenceAccessors(registry.getCastedDomainClass(obj));
+		for (int ordinal = 0; ordinal < indexedRefs.length; ordinal++) {
+			Field refField = refAccessors.get(ordinal).field;
+			DomainObject newReferencedObj = (DomainObject) obj.getFieldValue(refAccessors.get(ordinal));
+			DomainObject oldReferencedObj = indexedRefs[ordinal];
+
+			if (newReferencedObj != oldReferencedObj) {
+				indexedRefs[ordinal] = newReferencedObj;
+
+				if (oldReferencedObj != null) {
+					removeFromChildrenIndex(oldReferencedObj, refField, obj);
+				}
+				if (newReferencedObj != null) {
+					addToChildrenIndex(newReferencedObj, refField, obj);
+				}
+			}
+		}
+	}
+
+	// Remove object from parent/child index - as child and as parent
+	private void removeFromChildrenIndex(T obj) {
+
+		DomainObject[] indexedRefs = obj.indexedRefs;
+		if (indexedRefs != null) {
+			List<Field> refFields = registry.getAllReferenceFields(registry.getCastedDomainClass(obj));
+			for (int ordinal = 0; ordinal < indexedRefs.length; ordinal++) {
+				if (indexedRefs[ordinal] != null) {
+					removeFromChildrenIndex(indexedRefs[ordinal], refFields.get(ordinal), obj);
+					indexedRefs[ordinal] = null;
+				}
+			}
+		}
+		childrenIndexMap.remove(obj);
+	}
+
 	/**
 	 * Only for internal use!
 	 * 
 	 * @param obj
 	 *            child object
 	 */
-	// Update accumulations (if exist) of parent objects reflecting any reference change of this object
+	// Update accumulations (if exist) of parent objects and parent/child index reflecting any reference change of this object
 	public void updateAccumulationsOfParentObjects(T obj) {
 
-		if (obj.refForAccuShadowMap == null) {
+		updateChildrenIndex(obj);
+
+		DomainObject[] refShadow = obj.refShadow;
+		if (refShadow == null) {
 			return;
 		}
 
-		for (Entry<Field, DomainObject> entry : obj.refForAccuShadowMap.entrySet()) {
-			Field refField = entry.getKey();
-			DomainObject newReferencedObj = (DomainObject) obj.getFieldValue(refField);
-			DomainObject oldReferencedObj = entry.getValue();
+		List<FieldAccessor> refAccessors = registry.getAllReferenceAccessors(registry.getCastedDomainClass(obj));
+		for (int ordinal = 0; ordinal < refShadow.length; ordinal++) {
+			Field refField = refAccessors.get(ordinal).field;
+			DomainObject newReferencedObj = (DomainObject) obj.getFieldValue(refAccessors.get(ordinal));
+			DomainObject oldReferencedObj = refShadow[ordinal];
+
+			if (newReferencedObj != oldReferencedObj) {
+				refShadow[ordinal] = newReferencedObj;
 
-			if (!objectsEqual(newReferencedObj, oldReferencedObj)) {
-				obj.refForAccuShadowMap.put(refField, newReferencedObj);
 				Field accuField = registry.getAccumulationFieldForReferenceField(refField);
+				if (accuField == null) {
+					continue;
+				}
 
 				if (oldReferencedObj != null && !oldReferencedObj.getAccumulationSet(accuField).remove(obj)) {
 					log.warn("DOB: Could not remove {} from accumulation {} of {} (was not contained in accumulation)", obj.name(), CReflection.qualifiedName(accuField),
@@ -286,21 +449,25 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	 * @param obj
 	 *            child object
 	 */
-	// Remove object from accumulations (if exist) of parent object
+	// Remove object from accumulations (if exist) of parent object and from parent/child index
 	protected void removeFromAccumulationsOfParentObjects(T obj) {
 
-		if (obj.refForAccuShadowMap == null) {
+		removeFromChildrenIndex(obj);
+
+		DomainObject[] refShadow = obj.refShadow;
+		if (refShadow == null) {
 			return;
 		}
 
-		for (Entry<Field, DomainObject> entry : obj.refForAccuShadowMap.entrySet()) {
-			Field refField = entry.getKey();
-			DomainObject referencedObj = entry.getValue();
-			obj.refForAccuShadowMap.put(refField, null);
+		List<Field> refFields = registry.getAllReferenceFields(registry.getCastedDomainClass(obj));
+		for (int ordinal = 0; ordinal < refShadow.length; ordinal++) {
+			DomainObject referencedObj = refShadow[ordinal];
+			refShadow[ordinal] = null;
 
 			if (referencedObj != null) {
+				Field refField = refFields.get(ordinal);
 				Field accuField = registry.getAccumulationFieldForReferenceField(refField);
-				if (!referencedObj.getAccumulationSet(accuField).remove(obj)) {
+				if (accuField != null && !referencedObj.getAccumulationSet(accuField).remove(obj)) {
 					log.warn("DOB: Could not remove {} from accumulation {} of {} (was not contained in accumulation)", obj.name(), CReflection.qualifiedName(accuField),
 							DomainObject.name(referencedObj));
 				}
@@ -308,26 +475,76 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 		}
 	}
 
+	// -------------------------------------------------------------------------
+	// Indexes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Update in-memory indexes of indexed fields (fields annotated with {@link com.icx.domain.sql.Annotations.Indexed}) for given object.
+	 * <p>
+	 * Indexes are updated automatically on registering, saving and loading objects. Call this method if indexes shall reflect unsaved field changes.
+	 * 
+	 * @param obj
+	 *            object
+	 */
+	public void updateIndexes(T obj) {
+
+		if (indexMap.isEmpty()) {
+			return;
+		}
+
+		for (Class<? extends T> domainClass : registry.getDomainClassesFor(registry.getCastedDomainClass(obj))) {
+			for (Field indexedField : registry.getIndexedFields(domainClass)) {
+				indexMap.get(indexedField).update(obj);
+			}
+		}
+	}
+
+	// Remove object from in-memory indexes
+	private void removeFromIndexes(T obj) {
+
+		if (indexMap.isEmpty()) {
+			return;
+		}
+
+		for (Class<? extends T> domainClass : registry.getDomainClassesFor(registry.getCastedDomainClass(obj))) {
+			for (Field indexedField : registry.getIndexedFields(domainClass)) {
+				indexMap.get(indexedField).remove(obj);
+			}
+		}
+	}
+
 	// -------------------------------------------------------------------------
 	// Initialize and register domain objects
 	// -------------------------------------------------------------------------
 
-	// Initialize reference shadow map with null values for any reference field and initialize accumulation and complex fields with empty collections or maps if they are not already initialized
+	// Initialize reference shadows for reference fields and initialize accumulation and complex fields with empty collections or maps if they are not already initialized
 	private void initializeFields(T obj) {
 
+		// Initialize reference shadows (one per reference field of object domain class and inherited domain classes) - to allow subsequent checking if references were changed and updating
+		// accumulations and parent/child index
+		int refFieldCount = registry.getAllReferenceFields(registry.getCastedDomainClass(obj)).size();
+		obj.refShadow = (refFieldCount > 0 ? new DomainObject[refFieldCount] : null);
+		obj.indexedRefs = (refFieldCount > 0 ? new DomainObject[refFieldCount] : null);
+
 		// Initialize domain object for all domain classes
 		for (Class<? extends T> domainClass : registry.getDomainClassesFor(registry.getCastedDomainClass(obj))) {
 
-			// Initialize reference shadow map for reference fields where accumulations of parent objects are associated to
-			// - to allow subsequent checking if references were changed and updating accumulations
-			registry.getReferenceFields(domainClass).stream().filter(f -> registry.getAccumulationFieldForReferenceField(f) != null).forEach(f -> obj.refForAccuShadowMap.put(f, null));
-
 			// Initialize registered collection/map fields if not already done
-			registry.getComplexFields(domainClass).stream().filter(f -> obj.getFieldValue(f) == null)
-					.forEach(f -> obj.setFieldValue(f, f.getType().isArray() ? Array.newInstance(f.getType().getComponentType(), 0) : CReflection.newComplexObject(f.getType())));
+			for (FieldAccessor accessor : registry.getComplexAccessors(domainClass)) {
+				if (accessor.get(obj) == null) {
+					Class<?> type = accessor.field.getType();
+					accessor.set(obj, type.isArray() ? Array.newInstance(type.getComponentType(), 0) : CReflection.newComplexObject(type));
+				}
+			}
 
 			// Initialize own accumulation fields
-			registry.getAccumulationFields(domainClass).stream().filter(f -> obj.getFieldValue(f) == null).forEach(f -> obj.setFieldValue(f, ConcurrentHashMap.newKeySet()));
+			for (Field accuField : registry.getAccumulationFields(domainClass)) {
+				FieldAccessor accessor = registry.getAccessor(accuField);
+				if (accessor.get(obj) == null) {
+					accessor.set(obj, ConcurrentHashMap.newKeySet());
+				}
+			}
 		}
 	}
 
@@ -341,27 +558,52 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	 * 
 	 * @return true if object could be registered, false otherwise
 	 */
-	// Register domain object by given id for object domain class and all inherited domain classes
-	public final synchronized boolean registerById(T obj, long id) {
+	// Register domain object by given id for object domain class and all inherited domain classes - lock-free: object domain class entry is claimed atomically, so only one of concurrent
+	// registrations with same id succeeds
+	public final boolean registerById(T obj, long id) {
 
 		Class<? extends T> objectDomainClass = registry.getCastedDomainClass(obj);
-		if (objectMap.get(objectDomainClass).containsKey(id)) {
-			if (log.isDebugEnabled()) {
-				log.info("DC: {}@{} is an already registered object", objectDomainClass, id);
+
+		beginWritePhase();
+		try {
+			// Set id and domain controller before object is visible in object store - restore them if another object is already registered with this id
+			long oldId = obj.getId();
+			DomainController<? extends DomainObject> oldDc = obj.getDc();
+			obj.setDc(this);
+			obj.setId(id);
+			if (objectMap.get(objectDomainClass).putIfAbsent(id, obj) != null) {
+				obj.setId(oldId);
+				obj.setDc(oldDc);
+				if (log.isDebugEnabled()) {
+					log.info("DC: {}@{} is an already registered object", objectDomainClass, id);
+				}
+				return false;
 			}
-			return false;
-		}
 
-		obj.setDc(this);
-		obj.setId(id);
-		registry.getDomainClassesFor(objectDomainClass).forEach(c -> objectMap.get(c).put(id, obj));
-		updateAccumulationsOfParentObjects(obj);
+			registry.getDomainClassesFor(objectDomainClass).stream().filter(c -> c != objectDomainClass).forEach(c -> objectMap.get(c).put(id, obj));
+			updateAccumulationsOfParentObjects(obj);
+			updateIndexes(obj);
+		}
+		finally {
+			endWritePhase();
+		}
+		registered(obj);
 		if (log.isTraceEnabled()) {
 			log.trace("DC: Registered: {}", obj.name());
 		}
 		return true;
 	}
 
+	/**
+	 * Only for internal use but may be overridden: Called after registering object in object store - publishes {@link ChangeEvent.Type#CREATED} change event.
+	 * 
+	 * @param obj
+	 *            registered object
+	 */
+	protected void registered(T obj) {
+		publishChange(ChangeEvent.Type.CREATED, obj, Collections.emptySet());
+	}
+
 	/**
 	 * Only for internal use!
 	 * 
@@ -371,8 +613,16 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	// Unregister domain object and remove it from all accumulations
 	protected void unregister(T obj) {
 
-		removeFromAccumulationsOfParentObjects(obj);
-		registry.getDomainClassesFor(registry.getCastedDomainClass(obj)).forEach(c -> objectMap.get(c).remove(obj.getId()));
+		beginWritePhase();
+		try {
+			removeFromAccumulationsOfParentObjects(obj);
+			removeFromIndexes(obj);
+			registry.getDomainClassesFor(registry.getCastedDomainClass(obj)).forEach(c -> objectMap.get(c).remove(obj.getId()));
+		}
+		finally {
+			endWritePhase();
+		}
+		publishChange(ChangeEvent.Type.DELETED, obj, Collections.emptySet());
 		if (log.isDebugEnabled()) {
 			log.debug("DC: Unregistered: {}", obj.name());
 		}
@@ -397,6 +647,29 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 		return obj;
 	}
 
+	/**
+	 * Register multiple objects in object store reserving ids for all objects in one step.
+	 * <p>
+	 * To call if constructor is used to create many domain objects at once (bulk creation).
+	 * 
+	 * @param <S>
+	 *            object domain class
+	 * @param objects
+	 *            objects to register in object store
+	 * 
+	 * @return these objects
+	 */
+	public <S extends T> Collection<S> registerAll(Collection<S> objects) {
+
+		long[] ids = idGenerator.reserveIds(objects.size());
+		int i = 0;
+		for (S obj : objects) {
+			initializeFields(obj);
+			registerById(obj, ids[i++]);
+		}
+		return objects;
+	}
+
 	/**
 	 * Check if an object of given domain class with given id is already registered.
 	 * 
@@ -433,15 +706,16 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	 * 
 	 * @return children
 	 */
-	// Get objects which references this object ordered by reference field
+	// Get objects which references this object ordered by reference field - uses parent/child index (reflects unsaved reference changes only if they were reported by #updateChildrenIndex(DomainObject))
 	protected Map<Field, Set<T>> getDirectChildrenByRefField(T obj) {
 
 		Map<Field, Set<T>> childrenByRefFieldMap = new HashMap<>();
-		for (Field refField : registry.getAllReferencingFields(registry.getCastedDomainClass(obj))) { // For fields of all domain classes referencing any of object's domain classes (inheritance)
-			Class<T> referencingClass = registry.getCastedDeclaringDomainClass(refField);
-
-			for (T child : findAll(referencingClass, ch -> objectsEqual(ch.getFieldValue(refField), obj))) {
-				childrenByRefFieldMap.computeIfAbsent(refField, f -> new HashSet<>()).add(child);
+		Map<Field, Set<T>> indexedChildrenByRefFieldMap = childrenIndexMap.get(obj);
+		if (indexedChildrenByRefFieldMap != null) {
+			for (Entry<Field, Set<T>> entry : indexedChildrenByRefFieldMap.entrySet()) {
+				if (!entry.getValue().isEmpty()) {
+					childrenByRefFieldMap.put(entry.getKey(), new HashSet<>(entry.getValue())); // Copy children to allow changing references or unregistering children while iterating
+				}
 			}
 		}
 		return childrenByRefFieldMap;
@@ -475,7 +749,9 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	 */
 	// Check if object is referenced by any registered object
 	protected boolean isReferenced(T obj) {
-		return (!getDirectChildren(obj).isEmpty());
+
+		Map<Field, Set<T>> indexedChildrenByRefFieldMap = childrenIndexMap.get(obj);
+		return (indexedChildrenByRefFieldMap != null && indexedChildrenByRefFieldMap.values().stream().anyMatch(children -> !children.isEmpty()));
 	}
 
 	// -------------------------------------------------------------------------
@@ -517,6 +793,51 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	// Access domain objects
 	// -------------------------------------------------------------------------
 
+	/**
+	 * Only for internal use but may be overridden: Called on accessing object by id using {@link #find(Class, long)} or {@link #get(Class, long)}.
+	 * 
+	 * @param obj
+	 *            accessed object
+	 */
+	protected void accessed(T obj) {
+		// Nothing to do here - used by cache mode of SQL domain controller
+	}
+
+	/**
+	 * Only for internal use but may be overridden: Called by {@link #find(Class, long)} or {@link #get(Class, long)} if object is not registered to provide object from another source (e.g.
+	 * persistence database).
+	 * 
+	 * @param <S>
+	 *            specific domain class type
+	 * @param domainClass
+	 *            domain class
+	 * @param objectId
+	 *            object id
+	 * 
+	 * @return object or null if object does not exist
+	 */
+	protected <S extends T> S faultIn(Class<S> domainClass, long objectId) {
+		return null;
+	}
+
+	/**
+	 * Only for internal use!
+	 * 
+	 * @param <S>
+	 *            specific domain class type
+	 * @param domainClass
+	 *            domain class - may be an object domain class or a - non instantiable - base class of an object domain class (RaceBike or Bike)
+	 * @param objectId
+	 *            object id
+	 * 
+	 * @return registered object or null
+	 */
+	// Find registered object by id - do not try to provide object if it is not registered and do not track access
+	@SuppressWarnings("unchecked")
+	public final <S extends T> S findRegistered(Class<S> domainClass, long objectId) {
+		return (S) objectMap.get(domainClass).get(objectId);
+	}
+
 	/**
 	 * Find object by id, return null if not found.
 	 * 
@@ -529,9 +850,14 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	 * 
 	 * @return object found or null
 	 */
-	@SuppressWarnings("unchecked")
 	public final <S extends T> S find(Class<S> domainClass, long objectId) {
-		return (S) objectMap.get(domainClass).get(objectId);
+
+		S obj = findRegistered(domainClass, objectId);
+		if (obj != null) {
+			accessed(obj);
+			return obj;
+		}
+		return faultIn(domainClass, objectId);
 	}
 
 	/**
@@ -591,6 +917,51 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 		return objects;
 	}
 
+	/**
+	 * Get unmodifiable live view of all registered objects of a specific domain class.
+	 * <p>
+	 * In contrast to {@link #all(Class)} objects are not copied. View reflects registering and unregistering objects while iterating (weakly consistent iteration).
+	 *
+	 * @param <S>
+	 *            specific domain class type
+	 * @param domainClass
+	 *            domain class - may be an object domain class or a - non instantiable - base class of an object domain class (RaceBike or Bike)
+	 *
+	 * @return unmodifiable view of registered objects of given domain class
+	 */
+	@SuppressWarnings("unchecked")
+	public final <S extends T> Collection<S> view(Class<S> domainClass) {
+		return Collections.unmodifiableCollection((Collection<S>) objectMap.get(domainClass).values());
+	}
+
+	/**
+	 * Stream all registered objects of a specific domain class without copying them.
+	 *
+	 * @param <S>
+	 *            specific domain class type
+	 * @param domainClass
+	 *            domain class - may be an object domain class or a - non instantiable - base class of an object domain class (RaceBike or Bike)
+	 *
+	 * @return stream of registered objects of given domain class
+	 */
+	public final <S extends T> Stream<S> stream(Class<S> domainClass) {
+		return view(domainClass).stream();
+	}
+
+	/**
+	 * Perform given action for all registered objects of a specific domain class without copying them.
+	 *
+	 * @param <S>
+	 *            specific domain class type
+	 * @param domainClass
+	 *            domain class - may be an object domain class or a - non instantiable - base class of an object domain class (RaceBike or Bike)
+	 * @param action
+	 *            action to perform for each object
+	 */
+	public final <S extends T> void forEach(Class<S> domainClass, Consumer<? super S> action) {
+		view(domainClass).forEach(action);
+	}
+
 	/**
 	 * Check if any object is registered for given domain class.
 	 *
@@ -618,7 +989,13 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	 * @return true if such object exists, false otherwise
 	 */
 	public final <S extends T> boolean hasAny(Class<S> domainClass, Predicate<S> predicate) {
-		return all(domainClass).stream().anyMatch(predicate);
+
+		if (predicate != null) {
+			return stream(domainClass).anyMatch(predicate);
+		}
+		else {
+			return hasAny(domainClass);
+		}
 	}
 
 	/**
@@ -636,10 +1013,10 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	public final <S extends T> S findAny(Class<S> domainClass, Predicate<S> predicate) {
 
 		if (predicate != null) {
-			return all(domainClass).stream().filter(predicate).findAny().orElse(null);
+			return stream(domainClass).filter(predicate).findAny().orElse(null);
 		}
 		else {
-			return all(domainClass).stream().findAny().orElse(null);
+			return stream(domainClass).findAny().orElse(null);
 		}
 	}
 
@@ -660,10 +1037,10 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	public final <S extends T> Set<S> findAll(Class<S> domainClass, Predicate<S> predicate) {
 
 		if (predicate != null) {
-			return all(domainClass).stream().filter(predicate).collect(Collectors.toSet());
+			return stream(domainClass).filter(predicate).collect(Collectors.toSet());
 		}
 		else {
-			return all(domainClass).stream().collect(Collectors.toSet());
+			return all(domainClass);
 		}
 	}
 
@@ -681,10 +1058,10 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	 */
 	public final <S extends T> long count(Class<S> domainClass, Predicate<S> predicate) {
 		if (predicate != null) {
-			return all(domainClass).stream().filter(predicate).count();
+			return stream(domainClass).filter(predicate).count();
 		}
 		else {
-			return all(domainClass).stream().count();
+			return objectMap.get(domainClass).size();
 		}
 	}
 
@@ -701,65 +1078,648 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 
 		Set<T> all = new HashSet<>();
 		for (Class<? extends T> objectDomainClass : registry.getRegisteredObjectDomainClasses()) {
-			all.addAll(findAll((Class<T>) objectDomainClass, predicate));
+			if (predicate != null) {
+				stream((Class<T>) objectDomainClass).filter(predicate).forEach(all::add);
+			}
+			else {
+				all.addAll(view(objectDomainClass));
+			}
 		}
 		return all;
 	}
 
+	// Get index for field of given name, log error if field does not exist for domain class - returns null if field is not indexed
+	private <S extends T> Field getFieldForIndexLookup(Class<S> domainClass, String fieldName) {
+
+		Field field = registry.getFieldByName(domainClass, fieldName);
+		if (field == null) {
+			log.error("DC: Field '{}' is not a registered field of domain class '{}' or any of its base classes", fieldName, domainClass.getSimpleName());
+		}
+		else if (!indexMap.containsKey(field)) {
+			log.warn("DC: Field '{}' is not indexed (annotation @Indexed missing) - search all objects of domain class '{}'", CReflection.qualifiedName(field), domainClass.getSimpleName());
+		}
+		return field;
+	}
+
 	/**
-	 * Build sorted list from collection of domain objects of a specific domain class.
+	 * Retrieve all registered domain objects of a specific domain class where given field has given value using in-memory index of field.
 	 * <p>
-	 * Sort by id or according to overridden {@code compareTo()} method.
+	 * Field must be annotated with {@link com.icx.domain.sql.Annotations.Indexed} for lookup by index - otherwise all objects of domain class are searched. Given value must have (boxed) field type.
+	 * <p>
+	 * Returns new set containing objects instead of existing collection which is part of index.
 	 * 
 	 * @param <S>
 	 *            specific domain class type
-	 * @param objectCollection
-	 *            collection of domain objects
+	 * @param domainClass
+	 *            domain class - may be an object domain class or a - non instantiable - base class of an object domain class (RaceBike or Bike)
+	 * @param fieldName
+	 *            name of data or reference field of domain class or of one of its base classes
+	 * @param value
+	 *            field value to look for
 	 * 
-	 * @return sorted list of domain objects
+	 * @return registered domain objects with given field value
 	 */
-	public final <S extends T> List<S> sort(Collection<S> objectCollection) {
-		List<S> objects = new ArrayList<>(objectCollection);
-		Collections.sort(objects);
+	@SuppressWarnings("unchecked")
+	public final <S extends T> Set<S> findByIndex(Class<S> domainClass, String fieldName, Object value) {
+
+		Field field = getFieldForIndexLookup(domainClass, fieldName);
+		if (field == null) {
+			return new HashSet<>();
+		}
+
+		FieldIndex<T> index = indexMap.get(field);
+		if (index == null || value == null) { // null values are not indexed
+			return findAll(domainClass, o -> objectsEqual(o.getFieldValue(field), value));
+		}
+
+		Set<S> objects = new HashSet<>();
+		Set<T> indexedObjects = index.get(value);
+		if (indexedObjects != null) {
+			indexedObjects.stream().filter(domainClass::isInstance).forEach(o -> objects.add((S) o));
+		}
 		return objects;
 	}
 
-	// -------------------------------------------------------------------------
-	// Accumulations
-	// -------------------------------------------------------------------------
-
 	/**
-	 * Group (accumulated) elements by given classifier.
+	 * Retrieve all registered domain objects of a specific domain class where value of given field is within given range using sorted in-memory index of field.
 	 * <p>
-	 * Example: {@code Map<Manufacturer, List<Bike>> bikeByManufacturerMap = DomainController.groupBy(bikes, c -> c.manufacturer)}
+	 * Field must be annotated with {@code @Indexed(sorted = true)} for lookup by index - otherwise all objects of domain class are searched. Bounds are inclusive and must have (boxed) field type.
+	 * Objects where field value is {@code null} are never found.
 	 * 
-	 * @param <S1>
-	 *            type of classifier objects
-	 * @param <S2>
-	 *            domain class type of (child) objects to group
-	 * @param accumulation
-	 *            set of (child) objects to group; typically an 'accumulation' - a managed set of children defined using {@link Accumulation} annotation
-	 * @param classifier
-	 *            classifier for elements of accumulation - e.g.: a reference to another domain object, a property, a property of a referenced domain object
+	 * @param <S>
+	 *            specific domain class type
+	 * @param domainClass
+	 *            domain class - may be an object domain class or a - non instantiable - base class of an object domain class (RaceBike or Bike)
+	 * @param fieldName
+	 *            name of data or reference field of domain class or of one of its base classes
+	 * @param from
+	 *            lower bound or null for no lower bound
+	 * @param to
+	 *            upper bound or null for no upper bound
 	 * 
-	 * @return map with (accumulated) objects grouped by classifier
+	 * @return registered domain objects where field value is within given range
 	 */
-	public <S1, S2 extends T> SortedMap<S1, Set<S2>> groupBy(Set<S2> accumulation, Function<S2, S1> classifier) {
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public final <S extends T> Set<S> findByIndexRange(Class<S> domainClass, String fieldName, Object from, Object to) {
+
+		Field field = getFieldForIndexLookup(domainClass, fieldName);
+		if (field == null) {
+			return new HashSet<>();
+		}
+
+		FieldIndex<T> index = indexMap.get(field);
+		if (index == null || !index.isSorted) {
+			if (index != null) {
+				log.warn("DC: Index of field '{}' is not sorted - search all objects of domain class '{}'", CReflection.qualifiedName(field), domainClass.getSimpleName());
+			}
+			return findAll(domainClass, o -> {
+				Object value = o.getFieldValue(field);
+				return (value != null && (from == null || compare((Comparable) value, (Comparable) from) >= 0) && (to == null || compare((Comparable) value, (Comparable) to) <= 0));
+			});
+		}
+
+		Set<S> objects = new HashSet<>();
+		for (Set<T> indexedObjects : index.range(from, to)) {
+			indexedObjects.stream().filter(domainClass::isInstance).forEach(o -> objects.add((S) o));
+		}
+		return objects;
+	}
+
+	// -------------------------------------------------------------------------
+	// Queries
+	// -------------------------------------------------------------------------
+
+	// Build predicate from query using given field value getter - field values are 'raw' field values (not encrypted)
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static <T extends DomainObject> Predicate<T> toPredicate(Registry<T> registry, Class<? extends T> domainClass, Query query, BiFunction<T, Field, Object> fieldValueGetter)
+			throws DomainException {
+
+		if (!query.isFieldCondition()) {
+			List<Predicate<T>> operandPredicates = new ArrayList<>();
+			for (Query operand : query.getOperands()) {
+				operandPredicates.add(toPredicate(registry, domainClass, operand, fieldValueGetter));
+			}
+			if (query.getOperator() == Query.Operator.AND) {
+				return o -> operandPredicates.stream().allMatch(p -> p.test(o));
+			}
+			else {
+				return o -> operandPredicates.stream().anyMatch(p -> p.test(o));
+			}
+		}
+
+		Field field = registry.getFieldForQueryCondition(domainClass, query);
+		Function<T, Object> getter = o -> fieldValueGetter.apply(o, field);
+
+		List<Object> values = query.getValues();
+		switch (query.getOperator()) {
+		case EQ:
+			return o -> objectsEqual(getter.apply(o), values.get(0));
+		case IN:
+			Set<Object> valueSet = new HashSet<>(values);
+			return o -> valueSet.contains(getter.apply(o));
+		case RANGE:
+			Comparable from = (Comparable) values.get(0);
+			Comparable to = (Comparable) values.get(1);
+			return o -> {
+				Comparable value = (Comparable) getter.apply(o);
+				return (value != null && (from == null || compare(value, from) >= 0) && (to == null || compare(value, to) <= 0));
+			};
+		default: // IS_NULL
+			return o -> getter.apply(o) == null;
+		}
+	}
+
+	// Get 'raw' (not encrypted) field value of object
+	private Object getRawFieldValue(T obj, Field field) {
+
+		FieldAccessor accessor = registry.getAccessor(field);
+		return (accessor != null ? accessor.get(obj) : obj.getFieldValue(field));
+	}
+
+	// Get candidate objects for query from in-memory indexes - null if query cannot be evaluated using indexes
+	private Set<T> findCandidatesByIndex(Class<? extends T> domainClass, Query query) {
+
+		if (query.getOperator() == Query.Operator.AND) { // Use smallest candidate set of operands
+
+			Set<T> candidates = null;
+			for (Query operand : query.getOperands()) {
+				Set<T> operandCandidates = findCandidatesByIndex(domainClass, operand);
+				if (operandCandidates != null && (candidates == null || operandCandidates.size() < candidates.size())) {
+					candidates = operandCandidates;
+				}
+			}
+			return candidates;
+		}
+		else if (query.getOperator() == Query.Operator.OR) { // Use union of candidate sets if all operands can be evaluated using indexes
+
+			Set<T> candidates = new HashSet<>();
+			for (Query operand : query.getOperands()) {
+				Set<T> operandCandidates = findCandidatesByIndex(domainClass, operand);
+				if (operandCandidates == null) {
+					return null;
+				}
+				candidates.addAll(operandCandidates);
+			}
+			return candidates;
+		}
+
+		FieldIndex<T> index = indexMap.get(registry.getFieldByName(domainClass, query.getFieldName()));
+		if (index == null || query.getOperator() == Query.Operator.IS_NULL || query.getOperator() == Query.Operator.RANGE && !index.isSorted) { // null values are not indexed
+			return null;
+		}
+
+		Set<T> candidates = new HashSet<>();
+		if (query.getOperator() == Query.Operator.RANGE) {
+			index.range(query.getValues().get(0), query.getValues().get(1)).forEach(candidates::addAll);
+		}
+		else { // EQ, IN
+			for (Object value : query.getValues()) {
+				Set<T> indexedObjects = index.get(value);
+				if (indexedObjects != null) {
+					candidates.addAll(indexedObjects);
+				}
+			}
+		}
+		return candidates;
+	}
+
+	/**
+	 * Retrieve all registered domain objects of a specific domain class which match given query.
+	 * <p>
+	 * In-memory indexes of fields (see {@link #findByIndex(Class, String, Object)}) are used where possible: for equality and IN conditions on indexed fields, for range conditions on fields with sorted
+	 * index, for AND queries where at least one operand can be evaluated using an index (remaining conditions are checked only for objects found by index) and for OR queries where all operands can be
+	 * evaluated using indexes. Otherwise all objects of domain class are checked.
+	 *
+	 * @param <S>
+	 *            specific domain class type
+	 * @param domainClass
+	 *            domain class - may be an object domain class or a - non instantiable - base class of an object domain class (RaceBike or Bike)
+	 * @param query
+	 *            query on data and reference fields of domain class or of its base classes
+	 *
+	 * @return registered domain objects matching query - empty set if query is invalid for domain class
+	 */
+	@SuppressWarnings("unchecked")
+	public final <S extends T> Set<S> findAllByQuery(Class<S> domainClass, Query query) {
+
+		Predicate<T> predicate;
+		try {
+			predicate = toPredicate(registry, domainClass, query, this::getRawFieldValue);
+		}
+		catch (DomainException e) {
+			log.error("DC: Invalid query for domain class '{}': {}", domainClass.getSimpleName(), e.getMessage());
+			return new HashSet<>();
+		}
+
+		Set<T> candidates = findCandidatesByIndex(domainClass, query);
+		if (candidates == null) {
+			return findAll(domainClass, predicate::test);
+		}
+
+		Set<S> objects = new HashSet<>();
+		candidates.stream().filter(domainClass::isInstance).filter(predicate).forEach(o -> objects.add((S) o));
+		return objects;
+	}
+
+	// -------------------------------------------------------------------------
+	// Snapshots
+	// -------------------------------------------------------------------------
+
+	// Max # of attempts to capture snapshot without overlapping write phase
+	static final int MAX_SNAPSHOT_CAPTURE_ATTEMPTS = 10;
+	static final long SNAPSHOT_CAPTURE_MIN_BACKOFF_NANOS = 100_000L; // 0.1ms
+	static final long SNAPSHOT_CAPTURE_MAX_BACKOFF_NANOS = 20_000_000L; // 20ms
+
+	/**
+	 * Only for internal use!
+	 * <p>
+	 * Begin phase where domain controller changes object store or field values of registered objects (registering, unregistering, loading). Must be ended by {@link #endWritePhase()}. Write phases
+	 * may run concurrently and are never blocked.
+	 */
+	protected final void beginWritePhase() {
+		activeWritePhases.incrementAndGet();
+	}
+
+	/**
+	 * Only for internal use!
+	 * <p>
+	 * End write phase started by {@link #beginWritePhase()}.
+	 */
+	protected final void endWritePhase() {
+		writePhaseSequence.incrementAndGet();
+		activeWritePhases.decrementAndGet();
+	}
 
-		// Group only elements where classifier applies a non-null result to avoid assertNonNull exception thrown by groupingBy()
-		Map<S1, List<S2>> t2ListsGroupedByT1Map = accumulation.stream().filter(e -> classifier.apply(e) != null).collect(Collectors.groupingBy(classifier));
-		Map<S1, Set<S2>> t2SetsGroupedByT1Map = new HashMap<>();
-		for (Entry<S1, List<S2>> entry : t2ListsGroupedByT1Map.entrySet()) {
-			t2SetsGroupedByT1Map.put(entry.getKey(), new HashSet<>(entry.getValue()));
+	/**
+	 * Capture immutable point-in-time view of registered objects of given domain classes.
+	 * <p>
+	 * Field values of objects are copied into snapshot, so reading snapshot (e.g. by long-running reports) never blocks and is never blocked by changing, saving or loading objects. Snapshot capture
+	 * itself does not block write operations of domain controller but is repeated if a write phase of domain controller (registering, unregistering, loading objects) overlapped capture or if a
+	 * collection or map field was changed while copying it. Attempts
+	 * during active write phases are skipped with increasing back-off delay (but never busy waiting). If snapshot cannot be captured without overlapping write phase within
+	 * {@value #MAX_SNAPSHOT_CAPTURE_ATTEMPTS} attempts, snapshot captured in last attempt is returned and marked as inconsistent.
+	 * <p>
+	 * Snapshot contains objects of derived domain classes too. Children of objects (see {@link Snapshot#getChildren(DomainObject, Class, String)}) are derived from captured objects only.
+	 *
+	 * @param domainClasses
+	 *            domain classes to capture - object domain classes or base classes of object domain classes
+	 *
+	 * @return snapshot
+	 */
+	@SafeVarargs
+	public final Snapshot<T> snapshot(Class<? extends T>... domainClasses) {
+
+		List<String> domainClassNames = new ArrayList<>(); // Only for logging
+		for (Class<? extends T> domainClass : domainClasses) {
+			domainClassNames.add(domainClass.getSimpleName());
 		}
 
-		// Add elements where classifier applies a non-null result to T1 (if exist)
-		Set<S2> t2sWithT1NullReference = accumulation.stream().filter(e -> classifier.apply(e) == null).collect(Collectors.toSet());
-		if (!t2sWithT1NullReference.isEmpty()) {
-			t2SetsGroupedByT1Map.put(null, t2sWithT1NullReference);
+		Snapshot<T> snapshot = null;
+		long backoffNanos = SNAPSHOT_CAPTURE_MIN_BACKOFF_NANOS;
+		for (int attempt = 1; attempt <= MAX_SNAPSHOT_CAPTURE_ATTEMPTS; attempt++) {
+
+			// Active write phase or failed previous capture counts as failed attempt - back off before next attempt (capture anyway on last attempt)
+			if (attempt > 1) {
+				LockSupport.parkNanos(backoffNanos);
+				backoffNanos = Math.min(2 * backoffNanos, SNAPSHOT_CAPTURE_MAX_BACKOFF_NANOS);
+			}
+			if (activeWritePhases.get() > 0 && attempt < MAX_SNAPSHOT_CAPTURE_ATTEMPTS) {
+				continue;
+			}
+			boolean wasIdle = (activeWritePhases.get() == 0);
+			long sequence = writePhaseSequence.get();
+
+			snapshot = new Snapshot<>(registry);
+			for (Class<? extends T> domainClass : domainClasses) {
+				snapshot.capture(domainClass, objectMap.get(domainClass).values());
+			}
+
+			// Capture attempt failed if any write phase overlapped or if any collection or map was changed while copying it
+			if (wasIdle && !snapshot.isCaptureIncomplete() && activeWritePhases.get() == 0 && writePhaseSequence.get() == sequence) {
+				snapshot.buildChildren();
+				if (log.isDebugEnabled()) {
+					log.debug("DC: Captured snapshot of {} in {}. attempt", domainClassNames, attempt);
+				}
+				return snapshot;
+			}
+		}
+
+		log.warn("DC: Snapshot of {} could not be captured without overlapping changes within {} attempts - snapshot may be inconsistent!",
+				domainClassNames, MAX_SNAPSHOT_CAPTURE_ATTEMPTS);
+		snapshot.buildChildren();
+		snapshot.setInconsistent();
+		return snapshot;
+	}
+
+	// -------------------------------------------------------------------------
+	// Change events
+	// -------------------------------------------------------------------------
+
+	// Change events collected in (nested) change batches of one thread
+	private static class ChangeBatch<T extends DomainObject> {
+		List<ChangeEvent<T>> events = new ArrayList<>();
+		Deque<Integer> nestedBatchStarts = new ArrayDeque<>();
+	}
+
+	/**
+	 * Add listener which is synchronously called with batches of change events in thread of operation which caused changes.
+	 * 
+	 * @param listener
+	 *            change listener
+	 */
+	public void addChangeListener(ChangeListener<T> listener) {
+		changeListenerMap.put(listener, Optional.empty());
+	}
+
+	/**
+	 * Add listener which is asynchronously called with batches of change events using given executor - so listener does not slow down persistence operations.
+	 * <p>
+	 * Batches are submitted to executor in order of occurrence. Use a single thread executor if listener relies on processing batches in this order.
+	 * 
+	 * @param listener
+	 *            change listener
+	 * @param executor
+	 *            executor to call listener
+	 */
+	public void addChangeListener(ChangeListener<T> listener, Executor executor) {
+		changeListenerMap.put(listener, Optional.of(executor));
+	}
+
+	/**
+	 * Remove change listener.
+	 * 
+	 * @param listener
+	 *            change listener
+	 */
+	public void removeChangeListener(ChangeListener<T> listener) {
+		changeListenerMap.remove(listener);
+	}
+
+	/**
+	 * Only for internal use!
+	 * <p>
+	 * Begin (nested) change batch for current thread - change events are collected and not published before outermost change batch ends. Must be ended by {@link #endChangeBatch(boolean)}.
+	 */
+	protected final void beginChangeBatch() {
+
+		ChangeBatch<T> batch = changeBatch.get();
+		if (batch == null) {
+			batch = new ChangeBatch<>();
+			changeBatch.set(batch);
 		}
+		batch.nestedBatchStarts.push(batch.events.size());
+	}
 
-		return new TreeMap<>(t2SetsGroupedByT1Map);
+	/**
+	 * Only for internal use!
+	 * <p>
+	 * End change batch started by {@link #beginChangeBatch()} and publish collected change events to change listeners if batch is the outermost one.
+	 * 
+	 * @param discard
+	 *            true to discard change events collected within this batch (on rolled back transactions)
+	 */
+	protected final void endChangeBatch(boolean discard) {
+
+		ChangeBatch<T> batch = changeBatch.get();
+		int start = batch.nestedBatchStarts.pop();
+		if (discard) {
+			batch.events.subList(start, batch.events.size()).clear();
+		}
+		if (batch.nestedBatchStarts.isEmpty()) {
+			changeBatch.remove();
+			dispatchChanges(batch.events);
+		}
+	}
+
+	/**
+	 * Only for internal use!
+	 * 
+	 * @param type
+	 *            change type
+	 * @param obj
+	 *            changed object
+	 * @param changedFields
+	 *            changed fields (empty for {@link ChangeEvent.Type#CREATED} and {@link ChangeEvent.Type#DELETED})
+	 */
+	// Publish change event - collect event if change batch is active for current thread, otherwise dispatch event immediately
+	public void publishChange(ChangeEvent.Type type, T obj, Set<Field> changedFields) {
+
+		if (changeListenerMap.isEmpty()) {
+			return;
+		}
+
+		ChangeEvent<T> event = new ChangeEvent<>(type, obj, changedFields);
+		ChangeBatch<T> batch = changeBatch.get();
+		if (batch != null) {
+			batch.events.add(event);
+		}
+		else {
+			dispatchChanges(Collections.singletonList(event));
+		}
+	}
+
+	// Call change listeners synchronously or submit call to listener's executor
+	private void dispatchChanges(List<ChangeEvent<T>> events) {
+
+		if (events.isEmpty()) {
+			return;
+		}
+
+		List<ChangeEvent<T>> immutableEvents = Collections.unmodifiableList(events);
+		for (Entry<ChangeListener<T>, Optional<Executor>> entry : changeListenerMap.entrySet()) {
+			ChangeListener<T> listener = entry.getKey();
+			Runnable dispatch = () -> {
+				try {
+					listener.onChanges(immutableEvents);
+				}
+				catch (RuntimeException rex) {
+					log.error("DC: Change listener {} threw {}: {}", listener, rex.getClass().getSimpleName(), rex.getMessage());
+				}
+			};
+
+			if (entry.getValue().isPresent()) {
+				try {
+					entry.getValue().get().execute(dispatch);
+				}
+				catch (RejectedExecutionException rex) {
+					log.error("DC: {} change event(s) could not be dispatched to change listener {}: {}", events.size(), listener, rex.getMessage());
+				}
+			}
+			else {
+				dispatch.run();
+			}
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Parallel queries
+	// -------------------------------------------------------------------------
+
+	// Run parallel query in configured fork/join pool - parallel streams use pool where they are started from
+	private <R> R runParallel(Supplier<R> query) {
+		return (parallelQueryPool != null ? parallelQueryPool.submit(query::get).join() : query.get());
+	}
+
+	/**
+	 * Retrieve all registered domain objects of a specific domain class fulfilling given predicate - evaluate predicate in parallel.
+	 * <p>
+	 * Object store of domain class is split into ranges which are processed as fork/join tasks. Use for large numbers of objects and expensive predicates - predicate must be thread safe.
+	 *
+	 * @param <S>
+	 *            specific domain class type
+	 * @param domainClass
+	 *            domain class - may be an object domain class or a - non instantiable - base class of an object domain class (RaceBike or Bike)
+	 * @param predicate
+	 *            predicate to fulfill
+	 *
+	 * @return Registered domain objects fulfilling given predicate
+	 */
+	public final <S extends T> Set<S> parallelFindAll(Class<S> domainClass, Predicate<S> predicate) {
+		return runParallel(() -> stream(domainClass).parallel().filter(predicate != null ? predicate : o -> true).collect(Collectors.toSet()));
+	}
+
+	/**
+	 * Retrieve all registered domain objects fulfilling given predicate - evaluate predicate in parallel.
+	 * <p>
+	 * Like {@link #parallelFindAll(Class, Predicate)} but for objects of all object domain classes.
+	 * 
+	 * @param predicate
+	 *            predicate to fulfill
+	 * 
+	 * @return set of all registered objects - independently of their domain classes - fulfilling given predicate
+	 */
+	@SuppressWarnings("unchecked")
+	public final Set<T> parallelFindAll(Predicate<T> predicate) {
+
+		return runParallel(() -> {
+			Set<T> all = ConcurrentHashMap.newKeySet();
+			registry.getRegisteredObjectDomainClasses().parallelStream()
+					.forEach(c -> stream((Class<T>) c).parallel().filter(predicate != null ? predicate : o -> true).forEach(all::add));
+			return all;
+		});
+	}
+
+	/**
+	 * Get # of registered domain objects of a specific domain class fulfilling given predicate - evaluate predicate in parallel.
+	 *
+	 * @param <S>
+	 *            specific domain class type
+	 * @param domainClass
+	 *            domain class - may be an object domain class or a - non instantiable - base class of an object domain class (RaceBike or Bike)
+	 * @param predicate
+	 *            predicate to fulfill
+	 *
+	 * @return Number of domain objects of given domain class fulfilling given predicate
+	 */
+	public final <S extends T> long parallelCount(Class<S> domainClass, Predicate<S> predicate) {
+		return runParallel(() -> stream(domainClass).parallel().filter(predicate != null ? predicate : o -> true).count());
+	}
+
+	/**
+	 * Group all registered domain objects of a specific domain class by given classifier - apply classifier in parallel.
+	 * <p>
+	 * Like {@link #groupBy(Set, Function)} but for all registered objects of domain class. Objects where classifier returns null are grouped under null key.
+	 * 
+	 * @param <S1>
+	 *            type of classifier objects
+	 * @param <S2>
+	 *            domain class type of objects to group
+	 * @param domainClass
+	 *            domain class - may be an object domain class or a - non instantiable - base class of an object domain class (RaceBike or Bike)
+	 * @param classifier
+	 *            thread safe classifier for objects - e.g.: a reference to another domain object, a property, a property of a referenced domain object
+	 * 
+	 * @return map with objects grouped by classifier
+	 */
+	public final <S1, S2 extends T> SortedMap<S1, Set<S2>> parallelGroupBy(Class<S2> domainClass, Function<S2, S1> classifier) {
+		return runParallel(() -> groupByConcurrent(stream(domainClass).parallel(), classifier));
+	}
+
+	/**
+	 * Build sorted list from collection of domain objects of a specific domain class.
+	 * <p>
+	 * Sort by id or according to overridden {@code compareTo()} method.
+	 * 
+	 * @param <S>
+	 *            specific domain class type
+	 * @param objectCollection
+	 *            collection of domain objects
+	 * 
+	 * @return sorted list of domain objects
+	 */
+	public final <S extends T> List<S> sort(Collection<S> objectCollection) {
+		List<S> objects = new ArrayList<>(objectCollection);
+		Collections.sort(objects);
+		return objects;
+	}
+
+	/**
+	 * Build sorted list from collection of domain objects sorted by given sort key.
+	 * <p>
+	 * Sort key is computed only once per object (and not on every comparison) - use this method instead of {@link #sort(Collection)} if overridden {@code compareTo()} method is expensive.
+	 * Objects with equal keys keep order of collection. {@code null} keys are sorted first.
+	 * 
+	 * @param <S>
+	 *            specific domain class type
+	 * @param <K>
+	 *            type of sort key
+	 * @param objectCollection
+	 *            collection of domain objects
+	 * @param keyExtractor
+	 *            function computing sort key for object
+	 * 
+	 * @return sorted list of domain objects
+	 */
+	@SuppressWarnings("unchecked")
+	public final <S extends T, K extends Comparable<? super K>> List<S> sort(Collection<S> objectCollection, Function<? super S, K> keyExtractor) {
+
+		// Compute keys once
+		Object[][] keyedObjects = new Object[objectCollection.size()][];
+		int i = 0;
+		for (S obj : objectCollection) {
+			keyedObjects[i++] = new Object[] { keyExtractor.apply(obj), obj };
+		}
+
+		Arrays.sort(keyedObjects, (ko1, ko2) -> compare((K) ko1[0], (K) ko2[0]));
+
+		List<S> objects = new ArrayList<>(keyedObjects.length);
+		for (Object[] keyedObject : keyedObjects) {
+			objects.add((S) keyedObject[1]);
+		}
+		return objects;
+	}
+
+	// -------------------------------------------------------------------------
+	// Accumulations
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Group (accumulated) elements by given classifier.
+	 * <p>
+	 * Example: {@code Map<Manufacturer, List<Bike>> bikeByManufacturerMap = DomainController.groupBy(bikes, c -> c.manufacturer)}
+	 * 
+	 * @param <S1>
+	 *            type of classifier objects
+	 * @param <S2>
+	 *            domain class type of (child) objects to group
+	 * @param accumulation
+	 *            set of (child) objects to group; typically an 'accumulation' - a managed set of children defined using {@link Accumulation} annotation
+	 * @param classifier
+	 *            classifier for elements of accumulation - e.g.: a reference to another domain object, a property, a property of a referenced domain object
+	 * 
+	 * @return map with (accumulated) objects grouped by classifier
+	 */
+	public <S1, S2 extends T> SortedMap<S1, Set<S2>> groupBy(Set<S2> accumulation, Function<S2, S1> classifier) {
+
+		// Single pass - classifier is applied once per element
+		Map<S1, Set<S2>> groupedMap = new HashMap<>();
+		for (S2 element : accumulation) {
+			groupedMap.computeIfAbsent(classifier.apply(element), k -> new HashSet<>()).add(element);
+		}
+
+		SortedMap<S1, Set<S2>> sortedGroupedMap = new TreeMap<>(nullSafeOrder());
+		sortedGroupedMap.putAll(groupedMap);
+		return sortedGroupedMap;
 	}
 
 	/**
@@ -780,12 +1740,81 @@ public abstract class DomainController<T extends DomainObject> extends Common {
 	 */
 	public <S1, S2 extends T> SortedMap<S1, Integer> countBy(Set<S2> accumulation, Function<S2, S1> classifier) {
 
-		SortedMap<S1, Set<S2>> t2GroupedByT1Map = groupBy(accumulation, classifier);
-		SortedMap<S1, Integer> countGroupedByT1Map = new TreeMap<>();
-		for (Entry<S1, Set<S2>> entry : t2GroupedByT1Map.entrySet()) {
-			countGroupedByT1Map.put(entry.getKey(), entry.getValue().size());
+		// Single pass - count without building groups
+		Map<S1, Integer> countMap = new HashMap<>();
+		for (S2 element : accumulation) {
+			countMap.merge(classifier.apply(element), 1, Integer::sum);
 		}
 
-		return countGroupedByT1Map;
+		SortedMap<S1, Integer> sortedCountMap = new TreeMap<>(nullSafeOrder());
+		sortedCountMap.putAll(countMap);
+		return sortedCountMap;
+	}
+
+	/**
+	 * Group (accumulated) elements by given classifier - apply classifier in parallel.
+	 * <p>
+	 * Like {@link #groupBy(Set, Function)} - for large accumulations.
+	 * 
+	 * @param <S1>
+	 *            type of classifier objects
+	 * @param <S2>
+	 *            domain class type of (child) objects to group
+	 * @param accumulation
+	 *            set of (child) objects to group; typically an 'accumulation' - a managed set of children defined using {@link Accumulation} annotation
+	 * @param classifier
+	 *            thread safe classifier for elements of accumulation
+	 * 
+	 * @return map with (accumulated) objects grouped by classifier
+	 */
+	public <S1, S2 extends T> SortedMap<S1, Set<S2>> parallelGroupBy(Set<S2> accumulation, Function<S2, S1> classifier) {
+		return runParallel(() -> groupByConcurrent(accumulation.parallelStream(), classifier));
+	}
+
+	/**
+	 * Count (accumulated) elements by given classifier - apply classifier in parallel.
+	 * <p>
+	 * Like {@link #countBy(Set, Function)} - for large accumulations.
+	 * 
+	 * @param <S1>
+	 *            type of classifier objects
+	 * @param <S2>
+	 *            domain class type of (child) objects to group
+	 * @param accumulation
+	 *            set of (child) objects to group; typically an 'accumulation' - a managed set of children defined using {@link Accumulation} annotation
+	 * @param classifier
+	 *            thread safe classifier for elements of accumulation
+	 * 
+	 * @return map with count of (accumulated) objects grouped by classifier
+	 */
+	@SuppressWarnings("unchecked")
+	public <S1, S2 extends T> SortedMap<S1, Integer> parallelCountBy(Set<S2> accumulation, Function<S2, S1> classifier) {
+
+		Map<Object, Long> countMap = runParallel(
+				() -> accumulation.parallelStream().collect(Collectors.groupingByConcurrent(o -> Optional.ofNullable((Object) classifier.apply(o)).orElse(NULL_KEY), Collectors.counting())));
+
+		SortedMap<S1, Integer> sortedCountMap = new TreeMap<>(nullSafeOrder());
+		countMap.forEach((k, v) -> sortedCountMap.put((k == NULL_KEY ? null : (S1) k), v.intValue()));
+		return sortedCountMap;
+	}
+
+	// Placeholder for null keys in concurrent maps (which do not allow null keys)
+	private static final Object NULL_KEY = new Object();
+
+	// Order of classifier objects where null is allowed and sorted first
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <S1> Comparator<S1> nullSafeOrder() {
+		return (k1, k2) -> compare((Comparable) k1, (Comparable) k2);
+	}
+
+	// Group elements of (parallel) stream by given classifier using concurrent collector
+	@SuppressWarnings("unchecked")
+	private static <S1, S2> SortedMap<S1, Set<S2>> groupByConcurrent(Stream<S2> stream, Function<S2, S1> classifier) {
+
+		Map<Object, Set<S2>> groupedMap = stream.collect(Collectors.groupingByConcurrent(o -> Optional.ofNullable((Object) classifier.apply(o)).orElse(NULL_KEY), Collectors.toSet()));
+
+		SortedMap<S1, Set<S2>> sortedGroupedMap = new TreeMap<>(nullSafeOrder());
+		groupedMap.forEach((k, v) -> sortedGroupedMap.put((k == NULL_KEY ? null : (S1) k), v));
+		return sortedGroupedMap;
 	}
 }
@@ -1,8 +1,6 @@
 package com.icx.domain;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -75,9 +73,13 @@ public abstract class DomainObject extends Common implements Comparable<DomainOb
 		this.dc = dc;
 	}
 
-	// Shadows for reference fields where accumulations are assigned to -
-	// contains referenced objects before updating accumulations and so allow both changing accumulation of old and new referenced objects
-	transient Map<Field, DomainObject> refForAccuShadowMap = new HashMap<>();
+	// Shadows for reference fields (indexed by reference field ordinals, null if object domain class has no reference fields) -
+	// contains referenced objects before updating accumulations and so allow changing accumulations of old and new referenced objects
+	transient DomainObject[] refShadow = null;
+
+	// Referenced objects as reflected in parent/child index (indexed by reference field ordinals, null if object domain class has no reference fields) - index may also reflect unsaved reference
+	// changes, so these differ from reference shadows
+	transient DomainObject[] indexedRefs = null;
 
 	// -------------------------------------------------------------------------
 	// Overrides
@@ -96,11 +98,26 @@ public abstract class DomainObject extends Common implements Comparable<DomainOb
 	}
 
 	/*
-	 * Compares objects by 'universal' object id - &lt;domainclassname&gt;@&lt;objectid&gt; - if not overridden by specific domain class
+	 * Compares objects by domain class name and object id - order of 'universal' object id - &lt;domainclassname&gt;@&lt;objectid&gt; - if not overridden by specific domain class
+	 * 
+	 * Does not build universal id strings: objects of same domain class are compared by (primitive) id, objects of different domain classes by cached domain class name and - if
+	 * these names are equal - by id and fully qualified class name, so objects of different classes never compare as 0
 	 */
 	@Override
 	public int compareTo(DomainObject o) {
-		return compare(universalId(), o.universalId());
+
+		if (getClass() == o.getClass()) { // Throws NullPointerException if o is null (Comparable contract)
+			return Long.compare(id, o.id);
+		}
+
+		int result = UNIVERSAL_ID_PREFIX.get(getClass()).compareTo(UNIVERSAL_ID_PREFIX.get(o.getClass()));
+		if (result == 0) {
+			result = Long.compare(id, o.id);
+		}
+		if (result == 0) {
+			result = getClass().getName().compareTo(o.getClass().getName());
+		}
+		return result;
 	}
 
 	@Override
@@ -117,18 +134,22 @@ public abstract class DomainObject extends Common implements Comparable<DomainOb
 	// Name
 	// -------------------------------------------------------------------------
 
+	// Cached prefix of universal object id by class - "[<declaringclassname>.]<domainclassname>@"
+	private static final ClassValue<String> UNIVERSAL_ID_PREFIX = new ClassValue<String>() {
+
+		@Override
+		protected String computeValue(Class<?> cls) {
+			return (cls.isMemberClass() ? cls.getDeclaringClass().getSimpleName() + "." : "") + cls.getSimpleName() + "@";
+		}
+	};
+
 	/**
 	 * Generates 'universal' object id: scheme: &lt;domainclassname&gt;@&lt;objectid&gt;.
 	 * 
 	 * @return universal object id
 	 */
 	public String universalId() {
-
-		String name = (getClass().getSimpleName() + "@" + id);
-		if (getClass().isMemberClass()) {
-			name = getClass().getDeclaringClass().getSimpleName() + "." + name;
-		}
-		return name;
+		return UNIVERSAL_ID_PREFIX.get(getClass()) + id;
 	}
 
 	/**
@@ -171,6 +192,19 @@ public abstract class DomainObject extends Common implements Comparable<DomainOb
 	// Fields
 	// -------------------------------------------------------------------------
 
+	/**
+	 * Only for internal use!
+	 * 
+	 * @param field
+	 *            field
+	 * 
+	 * @return accessor for field or null if object is not associated to a domain controller or field is not registered
+	 */
+	// Get registered accessor for field
+	public FieldAccessor getAccessor(Field field) {
+		return (dc != null ? dc.getRegistry().getAccessor(field) : null);
+	}
+
 	/**
 	 * Only for internal use!
 	 * 
@@ -179,8 +213,14 @@ public abstract class DomainObject extends Common implements Comparable<DomainOb
 	 * 
 	 * @return value
 	 */
-	// Get field value for object
+	// Get field value for object - use registered field accessor if object is associated to a domain controller
 	public Object getFieldValue(Field field) {
+
+		FieldAccessor accessor = getAccessor(field);
+		if (accessor != null) {
+			return getFieldValue(accessor);
+		}
+
 		try {
 			return field.get(this);
 		}
@@ -190,6 +230,19 @@ public abstract class DomainObject extends Common implements Comparable<DomainOb
 		}
 	}
 
+	/**
+	 * Only for internal use!
+	 * 
+	 * @param accessor
+	 *            registered accessor of field to get value from
+	 * 
+	 * @return value
+	 */
+	// Get field value for object using given accessor - avoids accessor lookup if accessor was already retrieved for field
+	public Object getFieldValue(FieldAccessor accessor) {
+		return accessor.get(this);
+	}
+
 	/**
 	 * Only for internal use!
 	 * 
@@ -198,17 +251,37 @@ public abstract class DomainObject extends Common implements Comparable<DomainOb
 	 * @param value
 	 *            value
 	 */
-	// Set value of field
+	// Set value of field - use registered field accessor if object is associated to a domain controller
 	public void setFieldValue(Field field, Object value) {
+
+		FieldAccessor accessor = getAccessor(field);
+		if (accessor != null) {
+			setFieldValue(accessor, value);
+			return;
+		}
+
 		try {
 			field.set(this, value);
 		}
 		catch (IllegalArgumentException | IllegalAccessException e) {
-			log.error("DC: {} '{}' oocurred trying to set field '{}' of object {} to {}", e.getClass().getSimpleName(), e.getMessage(), CReflection.qualifiedName(field), name(),
+			log.error("DC: {} '{}' occurred trying to set field '{}' of object {} to {}", e.getClass().getSimpleName(), e.getMessage(), CReflection.qualifiedName(field), name(),
 					CLog.forSecretLogging(field, value));
 		}
 	}
 
+	/**
+	 * Only for internal use!
+	 * 
+	 * @param accessor
+	 *            registered accessor of field to set value for
+	 * @param value
+	 *            value
+	 */
+	// Set value of field using given accessor - avoids accessor lookup if accessor was already retrieved for field
+	public void setFieldValue(FieldAccessor accessor, Object value) {
+		accessor.set(this, value);
+	}
+
 	// -------------------------------------------------------------------------
 	// Deletion
 	// -------------------------------------------------------------------------
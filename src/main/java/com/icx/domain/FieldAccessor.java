@@ -0,0 +1,107 @@
+package com.icx.domain;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.icx.common.CLog;
+import com.icx.common.CReflection;
+import com.icx.domain.sql.Annotations.Crypt;
+
+/**
+ * Accessor for registered field of domain class using method handles created once on registration. Only used internally.
+ * <p>
+ * Also caches annotation flags of field which would otherwise be checked on any field access.
+ *
+ * @author baumgrai
+ */
+public class FieldAccessor {
+
+	static final Logger log = LoggerFactory.getLogger(FieldAccessor.class);
+
+	// Generic signatures of getter and setter handles
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	// Field
+	public final Field field;
+
+	// Method handles to get and set field value - setter is null for final fields
+	private final MethodHandle getter;
+	private final MethodHandle setter;
+
+	// Cached annotation flags
+	public final boolean isCrypt; // String field annotated with @Crypt -> value is stored encrypted
+
+	// Field ordinal - assigned on freezing registry
+	int ordinal = -1;
+
+	FieldAccessor(
+			Field field) throws IllegalAccessException {
+
+		this.field = field;
+
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+		this.setter = (Modifier.isFinal(field.getModifiers()) ? null : lookup.unreflectSetter(field).asType(SETTER_TYPE));
+
+		this.isCrypt = (field.isAnnotationPresent(Crypt.class) && field.getType() == String.class);
+	}
+
+	/**
+	 * Only for internal use!
+	 *
+	 * @return ordinal of field (see {@link Registry#getFieldOrdinal(Field)})
+	 */
+	public int getOrdinal() {
+		return ordinal;
+	}
+
+	/**
+	 * Only for internal use!
+	 *
+	 * @param obj
+	 *            object to get field value from
+	 *
+	 * @return field value or null if value cannot be retrieved
+	 */
+	// Get field value of object
+	public Object get(DomainObject obj) {
+		try {
+			return getter.invokeExact((Object) obj);
+		}
+		catch (Throwable e) {
+			log.error("DOB: {} '{}' occurred trying to get value of field '{}' for object {}", e.getClass().getSimpleName(), e.getMessage(), CReflection.qualifiedName(field), obj.name());
+			return null;
+		}
+	}
+
+	/**
+	 * Only for internal use!
+	 *
+	 * @param obj
+	 *            object to set field value for
+	 * @param value
+	 *            value
+	 */
+	// Set field value of object
+	public void set(DomainObject obj, Object value) {
+		try {
+			if (setter != null) {
+				setter.invokeExact((Object) obj, value);
+			}
+			else {
+				field.set(obj, value);
+			}
+		}
+		catch (Throwable e) {
+			log.error("DC: {} '{}' occurred trying to set field '{}' of object {} to {}", e.getClass().getSimpleName(), e.getMessage(), CReflection.qualifiedName(field), obj.name(),
+					CLog.forSecretLogging(field, value));
+		}
+	}
+}
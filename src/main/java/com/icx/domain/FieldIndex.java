@@ -0,0 +1,118 @@
+package com.icx.domain;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.icx.common.Common;
+
+/**
+ * In-memory index of registered domain objects by value of one data or reference field. Only used internally.
+ * <p>
+ * Index is maintained by domain controller on registering, saving, loading and unregistering objects. {@code null} values are not indexed.
+ *
+ * @param <T>
+ *            type of domain objects
+ *
+ * @author baumgrai
+ */
+class FieldIndex<T extends DomainObject> extends Common {
+
+	// Accessor of indexed field - get 'raw' field value (not encrypted)
+	final FieldAccessor accessor;
+
+	// Sorted index (allows range queries) or hash index
+	final boolean isSorted;
+
+	// Objects by (non-null) field value
+	private final ConcurrentMap<Object, Set<T>> objectsByValueMap;
+
+	// Indexed field value by object - to detect field value changes and to remove object from set of objects with old value
+	private final Map<T, Object> valueByObjectMap = new ConcurrentHashMap<>();
+
+	FieldIndex(
+			FieldAccessor accessor,
+			boolean isSorted) {
+
+		this.accessor = accessor;
+		this.isSorted = isSorted;
+		this.objectsByValueMap = (isSorted ? new ConcurrentSkipListMap<>() : new ConcurrentHashMap<>());
+	}
+
+	// Add object to set of objects with given value
+	private void add(Object value, T obj) {
+		objectsByValueMap.compute(value, (v, set) -> {
+			if (set == null) {
+				set = ConcurrentHashMap.newKeySet();
+			}
+			set.add(obj);
+			return set;
+		});
+	}
+
+	// Remove object from set of objects with given value and remove set if it became empty
+	private void remove(Object value, T obj) {
+		objectsByValueMap.computeIfPresent(value, (v, set) -> {
+			set.remove(obj);
+			return (set.isEmpty() ? null : set);
+		});
+	}
+
+	// Update index for object if field value changed since last update
+	void update(T obj) {
+
+		Object newValue = accessor.get(obj);
+		Object oldValue = valueByObjectMap.get(obj);
+		if (objectsEqual(oldValue, newValue)) {
+			return;
+		}
+
+		if (oldValue != null) {
+			remove(oldValue, obj);
+		}
+
+		if (newValue != null) {
+			valueByObjectMap.put(obj, newValue);
+			add(newValue, obj);
+		}
+		else {
+			valueByObjectMap.remove(obj);
+		}
+	}
+
+	// Remove object from index
+	void remove(T obj) {
+
+		Object oldValue = valueByObjectMap.remove(obj);
+		if (oldValue != null) {
+			remove(oldValue, obj);
+		}
+	}
+
+	// Get objects with given (non-null) field value - returns live set of index or null if no object with this value is indexed
+	Set<T> get(Object value) {
+		return objectsByValueMap.get(value);
+	}
+
+	// Get sets of objects where field value is within given range (for sorted index only) - null for 'from' or 'to' means no lower or upper bound
+	Collection<Set<T>> range(Object from, Object to) {
+
+		ConcurrentNavigableMap<Object, Set<T>> navigableMap = (ConcurrentNavigableMap<Object, Set<T>>) objectsByValueMap;
+		if (from != null && to != null) {
+			return navigableMap.subMap(from, true, to, true).values();
+		}
+		else if (from != null) {
+			return navigableMap.tailMap(from, true).values();
+		}
+		else if (to != null) {
+			return navigableMap.headMap(to, true).values();
+		}
+		else {
+			return navigableMap.values();
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.icx.domain;
+
+/**
+ * Strategy to generate unique ids for new domain objects.
+ * <p>
+ * Default strategy is {@link TimeBasedIdGenerator}. Use {@link DomainController#setIdGenerator(IdGenerator)} to use another strategy (e.g. {@link com.icx.domain.sql.SqlHiLoIdGenerator} which
+ * allocates blocks of ids using a database table).
+ * <p>
+ * Implementations must be thread safe.
+ * 
+ * @author baumgrai
+ */
+public interface IdGenerator {
+
+	/**
+	 * Generate unique object id.
+	 * 
+	 * @return unique id
+	 */
+	long nextId();
+
+	/**
+	 * Reserve multiple unique object ids at once - e.g. for registering multiple new objects.
+	 * <p>
+	 * Default implementation calls {@link #nextId()} for every id. Implementations may override this method to reserve ids in one step.
+	 * 
+	 * @param count
+	 *            number of ids to reserve
+	 * 
+	 * @return array of unique ids
+	 */
+	default long[] reserveIds(int count) {
+
+		long[] ids = new long[count];
+		for (int i = 0; i < count; i++) {
+			ids[i] = nextId();
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,91 @@
+package com.icx.domain;
+
+import java.util.Collection;
+
+/**
+ * Store of registered objects of one domain class by object id. Only used internally.
+ * <p>
+ * Implementations must be thread safe. {@link #values()} is a live view which supports weakly consistent iteration during concurrent registering and unregistering of objects.
+ *
+ * @param <T>
+ *            type of domain objects
+ *
+ * @author baumgrai
+ */
+public interface ObjectStore<T extends DomainObject> {
+
+	/**
+	 * Get object by id.
+	 *
+	 * @param id
+	 *            object id
+	 *
+	 * @return object or null if no object with given id is stored
+	 */
+	T get(long id);
+
+	/**
+	 * Check if object with given id is stored.
+	 *
+	 * @param id
+	 *            object id
+	 *
+	 * @return true if object is stored, false otherwise
+	 */
+	boolean containsKey(long id);
+
+	/**
+	 * Store object by id.
+	 *
+	 * @param id
+	 *            object id
+	 * @param obj
+	 *            object
+	 */
+	void put(long id, T obj);
+
+	/**
+	 * Store object by id if no object with this id is stored yet.
+	 *
+	 * @param id
+	 *            object id
+	 * @param obj
+	 *            object
+	 *
+	 * @return object already stored with given id or null if given object was stored
+	 */
+	T putIfAbsent(long id, T obj);
+
+	/**
+	 * Remove object with given id.
+	 *
+	 * @param id
+	 *            object id
+	 *
+	 * @return removed object or null if no object with given id was stored
+	 */
+	T remove(long id);
+
+	/**
+	 * Get number of stored objects.
+	 *
+	 * @return number of objects
+	 */
+	int size();
+
+	/**
+	 * Check if store is empty.
+	 *
+	 * @return true if no object is stored, false otherwise
+	 */
+	default boolean isEmpty() {
+		return (size() == 0);
+	}
+
+	/**
+	 * Get live view of stored objects.
+	 *
+	 * @return stored objects
+	 */
+	Collection<T> values();
+}
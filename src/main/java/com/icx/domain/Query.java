@@ -0,0 +1,262 @@
+package com.icx.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Query on registered data and reference fields of domain objects.
+ * <p>
+ * Queries are built from field conditions ({@link #eq(String, Object)}, {@link #in(String, Collection)}, {@link #between(String, Object, Object)}, {@link #isNull(String)}) which can be combined
+ * using {@link #and(Query...)} and {@link #or(Query...)}. Fields are given by name and are resolved against domain class on executing query. Condition values must have (boxed) field type - for
+ * reference fields condition value is referenced domain object (reference equality).
+ * <p>
+ * The same query can be used to find registered objects in memory - using in-memory indexes of fields if possible - ({@link DomainController#findAllByQuery(Class, Query)}) and to load objects from
+ * database ({@code SqlDomainController#loadOnlyByQuery(Class, Query, int)}) where query is translated into a WHERE clause with bind variables.
+ * <p>
+ * Example: {@code Query.and(Query.eq("manufacturer", manufacturer), Query.between("price", 1000.0, 2000.0), Query.isNull("soldTo"))}
+ *
+ * @author baumgrai
+ */
+public final class Query {
+
+	/**
+	 * Query operators.
+	 */
+	public enum Operator {
+		/**
+		 * Field value equals given value
+		 */
+		EQ,
+		/**
+		 * Field value equals one of given values
+		 */
+		IN,
+		/**
+		 * Field value is within given range (inclusive bounds, null bound means no bound)
+		 */
+		RANGE,
+		/**
+		 * Field value is null
+		 */
+		IS_NULL,
+		/**
+		 * All operand queries match
+		 */
+		AND,
+		/**
+		 * At least one operand query matches
+		 */
+		OR
+	}
+
+	// Operator
+	private final Operator operator;
+
+	// Name of field for field conditions (null for AND and OR)
+	private final String fieldName;
+
+	// Values of field conditions: [ value ] for EQ, values for IN, [ from, to ] for RANGE, empty for IS_NULL
+	private final List<Object> values;
+
+	// Operand queries for AND and OR
+	private final List<Query> operands;
+
+	private Query(
+			Operator operator,
+			String fieldName,
+			List<Object> values,
+			List<Query> operands) {
+
+		this.operator = operator;
+		this.fieldName = fieldName;
+		this.values = Collections.unmodifiableList(values);
+		this.operands = Collections.unmodifiableList(operands);
+	}
+
+	// -------------------------------------------------------------------------
+	// Field conditions
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Field value equals given value. For reference fields given value is referenced object.
+	 *
+	 * @param fieldName
+	 *            name of data or reference field
+	 * @param value
+	 *            value to compare with - if null condition is the same as {@link #isNull(String)}
+	 *
+	 * @return query
+	 */
+	public static Query eq(String fieldName, Object value) {
+		return (value == null ? isNull(fieldName) : new Query(Operator.EQ, fieldName, Collections.singletonList(value), Collections.emptyList()));
+	}
+
+	/**
+	 * Field value equals one of given values.
+	 *
+	 * @param fieldName
+	 *            name of data or reference field
+	 * @param values
+	 *            values to compare with (null values are ignored) - if empty no object matches
+	 *
+	 * @return query
+	 */
+	public static Query in(String fieldName, Collection<?> values) {
+		return new Query(Operator.IN, fieldName, values.stream().filter(v -> v != null).distinct().collect(Collectors.toList()), Collections.emptyList());
+	}
+
+	/**
+	 * Field value is within given range. Bounds are inclusive. Objects where field value is null never match.
+	 *
+	 * @param fieldName
+	 *            name of data field with comparable values
+	 * @param from
+	 *            lower bound or null for no lower bound
+	 * @param to
+	 *            upper bound or null for no upper bound
+	 *
+	 * @return query
+	 */
+	public static Query between(String fieldName, Object from, Object to) {
+		return new Query(Operator.RANGE, fieldName, Arrays.asList(from, to), Collections.emptyList());
+	}
+
+	/**
+	 * Field value is null.
+	 *
+	 * @param fieldName
+	 *            name of data or reference field
+	 *
+	 * @return query
+	 */
+	public static Query isNull(String fieldName) {
+		return new Query(Operator.IS_NULL, fieldName, Collections.emptyList(), Collections.emptyList());
+	}
+
+	// -------------------------------------------------------------------------
+	// Combined queries
+	// -------------------------------------------------------------------------
+
+	/**
+	 * All given queries match.
+	 *
+	 * @param queries
+	 *            queries to combine
+	 *
+	 * @return query
+	 */
+	public static Query and(Query... queries) {
+		return new Query(Operator.AND, null, Collections.emptyList(), new ArrayList<>(Arrays.asList(queries)));
+	}
+
+	/**
+	 * At least one of given queries matches.
+	 *
+	 * @param queries
+	 *            queries to combine
+	 *
+	 * @return query
+	 */
+	public static Query or(Query... queries) {
+		return new Query(Operator.OR, null, Collections.emptyList(), new ArrayList<>(Arrays.asList(queries)));
+	}
+
+	/**
+	 * This query and given query match.
+	 *
+	 * @param query
+	 *            query to combine with this query
+	 *
+	 * @return query
+	 */
+	public Query and(Query query) {
+		return and(this, query);
+	}
+
+	/**
+	 * This query or given query matches.
+	 *
+	 * @param query
+	 *            query to combine with this query
+	 *
+	 * @return query
+	 */
+	public Query or(Query query) {
+		return or(this, query);
+	}
+
+	// -------------------------------------------------------------------------
+	// Getters - only for evaluation and translation of queries
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Only for internal use!
+	 *
+	 * @return operator
+	 */
+	public Operator getOperator() {
+		return operator;
+	}
+
+	/**
+	 * Only for internal use!
+	 *
+	 * @return true for field conditions, false for AND and OR
+	 */
+	public boolean isFieldCondition() {
+		return (fieldName != null);
+	}
+
+	/**
+	 * Only for internal use!
+	 *
+	 * @return field name of field condition or null
+	 */
+	public String getFieldName() {
+		return fieldName;
+	}
+
+	/**
+	 * Only for internal use!
+	 *
+	 * @return values of field condition
+	 */
+	public List<Object> getValues() {
+		return values;
+	}
+
+	/**
+	 * Only for internal use!
+	 *
+	 * @return operand queries of AND and OR
+	 */
+	public List<Query> getOperands() {
+		return operands;
+	}
+
+	// Domain objects by universal id
+	private static String valueToString(Object value) {
+		return (value instanceof DomainObject ? ((DomainObject) value).universalId() : String.valueOf(value));
+	}
+
+	@Override
+	public String toString() {
+
+		switch (operator) {
+		case EQ:
+			return fieldName + "=" + valueToString(values.get(0));
+		case IN:
+			return fieldName + " IN " + values.stream().map(Query::valueToString).collect(Collectors.joining(", ", "(", ")"));
+		case RANGE:
+			return fieldName + " BETWEEN " + (values.get(0) != null ? values.get(0) : "-") + " AND " + (values.get(1) != null ? values.get(1) : "-");
+		case IS_NULL:
+			return fieldName + " IS NULL";
+		default:
+			return "(" + operands.stream().map(Object::toString).collect(Collectors.joining(" " + operator + " ")) + ")";
+		}
+	}
+}
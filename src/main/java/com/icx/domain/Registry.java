@@ -1,13 +1,20 @@
 package com.icx.domain;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -25,6 +32,8 @@ import com.icx.domain.GuavaReplacements.ClassInfo;
 import com.icx.domain.GuavaReplacements.ClassPath;
 import com.icx.domain.sql.SqlDomainObject;
 import com.icx.domain.sql.Annotations.Accumulation;
+import com.icx.domain.sql.Annotations.DirtyTracking;
+import com.icx.domain.sql.Annotations.Indexed;
 import com.icx.domain.sql.Annotations.Removed;
 import com.icx.domain.sql.Annotations.StoreAsString;
 import com.icx.domain.sql.Annotations.UseDataHorizon;
@@ -57,6 +66,24 @@ public class Registry<T extends DomainObject> extends CReflection {
 		List<Field> dataFields = new ArrayList<>();
 		List<Field> referenceFields = new ArrayList<>();
 		List<Field> complexFields = new ArrayList<>();
+
+		List<Field> indexedFields = new ArrayList<>(); // Data and reference fields annotated with @Indexed
+
+		// Precomputed on freezing registry after registration - immutable
+		List<Class<? extends T>> domainClasses = null; // Inheritance chain starting with bottom-most domain class
+		List<Field> dataAndReferenceFields = null;
+		List<Field> registeredFields = null;
+		List<Field> accumulationFields = null;
+		List<Field> allReferencingFields = null;
+		List<Field> allReferenceFields = null; // Reference fields of domain class and inherited domain classes - index in list is reference field ordinal
+		List<FieldAccessor> dataAccessors = null; // Accessors of fields in order of field lists above
+		List<FieldAccessor> referenceAccessors = null;
+		List<FieldAccessor> complexAccessors = null;
+		List<FieldAccessor> dataAndReferenceAccessors = null;
+		List<FieldAccessor> allReferenceAccessors = null;
+		boolean isDataHorizonControlled = false;
+		boolean isDirtyTracked = false;
+		int fieldCount = 0; // # of registered fields of domain class and inherited domain classes
 	}
 
 	// -------------------------------------------------------------------------
@@ -74,6 +101,12 @@ public class Registry<T extends DomainObject> extends CReflection {
 	private Map<Class<? extends T>, DomainClassInfo> domainClassInfoMap = new HashMap<>();
 	private Map<Class<? extends T>, Map<String, Field>> fieldByNameMap = new HashMap<>();
 	private Map<Field, Field> accumulationByReferenceFieldMap = new HashMap<>();
+	private Map<Field, FieldAccessor> accessorByFieldMap = new HashMap<>();
+
+	// Precomputed on freezing registry after registration
+	private List<Class<? extends T>> registeredObjectDomainClasses = new ArrayList<>();
+	private Map<String, Class<? extends T>> domainClassBySimpleNameMap = new HashMap<>();
+	private Map<Field, Integer> fieldOrdinalMap = new HashMap<>();
 
 	// Temporarily used objects
 	private List<Field> preregisteredAccumulations = new ArrayList<>();
@@ -91,7 +124,12 @@ public class Registry<T extends DomainObject> extends CReflection {
 
 	// Get loaded (non-abstract) object domain classes
 	public List<Class<? extends T>> getRegisteredObjectDomainClasses() { // Do not use during Registration!
-		return orderedDomainClasses.stream().filter(dc -> !Modifier.isAbstract(dc.getModifiers())).collect(Collectors.toList());
+		return registeredObjectDomainClasses;
+	}
+
+	// Get registered domain class by simple name - null if no domain class with this name is registered
+	public Class<? extends T> getRegisteredDomainClassBySimpleName(String simpleName) { // Do not use during Registration!
+		return domainClassBySimpleNameMap.get(simpleName);
 	}
 
 	public List<Class<? extends T>> getRelevantDomainClasses() {
@@ -105,7 +143,7 @@ public class Registry<T extends DomainObject> extends CReflection {
 
 	// Check if class is domain class
 	public boolean isRegisteredDomainClass(Class<?> cls) { // Do not use during Registration!
-		return orderedDomainClasses.contains(cls);
+		return domainClassInfoMap.containsKey(cls);
 	}
 
 	// Check if class is object domain class (top level of inheritance)
@@ -162,10 +200,10 @@ public class Registry<T extends DomainObject> extends CReflection {
 	// Inheritance
 	// -------------------------------------------------------------------------
 
-	// Build stack of base domain classes where object domain class is inherited from including object domain class itself (e.g. Bianchi -> [ Bike, Racebike, Bianchi ]
-	public List<Class<? extends T>> getDomainClassesFor(Class<? extends T> c) {
+	// Build list of base domain classes where object domain class is inherited from including object domain class itself (e.g. Bianchi -> [ Bike, Racebike, Bianchi ]
+	private List<Class<? extends T>> buildDomainClassesFor(Class<? extends T> c) {
 
-		List<Class<? extends T>> domainClasses = new Stack<>();
+		List<Class<? extends T>> domainClasses = new ArrayList<>();
 		do {
 			if (baseClass.isAssignableFrom(c)) {
 				domainClasses.add(0, c); // List starts with bottom-most domain class
@@ -175,11 +213,36 @@ public class Registry<T extends DomainObject> extends CReflection {
 		return domainClasses;
 	}
 
+	// Get base domain classes where object domain class is inherited from including object domain class itself (e.g. Bianchi -> [ Bike, Racebike, Bianchi ] - returns immutable list
+	public List<Class<? extends T>> getDomainClassesFor(Class<? extends T> c) {
+
+		DomainClassInfo domainClassInfo = domainClassInfoMap.get(c);
+		if (domainClassInfo != null && domainClassInfo.domainClasses != null) { // Registry is frozen
+			return domainClassInfo.domainClasses;
+		}
+		return buildDomainClassesFor(c);
+	}
+
 	// Check if domain class or any of its inherited domain classes is 'data horizon' controlled (has annotation @UseDataHorizon)
 	public boolean isDataHorizonControlled(Class<? extends T> domainClass) {
+
+		DomainClassInfo domainClassInfo = domainClassInfoMap.get(domainClass);
+		if (domainClassInfo != null && domainClassInfo.domainClasses != null) { // Registry is frozen
+			return domainClassInfo.isDataHorizonControlled;
+		}
 		return getDomainClassesFor(domainClass).stream().anyMatch(c -> c.isAnnotationPresent(UseDataHorizon.class));
 	}
 
+	// Check if domain class or any of its inherited domain classes uses explicit dirty tracking (has annotation @DirtyTracking)
+	public boolean isDirtyTracked(Class<? extends T> domainClass) {
+
+		DomainClassInfo domainClassInfo = domainClassInfoMap.get(domainClass);
+		if (domainClassInfo != null && domainClassInfo.domainClasses != null) { // Registry is frozen
+			return domainClassInfo.isDirtyTracked;
+		}
+		return getDomainClassesFor(domainClass).stream().anyMatch(c -> c.isAnnotationPresent(DirtyTracking.class));
+	}
+
 	// -------------------------------------------------------------------------
 	// Fields
 	// -------------------------------------------------------------------------
@@ -234,6 +297,56 @@ public class Registry<T extends DomainObject> extends CReflection {
 		return field;
 	}
 
+	// Get and check field of query field condition - field must be a data field (not an array field) or a reference field and condition values must have (boxed) field type
+	public <S extends T> Field getFieldForQueryCondition(Class<S> domainClass, Query condition) throws DomainException {
+
+		Field field = getFieldByName(domainClass, condition.getFieldName());
+		if (field == null) {
+			throw new DomainException("Field '" + condition.getFieldName() + "' of query '" + condition + "' is not a registered field of domain class '" + domainClass.getSimpleName()
+					+ "' or any of its base classes!");
+		}
+		else if (!(isDataField(field) && !field.getType().isArray() || isReferenceField(field))) {
+			throw new DomainException("Field '" + qualifiedName(field) + "' of query '" + condition + "' is neither a data field nor a reference field!");
+		}
+		else if (condition.getOperator() == Query.Operator.RANGE && !(isDataField(field) && Comparable.class.isAssignableFrom(getBoxingWrapperType(field.getType())))) {
+			throw new DomainException("Field '" + qualifiedName(field) + "' of range query '" + condition + "' is not a data field with comparable values!");
+		}
+
+		Class<?> valueType = getBoxingWrapperType(field.getType());
+		for (Object value : condition.getValues()) {
+			if (value != null && !valueType.isInstance(value)) {
+				throw new DomainException(
+						"Value '" + value + "' of query '" + condition + "' has type '" + value.getClass().getSimpleName() + "' instead of field type '" + valueType.getSimpleName() + "'!");
+			}
+		}
+		return field;
+	}
+
+	// Get accessor for field of domain class - null if field is not a (registered or accumulation) field of a registered domain class
+	public FieldAccessor getAccessor(Field field) {
+		return accessorByFieldMap.get(field);
+	}
+
+	// Get accessors of registered data fields for domain class in definition order - to avoid accessor lookup per field and object on handling many objects - returns immutable list
+	public List<FieldAccessor> getDataAccessors(Class<? extends T> domainClass) {
+		return domainClassInfoMap.get(domainClass).dataAccessors;
+	}
+
+	// Get accessors of registered reference fields for domain class in definition order - returns immutable list
+	public List<FieldAccessor> getReferenceAccessors(Class<? extends T> domainClass) {
+		return domainClassInfoMap.get(domainClass).referenceAccessors;
+	}
+
+	// Get accessors of registered complex fields for domain class in definition order - returns immutable list
+	public List<FieldAccessor> getComplexAccessors(Class<? extends T> domainClass) {
+		return domainClassInfoMap.get(domainClass).complexAccessors;
+	}
+
+	// Get accessors of registered data and reference fields for domain class in definition order - returns immutable list
+	public List<FieldAccessor> getDataAndReferenceAccessors(Class<? extends T> domainClass) {
+		return domainClassInfoMap.get(domainClass).dataAndReferenceAccessors;
+	}
+
 	// Get constructor for domain class
 	public Constructor<T> getConstructor(Class<? extends T> domainClass) {
 		return domainClassInfoMap.get(domainClass).constructor;
@@ -255,23 +368,45 @@ public class Registry<T extends DomainObject> extends CReflection {
 		return domainClassInfoMap.get(domainClass).complexFields;
 	}
 
-	// Get data and reference fields of domain class
-	public List<Field> getDataAndReferenceFields(Class<? extends T> domainClass) {
+	// Get data and reference fields of domain class which are annotated with @Indexed
+	public List<Field> getIndexedFields(Class<? extends T> domainClass) {
+		return domainClassInfoMap.get(domainClass).indexedFields;
+	}
 
-		List<Field> dataAndReferenceFields = new ArrayList<>();
-		dataAndReferenceFields.addAll(getDataFields(domainClass));
-		dataAndReferenceFields.addAll(getReferenceFields(domainClass));
-		return dataAndReferenceFields;
+	// Check if field has a sorted in-memory index
+	public static boolean isSortedIndex(Field field) {
+		return (field.isAnnotationPresent(Indexed.class) && field.getAnnotation(Indexed.class).sorted());
 	}
 
-	// Get all registered fields of domain class
+	// Get data and reference fields of domain class - returns immutable list
+	public List<Field> getDataAndReferenceFields(Class<? extends T> domainClass) {
+		return domainClassInfoMap.get(domainClass).dataAndReferenceFields;
+	}
+
+	// Get all registered fields of domain class (data, reference and complex fields) - returns immutable list
 	public List<Field> getRegisteredFields(Class<? extends T> domainClass) {
+		return domainClassInfoMap.get(domainClass).registeredFields;
+	}
+
+	// Get ordinal of registered field - unique within registered fields of object domain class and all inherited domain classes and same for all object domain classes derived from declaring class
+	public int getFieldOrdinal(Field field) {
+		return fieldOrdinalMap.get(field);
+	}
+
+	// Get reference fields of domain class and inherited domain classes in order of reference field ordinals (unique within object domain class and same for all object domain classes derived from
+	// declaring class) - returns immutable list
+	public List<Field> getAllReferenceFields(Class<? extends T> domainClass) {
+		return domainClassInfoMap.get(domainClass).allReferenceFields;
+	}
+
+	// Get accessors of reference fields of domain class and inherited domain classes in order of reference field ordinals - returns immutable list
+	public List<FieldAccessor> getAllReferenceAccessors(Class<? extends T> domainClass) {
+		return domainClassInfoMap.get(domainClass).allReferenceAccessors;
+	}
 
-		List<Field> allFields = new ArrayList<>();
-		allFields.addAll(getDataFields(domainClass));
-		allFields.addAll(getReferenceFields(domainClass));
-		allFields.addAll(getComplexFields(domainClass));
-		return allFields;
+	// Get # of registered fields of domain class and inherited domain classes (upper bound of field ordinals)
+	public int getFieldCount(Class<? extends T> domainClass) {
+		return domainClassInfoMap.get(domainClass).fieldCount;
 	}
 
 	// Get fields relevant for registration of domain class
@@ -280,9 +415,9 @@ public class Registry<T extends DomainObject> extends CReflection {
 				.collect(Collectors.toList());
 	}
 
-	// Get accumulation fields of domain class
+	// Get accumulation fields of domain class - returns immutable list
 	public List<Field> getAccumulationFields(Class<? extends T> domainClass) {
-		return accumulationByReferenceFieldMap.values().stream().filter(f -> f.getDeclaringClass() == domainClass).collect(Collectors.toList());
+		return domainClassInfoMap.get(domainClass).accumulationFields;
 	}
 
 	// Get accumulation by reference field
@@ -290,9 +425,73 @@ public class Registry<T extends DomainObject> extends CReflection {
 		return accumulationByReferenceFieldMap.get(referenceField);
 	}
 
-	// Get reference fields of any domain classes referencing this object domain class or inherited domain classes
+	// Get reference fields of any domain classes referencing this object domain class or inherited domain classes - returns immutable list
 	public List<Field> getAllReferencingFields(Class<? extends T> domainObjectClass) {
-		return orderedDomainClasses.stream().flatMap(c -> getReferenceFields(c).stream()).filter(f -> f.getType().isAssignableFrom(domainObjectClass)).collect(Collectors.toList());
+		return domainClassInfoMap.get(domainObjectClass).allReferencingFields;
+	}
+
+	// -------------------------------------------------------------------------
+	// Freeze registry
+	// -------------------------------------------------------------------------
+
+	// Build immutable list of accessors for given fields
+	private List<FieldAccessor> toAccessors(List<Field> fields) {
+		return Collections.unmodifiableList(fields.stream().map(accessorByFieldMap::get).collect(Collectors.toList()));
+	}
+
+	// Precompute immutable lists of domain classes and fields which are often used on handling domain objects to avoid computing and allocating them on any call
+	// Note: must be called again after unregistering fields
+	private void freeze() {
+
+		registeredObjectDomainClasses = Collections.unmodifiableList(orderedDomainClasses.stream().filter(this::isObjectDomainClass).collect(Collectors.toList()));
+
+		domainClassBySimpleNameMap.clear();
+		orderedDomainClasses.forEach(c -> domainClassBySimpleNameMap.put(c.getSimpleName(), c));
+
+		for (Class<? extends T> domainClass : orderedDomainClasses) {
+			DomainClassInfo domainClassInfo = domainClassInfoMap.get(domainClass);
+
+			List<Class<? extends T>> domainClasses = buildDomainClassesFor(domainClass);
+			domainClassInfo.domainClasses = Collections.unmodifiableList(domainClasses);
+			domainClassInfo.isDataHorizonControlled = domainClasses.stream().anyMatch(c -> c.isAnnotationPresent(UseDataHorizon.class));
+			domainClassInfo.isDirtyTracked = domainClasses.stream().anyMatch(c -> c.isAnnotationPresent(DirtyTracking.class));
+
+			List<Field> dataAndReferenceFields = new ArrayList<>(domainClassInfo.dataFields);
+			dataAndReferenceFields.addAll(domainClassInfo.referenceFields);
+			domainClassInfo.dataAndReferenceFields = Collections.unmodifiableList(dataAndReferenceFields);
+
+			List<Field> registeredFields = new ArrayList<>(dataAndReferenceFields);
+			registeredFields.addAll(domainClassInfo.complexFields);
+			domainClassInfo.registeredFields = Collections.unmodifiableList(registeredFields);
+
+			domainClassInfo.dataAccessors = toAccessors(domainClassInfo.dataFields);
+			domainClassInfo.referenceAccessors = toAccessors(domainClassInfo.referenceFields);
+			domainClassInfo.complexAccessors = toAccessors(domainClassInfo.complexFields);
+			domainClassInfo.dataAndReferenceAccessors = toAccessors(dataAndReferenceFields);
+
+			domainClassInfo.accumulationFields = Collections
+					.unmodifiableList(accumulationByReferenceFieldMap.values().stream().filter(f -> f.getDeclaringClass() == domainClass).collect(Collectors.toList()));
+			domainClassInfo.allReferencingFields = Collections.unmodifiableList(orderedDomainClasses.stream().flatMap(c -> domainClassInfoMap.get(c).referenceFields.stream())
+					.filter(f -> f.getType().isAssignableFrom(domainClass)).collect(Collectors.toList()));
+		}
+
+		// Assign field ordinals - fields of bottom-most domain class first, so ordinals of inherited fields are the same for all derived domain classes
+		fieldOrdinalMap.clear();
+		for (Class<? extends T> domainClass : orderedDomainClasses) {
+			int ordinal = 0;
+			for (Class<? extends T> c : domainClassInfoMap.get(domainClass).domainClasses) {
+				for (Field field : domainClassInfoMap.get(c).registeredFields) {
+					accessorByFieldMap.get(field).ordinal = ordinal;
+					fieldOrdinalMap.put(field, ordinal++);
+				}
+			}
+			domainClassInfoMap.get(domainClass).fieldCount = ordinal;
+
+			// Reference field ordinals follow the same scheme
+			domainClassInfoMap.get(domainClass).allReferenceFields = Collections.unmodifiableList(
+					domainClassInfoMap.get(domainClass).domainClasses.stream().flatMap(c -> domainClassInfoMap.get(c).referenceFields.stream()).collect(Collectors.toList()));
+			domainClassInfoMap.get(domainClass).allReferenceAccessors = toAccessors(domainClassInfoMap.get(domainClass).allReferenceFields);
+		}
 	}
 
 	// -------------------------------------------------------------------------
@@ -354,8 +553,14 @@ public class Registry<T extends DomainObject> extends CReflection {
 				continue;
 			}
 
-			// Allow access to field using Reflection
+			// Allow access to field using Reflection and create accessor for field
 			field.setAccessible(true);
+			try {
+				accessorByFieldMap.put(field, new FieldAccessor(field));
+			}
+			catch (IllegalAccessException e) {
+				throw new DomainException("Accessor for field '" + qualifiedName(field) + "' cannot be created: " + e.getMessage());
+			}
 
 			// Register field by name
 			fieldByNameMap.get(domainClass).put(field.getName(), field);
@@ -366,19 +571,29 @@ public class Registry<T extends DomainObject> extends CReflection {
 			String fieldDeclaration = fieldDeclaration(field).replaceAll("\\w+\\#", ""); // Log simple field type excluding declaring class prefix
 			String qualifiedName = qualifiedName(field);
 			String deprecated = (field.isAnnotationPresent(Deprecated.class) ? " (deprecated)" : "");
+			String indexed = (field.isAnnotationPresent(Indexed.class) ? (isSortedIndex(field) ? " (sorted index)" : " (index)") : "");
 
 			if (isDataField(field)) {
 
 				// Simple data field
 				domainClassInfoMap.get(domainClass).dataFields.add(field);
-				log.info("REG:\t\t{}; \t// data field{}", fieldDeclaration, deprecated);
+				if (!indexed.isEmpty()) {
+					if (isSortedIndex(field) && !type.isPrimitive() && !Comparable.class.isAssignableFrom(type)) {
+						throw new DomainException("Sorted index cannot be maintained for field '" + qualifiedName + "' because field type '" + type.getSimpleName() + "' is not comparable!");
+					}
+					domainClassInfoMap.get(domainClass).indexedFields.add(field);
+				}
+				log.info("REG:\t\t{}; \t// data field{}{}", fieldDeclaration, indexed, deprecated);
 			}
 			else if (isReferenceField(field)) {
 
 				// Reference field
 				domainClassInfoMap.get(domainClass).referenceFields.add(field);
+				if (!indexed.isEmpty()) {
+					domainClassInfoMap.get(domainClass).indexedFields.add(field);
+				}
 				String innerClass = (Arrays.asList(domainClass.getDeclaredClasses()).contains(type) ? "to inner class object " : "");
-				log.info("REG:\t\t{}; \t// reference{}{}", fieldDeclaration, innerClass, deprecated);
+				log.info("REG:\t\t{}; \t// reference{}{}{}", fieldDeclaration, innerClass, indexed, deprecated);
 			}
 			else if (isAccumulationField(field)) {
 
@@ -430,6 +645,7 @@ public class Registry<T extends DomainObject> extends CReflection {
 		Class<? extends T> domainClass = getCastedDeclaringDomainClass(field);
 		String fieldDeclaration = fieldDeclaration(field);
 
+		domainClassInfoMap.get(domainClass).indexedFields.remove(field);
 		if (domainClassInfoMap.get(domainClass).dataFields.contains(field)) {
 			domainClassInfoMap.get(domainClass).dataFields.remove(field);
 			log.info("REG: Unregistered data field: {}", fieldDeclaration);
@@ -445,6 +661,8 @@ public class Registry<T extends DomainObject> extends CReflection {
 		else {
 			log.error("REG: Field {} was not registered!", fieldDeclaration);
 		}
+
+		freeze();
 	}
 
 	// Register accumulation fields for domain class
@@ -583,6 +801,10 @@ public class Registry<T extends DomainObject> extends CReflection {
 		domainClassInfoMap.clear();
 		fieldByNameMap.clear();
 		accumulationByReferenceFieldMap.clear();
+		accessorByFieldMap.clear();
+		registeredObjectDomainClasses = new ArrayList<>();
+		domainClassBySimpleNameMap.clear();
+		fieldOrdinalMap.clear();
 		preregisteredAccumulations.clear();
 		objectDomainClassesToRegister.clear();
 		domainClassesDuringRegistration.clear();
@@ -600,23 +822,125 @@ public class Registry<T extends DomainObject> extends CReflection {
 		}
 	}
 
+	// Resource containing names of domain classes - generated at compile time by domain class index processor (see 'processor' project)
+	public static final String DOMAIN_CLASS_INDEX_RESOURCE = "META-INF/com.icx.domain/domain-classes";
+
+	// Read names of domain classes in given package and sub packages from domain class index resources on class path - returns empty list if no such class is indexed
+	private static List<String> readDomainClassIndex(ClassLoader cl, String domainPackageName) throws DomainException {
+
+		List<String> classNames = new ArrayList<>();
+		try {
+			Enumeration<URL> urls = cl.getResources(DOMAIN_CLASS_INDEX_RESOURCE);
+			while (urls.hasMoreElements()) {
+				URL url = urls.nextElement();
+				try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+					reader.lines().map(String::trim).filter(className -> className.startsWith(domainPackageName + ".")).forEach(classNames::add);
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new DomainException("Domain class index '" + DOMAIN_CLASS_INDEX_RESOURCE + "' cannot be read: " + e.getMessage());
+		}
+		return classNames;
+	}
+
+	// Check if all indexed classes can be loaded - index may be outdated if classes were removed or renamed and index was not regenerated
+	private static boolean allIndexedClassesExist(ClassLoader cl, List<String> classNames) {
+
+		for (String className : classNames) {
+			try {
+				Class.forName(className, false, cl);
+			}
+			catch (ClassNotFoundException | LinkageError e) {
+				log.warn("REG: Domain class index '{}' is outdated - indexed class '{}' does not exist", DOMAIN_CLASS_INDEX_RESOURCE, className);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Get domain classes given class depends on: superclass and domain classes used as field type or type argument of field type
+	private Set<Class<?>> getDependentDomainClasses(Class<?> cls) {
+
+		Set<Class<?>> dependentDomainClasses = new HashSet<>();
+		if (baseClass.isAssignableFrom(cls.getSuperclass()) && cls.getSuperclass() != baseClass) {
+			dependentDomainClasses.add(cls.getSuperclass());
+		}
+		for (Field field : cls.getDeclaredFields()) {
+			List<Type> types = new ArrayList<>(Collections.singletonList(field.getType()));
+			if (field.getGenericType() instanceof ParameterizedType) {
+				types.addAll(Arrays.asList(((ParameterizedType) field.getGenericType()).getActualTypeArguments()));
+			}
+			types.stream().filter(t -> t instanceof Class<?> && baseClass.isAssignableFrom((Class<?>) t) && t != baseClass).forEach(t -> dependentDomainClasses.add((Class<?>) t));
+		}
+		for (Class<?> nestedClass : cls.getDeclaredClasses()) {
+			if (baseClass.isAssignableFrom(nestedClass)) {
+				dependentDomainClasses.addAll(getDependentDomainClasses(nestedClass));
+			}
+		}
+		return dependentDomainClasses;
+	}
+
+	// Check if domain class index covers all domain classes in given package indexed domain classes depend on - index may be incomplete if some domain classes were compiled without index
+	// processor. Note: domain classes no indexed class depends on cannot be detected as missing here
+	private boolean indexCoversDependentDomainClasses(ClassLoader cl, List<String> classNames, String domainPackageName) {
+
+		Set<String> indexedClassNames = new HashSet<>(classNames);
+		for (String className : classNames) {
+			Class<?> cls;
+			try {
+				cls = Class.forName(className, false, cl);
+			}
+			catch (ClassNotFoundException | LinkageError e) {
+				return false; // Already checked before
+			}
+			if (!baseClass.isAssignableFrom(cls)) {
+				continue;
+			}
+
+			for (Class<?> dependentDomainClass : getDependentDomainClasses(cls)) {
+				Class<?> topLevelClass = dependentDomainClass;
+				while (topLevelClass.getEnclosingClass() != null) {
+					topLevelClass = topLevelClass.getEnclosingClass();
+				}
+				if (topLevelClass.getName().startsWith(domainPackageName + ".") && !indexedClassNames.contains(topLevelClass.getName())) {
+					log.warn("REG: Domain class index '{}' is incomplete - domain class '{}' which indexed domain class '{}' depends on is not indexed", DOMAIN_CLASS_INDEX_RESOURCE,
+							topLevelClass.getName(), className);
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	// Register domain classes in specified package
 	public void registerDomainClasses(Class<T> baseClass, String domainPackageName) throws DomainException {
 
 		// Reset all lists and maps for registration
 		init(baseClass);
 
-		// Find all object domain classes in given package and sub packages
+		// Find all object domain classes in given package and sub packages - use domain class index generated at compile time if available and consistent, scan class path otherwise
 		ClassLoader cl = Thread.currentThread().getContextClassLoader();
-		for (ClassInfo classinfo : ClassPath.from(cl).getTopLevelClassesRecursive(domainPackageName)) {
+		List<String> classNames = readDomainClassIndex(cl, domainPackageName);
+		if (classNames.isEmpty() || !allIndexedClassesExist(cl, classNames) || !indexCoversDependentDomainClasses(cl, classNames, domainPackageName)) {
+			if (!classNames.isEmpty()) {
+				log.warn("REG: Domain class index '{}' cannot be used - scan class path for domain classes in package {}", DOMAIN_CLASS_INDEX_RESOURCE, domainPackageName);
+			}
+			classNames = ClassPath.from(cl).getTopLevelClassesRecursive(domainPackageName).stream().map(ClassInfo::getName).collect(Collectors.toList());
+		}
+		else {
+			log.info("REG: Use domain class index '{}' for package {}", DOMAIN_CLASS_INDEX_RESOURCE, domainPackageName);
+		}
+
+		for (String className : classNames) {
 			try {
-				Class<? extends T> cls = castDomainClass(Class.forName(classinfo.getName()));
+				Class<? extends T> cls = castDomainClass(Class.forName(className));
 				if (baseClass.isAssignableFrom(cls) && isObjectDomainClass(cls)) {
 					objectDomainClassesToRegister.add(cls);
 				}
 			}
 			catch (ClassNotFoundException e) {
-				throw new DomainException("Class '" + classinfo.getName() + "' found as Domain class cannot be loaded");
+				throw new DomainException("Class '" + className + "' found as Domain class cannot be loaded");
 			}
 		}
 
@@ -635,6 +959,9 @@ public class Registry<T extends DomainObject> extends CReflection {
 
 		// Register accumulation fields
 		registerAccumulationFields();
+
+		// Precompute lists of domain classes and fields
+		freeze();
 	}
 
 	// Register specified domain classes
@@ -661,6 +988,9 @@ public class Registry<T extends DomainObject> extends CReflection {
 
 		// Register accumulation fields
 		registerAccumulationFields();
+
+		// Precompute lists of domain classes and fields
+		freeze();
 	}
 
 	// Check for circular references involving given domain class
@@ -0,0 +1,339 @@
+package com.icx.domain;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.icx.common.CReflection;
+
+/**
+ * Immutable point-in-time view of registered domain objects of selected domain classes created by {@link DomainController#snapshot(Class...)}.
+ * <p>
+ * Snapshot holds copies of data, reference and complex field values of all captured objects (one array of copied field values per object, indexed by field ordinal) and parent/child relations derived from captured
+ * reference values. Reading from snapshot never blocks domain controller operations and is not affected by subsequent changes of objects - so snapshots are intended for long-running reports which
+ * need a consistent state of objects while objects are changed, saved or loaded in parallel.
+ * <p>
+ * Snapshot is consistent with respect to changes made by domain controller (registering, unregistering and loading objects). Field changes made directly by application threads while snapshot is
+ * captured are reflected only if they were done before capturing the object.
+ * <p>
+ * Objects themselves are only used as keys - report code should read field values using {@link #get(DomainObject, String)} instead of accessing fields of objects directly.
+ *
+ * @param <T>
+ *            type of domain objects
+ *
+ * @author baumgrai
+ */
+public final class Snapshot<T extends DomainObject> {
+
+	static final Logger log = LoggerFactory.getLogger(Snapshot.class);
+
+	// Registry of domain controller
+	private final Registry<T> registry;
+
+	// Captured objects by captured domain class
+	private final Map<Class<? extends T>, Set<T>> objectsByDomainClassMap = new HashMap<>();
+
+	// Captured field values by object - values are stored at field ordinal
+	private final Map<T, Object[]> valuesByObjectMap = new HashMap<>();
+
+	// Captured children by reference field by referenced (parent) object
+	private final Map<Field, Map<T, Set<T>>> childrenByReferenceFieldMap = new HashMap<>();
+
+	// Time of capture
+	private final long capturedAt = System.currentTimeMillis();
+
+	// True if no domain controller write phase overlapped capture
+	private boolean isConsistent = true;
+
+	// True if copying any collection or map failed because it was changed concurrently - value is missing in this case
+	private boolean isCaptureIncomplete = false;
+
+	Snapshot(
+			Registry<T> registry) {
+
+		this.registry = registry;
+	}
+
+	// -------------------------------------------------------------------------
+	// Capture (only by domain controller)
+	// -------------------------------------------------------------------------
+
+	// Copy field value - collections, maps and arrays are copied too to keep snapshot immutable
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object copyValue(Object value) {
+
+		if (value instanceof SortedMap) {
+			return Collections.unmodifiableSortedMap(new TreeMap<>((SortedMap) value));
+		}
+		else if (value instanceof Map) {
+			return Collections.unmodifiableMap(new HashMap<>((Map) value));
+		}
+		else if (value instanceof Set) {
+			return Collections.unmodifiableSet(new HashSet<>((Set) value));
+		}
+		else if (value instanceof Collection) {
+			return Collections.unmodifiableList(new ArrayList<>((Collection) value));
+		}
+		else if (value != null && value.getClass().isArray()) {
+			int length = Array.getLength(value);
+			Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+			System.arraycopy(value, 0, copy, 0, length);
+			return copy;
+		}
+		return value;
+	}
+
+	// Capture objects of given domain class - objects of derived domain classes are contained too
+	void capture(Class<? extends T> domainClass, Collection<? extends T> objects) {
+
+		Set<T> capturedObjects = new HashSet<>();
+		for (T obj : objects) {
+			capturedObjects.add(obj);
+			if (!valuesByObjectMap.containsKey(obj)) {
+				valuesByObjectMap.put(obj, captureValues(obj));
+			}
+		}
+		objectsByDomainClassMap.put(domainClass, Collections.unmodifiableSet(capturedObjects));
+	}
+
+	// Copy registered field values of object into array indexed by field ordinal
+	private Object[] captureValues(T obj) {
+
+		Class<? extends T> objectDomainClass = registry.getCastedDomainClass(obj);
+		Object[] values = new Object[registry.getFieldCount(objectDomainClass)];
+		for (Class<? extends T> domainClass : registry.getDomainClassesFor(objectDomainClass)) {
+			for (Field field : registry.getRegisteredFields(domainClass)) {
+				FieldAccessor accessor = registry.getAccessor(field);
+				try {
+					values[(accessor != null ? accessor.getOrdinal() : registry.getFieldOrdinal(field))] = copyValue(accessor != null ? accessor.get(obj) : obj.getFieldValue(field));
+				}
+				catch (ConcurrentModificationException cmex) { // Collection or map was changed in place by domain controller (loading) while copying it
+					isCaptureIncomplete = true;
+				}
+			}
+		}
+		return values;
+	}
+
+	// Build parent/child relations from captured reference values after all objects were captured
+	@SuppressWarnings("unchecked")
+	void buildChildren() {
+
+		for (Map.Entry<T, Object[]> entry : valuesByObjectMap.entrySet()) {
+			for (Field refField : registry.getAllReferenceFields(registry.getCastedDomainClass(entry.getKey()))) {
+				Object parent = entry.getValue()[registry.getFieldOrdinal(refField)];
+				if (parent != null) {
+					childrenByReferenceFieldMap.computeIfAbsent(refField, f -> new HashMap<>()).computeIfAbsent((T) parent, p -> new HashSet<>()).add(entry.getKey());
+				}
+			}
+		}
+	}
+
+	// Check if any field value could not be captured due to concurrent modification
+	boolean isCaptureIncomplete() {
+		return isCaptureIncomplete;
+	}
+
+	// Mark snapshot as possibly inconsistent
+	void setInconsistent() {
+		isConsistent = false;
+	}
+
+	// -------------------------------------------------------------------------
+	// Read snapshot
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Get time when snapshot was captured.
+	 *
+	 * @return time of capture in milliseconds since epoch
+	 */
+	public long getCapturedAt() {
+		return capturedAt;
+	}
+
+	/**
+	 * Check if snapshot was captured without any overlapping change of domain controller.
+	 * <p>
+	 * Snapshots are inconsistent only if domain controller permanently changed objects while trying to capture snapshot (see {@link DomainController#snapshot(Class...)}). Collection or map fields
+	 * which were changed while copying them are null in inconsistent snapshots.
+	 *
+	 * @return true if snapshot is consistent, false otherwise
+	 */
+	public boolean isConsistent() {
+		return isConsistent;
+	}
+
+	/**
+	 * Check if object was captured in snapshot.
+	 *
+	 * @param obj
+	 *            domain object
+	 *
+	 * @return true if object was registered at capture time and its domain class or one of its base classes was selected for snapshot
+	 */
+	public boolean contains(DomainObject obj) {
+		return valuesByObjectMap.containsKey(obj);
+	}
+
+	/**
+	 * Get all captured objects of domain class.
+	 *
+	 * @param <S>
+	 *            specific domain class type
+	 * @param domainClass
+	 *            domain class selected for snapshot
+	 *
+	 * @return immutable set of objects registered at capture time - empty set if domain class was not selected for snapshot
+	 */
+	@SuppressWarnings("unchecked")
+	public <S extends T> Set<S> all(Class<S> domainClass) {
+
+		Set<T> objects = objectsByDomainClassMap.get(domainClass);
+		if (objects == null) {
+			log.error("DC: Domain class '{}' was not selected for snapshot!", domainClass.getSimpleName());
+			return Collections.emptySet();
+		}
+		return (Set<S>) objects;
+	}
+
+	/**
+	 * Get captured value of data, reference or complex field of object.
+	 *
+	 * @param obj
+	 *            captured object
+	 * @param field
+	 *            registered field of object domain class or any of its base classes
+	 *
+	 * @return field value at capture time - collections, maps and arrays are immutable copies
+	 */
+	public Object get(DomainObject obj, Field field) {
+
+		Object[] values = valuesByObjectMap.get(obj);
+		if (values == null) {
+			log.error("DC: Object {} was not captured in snapshot!", obj.name());
+			return null;
+		}
+
+		if (registry.getDomainClassesFor(registry.getCastedDomainClass(obj)).stream().noneMatch(c -> registry.getRegisteredFields(c).contains(field))) {
+			log.error("DC: Field '{}' is not a registered field of {}!", CReflection.qualifiedName(field), obj.name());
+			return null;
+		}
+		return values[registry.getFieldOrdinal(field)];
+	}
+
+	/**
+	 * Get captured value of data, reference or complex field of object.
+	 *
+	 * @param obj
+	 *            captured object
+	 * @param fieldName
+	 *            name of registered field of object domain class or any of its base classes
+	 *
+	 * @return field value at capture time or null if field does not exist
+	 */
+	public Object get(DomainObject obj, String fieldName) {
+
+		Field field = registry.getFieldByName(registry.getCastedDomainClass(obj), fieldName);
+		if (field == null) {
+			log.error("DC: Field '{}' does not exist for {}!", fieldName, obj.name());
+			return null;
+		}
+		return get(obj, field);
+	}
+
+	/**
+	 * Get captured objects which referenced given object at capture time by given reference field.
+	 * <p>
+	 * Corresponds to accumulation of parent object at capture time if accumulation exists.
+	 *
+	 * @param <S>
+	 *            type of child objects
+	 * @param parent
+	 *            referenced object
+	 * @param childDomainClass
+	 *            domain class selected for snapshot containing reference field
+	 * @param refFieldName
+	 *            name of reference field of child domain class or any of its base classes
+	 *
+	 * @return immutable set of captured child objects - empty set if there are no children or reference field does not exist
+	 */
+	@SuppressWarnings("unchecked")
+	public <S extends T> Set<S> getChildren(T parent, Class<S> childDomainClass, String refFieldName) {
+
+		Field refField = registry.getFieldByName(childDomainClass, refFieldName);
+		if (refField == null || !registry.isReferenceField(refField)) {
+			log.error("DC: Field '{}' is not a reference field of domain class '{}'!", refFieldName, childDomainClass.getSimpleName());
+			return Collections.emptySet();
+		}
+
+		Set<T> children = childrenByReferenceFieldMap.getOrDefault(refField, Collections.emptyMap()).get(parent);
+		if (children == null) {
+			return Collections.emptySet();
+		}
+
+		Set<S> objects = new HashSet<>();
+		children.stream().filter(childDomainClass::isInstance).forEach(o -> objects.add((S) o));
+		return Collections.unmodifiableSet(objects);
+	}
+
+	/**
+	 * Find captured objects of domain class which matched given query at capture time.
+	 *
+	 * @param <S>
+	 *            specific domain class type
+	 * @param domainClass
+	 *            domain class selected for snapshot
+	 * @param query
+	 *            query on data and reference fields of domain class or of its base classes
+	 *
+	 * @return captured objects matching query - empty set if query is invalid for domain class
+	 */
+	public <S extends T> Set<S> findAllByQuery(Class<S> domainClass, Query query) {
+
+		Predicate<T> predicate;
+		try {
+			predicate = DomainController.toPredicate(registry, domainClass, query, this::get);
+		}
+		catch (DomainException e) {
+			log.error("DC: Invalid query for domain class '{}': {}", domainClass.getSimpleName(), e.getMessage());
+			return new HashSet<>();
+		}
+
+		Set<S> objects = new HashSet<>();
+		all(domainClass).stream().filter(predicate).forEach(objects::add);
+		return objects;
+	}
+
+	/**
+	 * Find captured objects of domain class which matched given predicate at capture time.
+	 *
+	 * @param <S>
+	 *            specific domain class type
+	 * @param domainClass
+	 *            domain class selected for snapshot
+	 * @param predicate
+	 *            predicate on captured objects - must use {@link #get(DomainObject, String)} to read field values
+	 *
+	 * @return captured objects matching predicate
+	 */
+	public <S extends T> Set<S> findAll(Class<S> domainClass, Predicate<S> predicate) {
+
+		Set<S> objects = new HashSet<>();
+		all(domainClass).stream().filter(predicate).forEach(objects::add);
+		return objects;
+	}
+}
@@ -0,0 +1,58 @@
+package com.icx.domain;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Default object store based on {@link ConcurrentSkipListMap} - iterates objects in order of their ids. Only used internally.
+ *
+ * @param <T>
+ *            type of domain objects
+ *
+ * @author baumgrai
+ */
+class SortedObjectStore<T extends DomainObject> implements ObjectStore<T> {
+
+	private final ConcurrentNavigableMap<Long, T> map = new ConcurrentSkipListMap<>();
+
+	@Override
+	public T get(long id) {
+		return map.get(id);
+	}
+
+	@Override
+	public boolean containsKey(long id) {
+		return map.containsKey(id);
+	}
+
+	@Override
+	public void put(long id, T obj) {
+		map.put(id, obj);
+	}
+
+	@Override
+	public T putIfAbsent(long id, T obj) {
+		return map.putIfAbsent(id, obj);
+	}
+
+	@Override
+	public T remove(long id) {
+		return map.remove(id);
+	}
+
+	@Override
+	public int size() {
+		return map.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return map.isEmpty();
+	}
+
+	@Override
+	public Collection<T> values() {
+		return map.values();
+	}
+}
@@ -0,0 +1,60 @@
+package com.icx.domain;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default, lock-free id generator using current time, a counter and a random value.
+ * <p>
+ * Id scheme: milliseconds * 1.000.000 + (counter % 1000 starting randomly with 0, 100, ..., 900) * 1000 + random integer % 1000.
+ * <p>
+ * Milliseconds and counter are held together in one atomic value which is updated using compare-and-set - so ids generated within the same JVM are unique even if more than 1000 ids are generated
+ * within one millisecond (in this case milliseconds part of id runs ahead of current time). Random part reduces the probability of id collisions between different JVMs.
+ * 
+ * @author baumgrai
+ */
+public class TimeBasedIdGenerator implements IdGenerator {
+
+	// Milliseconds * 1000 + counter within milliseconds of last generated id - shared by all instances
+	private static final AtomicLong lastTimeAndCounter = new AtomicLong(0);
+
+	// Reserve given number of time/counter values and return first one
+	private static long reserveTimeAndCounterValues(int count) {
+
+		while (true) {
+			long last = lastTimeAndCounter.get();
+			long next = Math.max(System.currentTimeMillis() * 1000 + ThreadLocalRandom.current().nextInt(10) * 100, last + 1); // Start new milliseconds with random counter
+			if (next / 1000 == last / 1000) {
+				next = last + 1; // Do not restart counter randomly within same milliseconds
+			}
+			if (lastTimeAndCounter.compareAndSet(last, next + count - 1)) {
+				return next;
+			}
+		}
+	}
+
+	// Build id from time/counter value
+	private static long buildId(long timeAndCounter) {
+		return timeAndCounter * 1000 + ThreadLocalRandom.current().nextInt(1000);
+	}
+
+	@Override
+	public long nextId() {
+		return buildId(reserveTimeAndCounterValues(1));
+	}
+
+	@Override
+	public long[] reserveIds(int count) {
+
+		long[] ids = new long[count];
+		if (count == 0) {
+			return ids;
+		}
+
+		long first = reserveTimeAndCounterValues(count);
+		for (int i = 0; i < count; i++) {
+			ids[i] = buildId(first + i);
+		}
+		return ids;
+	}
+}
@@ -34,6 +34,72 @@ public abstract class Annotations {
 	public @interface UseDataHorizon {
 	}
 
+	// ----------------------------------------------------------------------
+	// Cache mode
+	// ----------------------------------------------------------------------
+
+	/**
+	 * Eviction policies for cached domain classes.
+	 */
+	public enum EvictionPolicy {
+		/**
+		 * Evict least recently used objects first
+		 */
+		LRU,
+		/**
+		 * Evict least frequently used objects first
+		 */
+		LFU
+	}
+
+	/**
+	 * For object domain classes: Hold only a bounded number of objects of this domain class in local object store (heap).
+	 * <p>
+	 * Objects of cached domain classes are not bulk loaded on {@link SqlDomainController#synchronize(Class...)} - only objects which are currently registered are refreshed. Objects which are not
+	 * registered are loaded from database on demand by {@link SqlDomainController#find(Class, long)} and {@link SqlDomainController#get(Class, long)} or if they are referenced by loaded objects.
+	 * <p>
+	 * If number of registered objects exceeds capacity after loading objects, objects will be evicted (unregistered) according eviction policy. Only stored objects without unsaved changes which are
+	 * not referenced by any registered object can be evicted (referential integrity). Access is tracked on {@code find()} and {@code get()} (approximately if objects are accessed concurrently).
+	 * <p>
+	 * Note: Accumulations of parent objects contain only registered children. Evicted objects, which are still held by application, are not managed by domain controller anymore.
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	public @interface Cached {
+
+		/**
+		 * Maximum number of registered objects of domain class
+		 * 
+		 * @return capacity
+		 */
+		public int capacity() default 10000;
+
+		/**
+		 * Eviction policy
+		 * 
+		 * @return policy to select objects to evict
+		 */
+		public EvictionPolicy policy() default EvictionPolicy.LRU;
+	}
+
+	// ----------------------------------------------------------------------
+	// Dirty tracking
+	// ----------------------------------------------------------------------
+
+	/**
+	 * For domain classes: Track field changes explicitly instead of comparing all fields with database state on saving objects.
+	 * <p>
+	 * Field changes of objects of such domain classes must be reported by {@link SqlDomainObject#markDirty(String)} or made by {@link SqlDomainObject#setAndMarkDirty(String, Object)}. On saving an
+	 * already stored object only fields marked as changed since last saving are compared with database state - saving an object without marked changes does not access database. Changes of fields which
+	 * are not marked are NOT saved - use {@link SqlDomainObject#markDirty()} to force comparing all fields on next saving.
+	 * <p>
+	 * Applies to all fields of object if object domain class or any of its inherited domain classes is annotated. New objects are always saved completely.
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	public @interface DirtyTracking {
+	}
+
 	// ----------------------------------------------------------------------
 	// Version control
 	// ----------------------------------------------------------------------
@@ -284,4 +350,29 @@ public abstract class Annotations {
 	public @interface Crypt {
 	}
 
+	// ----------------------------------------------------------------------
+	// In-memory indexes
+	// ----------------------------------------------------------------------
+
+	/**
+	 * For data and reference fields: Maintain an in-memory index of objects by value of this field in the object store of the domain controller.
+	 * <p>
+	 * Objects of indexed fields can be found using {@link com.icx.domain.DomainController#findByIndex(Class, String, Object)} without scanning all objects of domain class. Sorted indexes also
+	 * support range queries using {@link com.icx.domain.DomainController#findByIndexRange(Class, String, Object, Object)} and require field values to be {@code Comparable}.
+	 * <p>
+	 * Like accumulations indexes are updated on registering, saving and loading objects. Use {@link com.icx.domain.DomainController#updateIndexes(com.icx.domain.DomainObject)} if index shall
+	 * reflect unsaved field changes. {@code null} values are not indexed.
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.FIELD)
+	public @interface Indexed {
+
+		/**
+		 * Define index as sorted index to allow range queries.
+		 * 
+		 * @return true for sorted index, false for hash index (default)
+		 */
+		public boolean sorted() default false;
+	}
+
 }
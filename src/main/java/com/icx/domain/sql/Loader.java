@@ -14,15 +14,22 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,12 +38,14 @@ import com.icx.common.AESCrypt;
 import com.icx.common.CCollection;
 import com.icx.common.CDateTime;
 import com.icx.common.CFile;
-import com.icx.common.CList;
 import com.icx.common.CLog;
 import com.icx.common.CMap;
 import com.icx.common.Common;
+import com.icx.domain.ChangeEvent;
 import com.icx.domain.DomainObject;
-import com.icx.domain.sql.Annotations.Crypt;
+import com.icx.domain.FieldAccessor;
+import com.icx.domain.sql.SqlDomainController.RecordBatchConsumer;
+import com.icx.jdbc.SqlConnection;
 import com.icx.jdbc.SqlDbException;
 import com.icx.jdbc.SqlDbHelpers;
 import com.icx.jdbc.SqlDbTable;
@@ -138,115 +147,262 @@ public class Loader extends Common {
 		return sde;
 	}
 
-	// Load object records for one object domain class - means one record per object, containing data of all tables associated with object domain class according inheritance
-	// e.g. class Racebike extends Bike -> tables [ DOM_BIKE, DOM_RACEBIKE ])
-	Map<Long, SortedMap<String, Object>> retrieveRecordsFromDatabase(int limit, Class<? extends SqlDomainObject> objectDomainClass, String whereClause, String syncWhereClause) {
+	// Streaming consumer of entry records ordered by object id - builds array, collection or map for one object as soon as all entry records of this object were retrieved and adds it to loaded
+	// object record with entry table name as key (perform table entries -> collection/map conversion here and not later during assignment of values to objects)
+	private class EntryRecordCollector implements Consumer<SortedMap<String, Object>> {
 
-		String whereClauseIncludingSyncCondition = whereClause;
-		if (!isEmpty(syncWhereClause)) {
-			whereClauseIncludingSyncCondition = (!isEmpty(whereClause) ? "(" + whereClause + ") AND " : "") + syncWhereClause;
+		Field complexField;
+		String entryTableName;
+		String refIdColumnName;
+		Map<Long, SortedMap<String, Object>> loadedRecordMap;
+
+		long currentObjectId = -1;
+		List<SortedMap<String, Object>> currentEntryRecords = new ArrayList<>();
+		Set<String> missingObjectNames = new HashSet<>();
+
+		EntryRecordCollector(
+				Field complexField,
+				Map<Long, SortedMap<String, Object>> loadedRecordMap) {
+
+			this.complexField = complexField;
+			this.entryTableName = sdc.getSqlRegistry().getEntryTableFor(complexField).name;
+			this.refIdColumnName = sdc.getSqlRegistry().getMainTableRefIdColumnFor(complexField).name;
+			this.loadedRecordMap = loadedRecordMap;
 		}
 
-		Map<Long, SortedMap<String, Object>> loadedRecordMap = new HashMap<>();
-		try {
-			// Load (main) object records and build up loaded records by id map
-			SelectDescription sd = buildSelectDescriptionForMainObjectRecords(objectDomainClass);
-			List<SortedMap<String, Object>> loadedRecords = sdc.sqlDb.selectFrom(cn, sd.joinedTableExpression, sd.allColumnNames, whereClauseIncludingSyncCondition, null, limit, null);
-			if (CList.isEmpty(loadedRecords)) {
-				return loadedRecordMap;
+		@Override
+		public void accept(SortedMap<String, Object> entryRecord) {
+
+			// Ignore entry record if main object record (referenced by object id) is not present
+			long objectId = ((Number) entryRecord.get(refIdColumnName)).longValue();
+			if (!loadedRecordMap.containsKey(objectId)) {
+				missingObjectNames.add(complexField.getDeclaringClass().getSimpleName() + "@" + objectId);
+				return;
 			}
-			for (SortedMap<String, Object> rec : loadedRecords) {
-				loadedRecordMap.put(((Number) rec.get(Const.ID_COL)).longValue(), rec);
+
+			// Entry records are ordered by object id - so all entry records of previous object are retrieved if object id changes
+			if (objectId != currentObjectId) {
+				flush();
+				currentObjectId = objectId;
 			}
+			currentEntryRecords.add(entryRecord);
+		}
 
-			// Load entry records for all complex (table related) fields and assign them to main object records using entry table name as key
-			String objectTableName = sdc.getSqlRegistry().getTableFor(objectDomainClass).name;
-			for (Class<?> domainClass : sdc.getRegistry().getDomainClassesFor(objectDomainClass)) {
+		// Build array, collection or map from entry records of current object
+		void flush() {
 
-				// For all table related fields...
-				for (Field complexField : sdc.getRegistry().getComplexFields(sdc.getRegistry().castDomainClass(domainClass))) {
+			if (currentEntryRecords.isEmpty()) {
+				return;
+			}
+
+			if (complexField.getType().isArray()) { // Array
+
+				Object array = Array.newInstance(complexField.getType().getComponentType(), currentEntryRecords.size());
+				int r = 0;
+				for (SortedMap<String, Object> entryRecord : currentEntryRecords) {
+					Array.set(array, r++, entryRecord.get(Const.ELEMENT_COL)); // Element of array cannot be a collection or map itself! (not supported)
+				}
+
+				loadedRecordMap.get(currentObjectId).put(entryTableName, array);
+			}
+			else { // Collection or map
+				ParameterizedType genericFieldType = ((ParameterizedType) complexField.getGenericType());
 
-					// Build table expression, column names and order-by clause to SELECT entry records
-					SelectDescription sde = buildSelectDescriptionForEntryRecords(sd.joinedTableExpression, objectTableName, complexField);
+				if (Collection.class.isAssignableFrom(complexField.getType())) { // Collection
 
-					// Load entry records (do not include sync condition in this secondary WHERE clause to ensure correct data loading even if another thread allocated object exclusively)
-					List<SortedMap<String, Object>> loadedEntryRecords = new ArrayList<>();
+					// Build representation of collection in object record
+					loadedRecordMap.get(currentObjectId).put(entryTableName, ComplexFieldHelpers.entryRecords2Collection(genericFieldType, currentEntryRecords));
 
+					// Update list field order number cache
+					if (List.class.isAssignableFrom(complexField.getType())) {
+						sdc.setOrderedListOrderNumbers(entryTableName, currentObjectId,
+								currentEntryRecords.stream().map(r -> ((Number) r.get(Const.ORDER_COL)).longValue()).collect(Collectors.toList()));
+					}
+				}
+				else { // Map
+						// Build representation of map in object records
+					loadedRecordMap.get(currentObjectId).put(entryTableName, ComplexFieldHelpers.entryRecords2Map(genericFieldType, currentEntryRecords));
+				}
+			}
+
+			currentEntryRecords = new ArrayList<>();
+		}
+	}
+
+	// Load entry records for all complex (table related) fields of object domain class and assign them to given object records using entry table name as key. Entry records can be selected by
+	// joining main tables using WHERE clause of main records if this clause alone determined loaded objects - otherwise they are selected by id lists of given object records
+	private void retrieveEntryRecordsFromDatabase(Connection entryCn, Class<? extends SqlDomainObject> objectDomainClass, SelectDescription sd, Map<Long, SortedMap<String, Object>> loadedRecordMap,
+			String whereClause, List<Object> values, boolean entriesSelectableByJoin) throws SQLException, SqlDbException {
+
+		String objectTableName = sdc.getSqlRegistry().getTableFor(objectDomainClass).name;
+		for (Class<?> domainClass : sdc.getRegistry().getDomainClassesFor(objectDomainClass)) {
+
+			// For all table related fields...
+			for (Field complexField : sdc.getRegistry().getComplexFields(sdc.getRegistry().castDomainClass(domainClass))) {
+
+				// Build table expression, column names and order-by clause to SELECT entry records - order by object id first to allow merging entry records object by object
+				SelectDescription sde = buildSelectDescriptionForEntryRecords(sd.joinedTableExpression, objectTableName, complexField);
+				EntryRecordCollector collector = new EntryRecordCollector(complexField, loadedRecordMap);
+				String orderByClause = collector.entryTableName + "." + collector.refIdColumnName + (!isEmpty(sde.orderByClause) ? ", " + sde.orderByClause : "");
+
+				// Load entry records (do not include sync condition in this secondary WHERE clause to ensure correct data loading even if another thread allocated object exclusively)
+				if (entriesSelectableByJoin) {
+
+					// SELECT entry records in one query by joining main tables with original WHERE clause - entry records of objects not loaded before are ignored by collector
+					sdc.sqlDb.selectFromStreaming(entryCn, sde.joinedTableExpression, sde.allColumnNames, whereClause, orderByClause, 0, values, sdc.fetchSize, collector);
+					collector.flush();
+				}
+				else {
 					// SELECT only entry records for actually loaded object records
 					String whereClauseBase = (!isEmpty(whereClause) ? "(" + whereClause + ") AND " : "");
 					for (String idsList : Helpers.buildStringLists(loadedRecordMap.keySet(), 1000)) { // Oracle limitation max 1000 elements in lists
 						String idListWhereClause = whereClauseBase + objectTableName + ".ID IN (" + idsList + ")";
-						loadedEntryRecords.addAll(sdc.sqlDb.selectFrom(cn, sde.joinedTableExpression, sde.allColumnNames, idListWhereClause, sde.orderByClause, 0, null));
+						sdc.sqlDb.selectFromStreaming(entryCn, sde.joinedTableExpression, sde.allColumnNames, idListWhereClause, orderByClause, 0, values, sdc.fetchSize, collector);
+						collector.flush();
 					}
+				}
 
-					// Group entry records by objects where they belong to
-					Map<Long, List<SortedMap<String, Object>>> entryRecordsByObjectIdMap = new HashMap<>();
-					String refIdColumnName = sdc.getSqlRegistry().getMainTableRefIdColumnFor(complexField).name;
-					Set<String> missingObjectNames = new HashSet<>();
-					for (SortedMap<String, Object> entryRecord : loadedEntryRecords) {
-
-						// Ignore entry record if main object record (referenced by object id) is not present
-						long objectId = ((Number) entryRecord.get(refIdColumnName)).longValue();
-						if (!loadedRecordMap.containsKey(objectId)) {
-							missingObjectNames.add(domainClass.getSimpleName() + "@" + objectId);
-							continue;
-						}
+				if (log.isDebugEnabled() && !collector.missingObjectNames.isEmpty()) {
+					log.debug("SDC: Ignore loaded entry records for objects {} where main record was not loaded before!", collector.missingObjectNames);
+				}
+			}
+		}
+	}
 
-						// Add entry record to entry records for object
-						entryRecordsByObjectIdMap.computeIfAbsent(objectId, m -> new ArrayList<>()).add(entryRecord);
-					}
+	// Runtime exception to pass checked exceptions of batch consumer through streaming record consumer
+	private static class BatchConsumerException extends RuntimeException {
 
-					if (log.isDebugEnabled() && !missingObjectNames.isEmpty()) {
-						log.debug("SDC: Ignore loaded entry records for objects {} where main record was not loaded before!", missingObjectNames);
-					}
+		private static final long serialVersionUID = 1L;
 
-					// Build array, collection or map from entry records and add it to loaded object record with entry table name as key
-					// (perform table entries -> collection/map conversion here and not later during assignment of values to objects)
-					String entryTableName = sdc.getSqlRegistry().getEntryTableFor(complexField).name;
+		BatchConsumerException(
+				Exception cause) {
 
-					if (complexField.getType().isArray()) { // Array
-						for (long objectId : entryRecordsByObjectIdMap.keySet()) {
+			super(cause.getClass().getSimpleName() + ": " + cause.getMessage(), cause);
+		}
+	}
 
-							Object array = Array.newInstance(complexField.getType().getComponentType(), entryRecordsByObjectIdMap.get(objectId).size());
-							int r = 0;
-							for (SortedMap<String, Object> entryRecord : entryRecordsByObjectIdMap.get(objectId)) {
-								Array.set(array, r++, entryRecord.get(Const.ELEMENT_COL)); // Element of array cannot be a collection or map itself! (not supported)
-							}
+	// Streaming consumer of (main) object records - collects records in batches and passes complete batches together with their entry records to batch consumer. Entry records of batches completed
+	// while result set of main records is still open are loaded using another pooled connection
+	private class RecordBatchCollector implements Consumer<SortedMap<String, Object>> {
 
-							loadedRecordMap.get(objectId).put(entryTableName, array);
-						}
-					}
-					else { // Collection or map
-						ParameterizedType genericFieldType = ((ParameterizedType) complexField.getGenericType());
+		Class<? extends SqlDomainObject> objectDomainClass;
+		SelectDescription sd;
+		String whereClause;
+		List<Object> values;
+		int batchSize;
+		RecordBatchConsumer batchConsumer;
+		boolean hasComplexFields;
+
+		Map<Long, SortedMap<String, Object>> loadedRecordMap = new HashMap<>();
+		int batchCount = 0;
+		SqlConnection entrySqlcn = null;
+
+		RecordBatchCollector(
+				Class<? extends SqlDomainObject> objectDomainClass,
+				SelectDescription sd,
+				String whereClause,
+				List<Object> values,
+				int batchSize,
+				RecordBatchConsumer batchConsumer) {
+
+			this.objectDomainClass = objectDomainClass;
+			this.sd = sd;
+			this.whereClause = whereClause;
+			this.values = values;
+			this.batchSize = batchSize;
+			this.batchConsumer = batchConsumer;
+			this.hasComplexFields = sdc.getRegistry().getDomainClassesFor(objectDomainClass).stream().anyMatch(c -> !sdc.getRegistry().getComplexFields(c).isEmpty());
+		}
 
-						if (Collection.class.isAssignableFrom(complexField.getType())) { // Collection
-							for (long objectId : entryRecordsByObjectIdMap.keySet()) {
+		@Override
+		public void accept(SortedMap<String, Object> rec) {
 
-								// Build representation of collection in object record
-								List<SortedMap<String, Object>> entryRecords = entryRecordsByObjectIdMap.get(objectId);
-								loadedRecordMap.get(objectId).put(entryTableName, ComplexFieldHelpers.entryRecords2Collection(genericFieldType, entryRecords));
+			loadedRecordMap.put(((Number) rec.get(Const.ID_COL)).longValue(), rec);
+			if (batchSize <= 0 || loadedRecordMap.size() < batchSize) {
+				return;
+			}
 
-								// Update list field order number cache
-								if (List.class.isAssignableFrom(complexField.getType())) {
-									sdc.setOrderedListOrderNumbers(entryTableName, objectId,
-											entryRecords.stream().map(r -> ((Number) r.get(Const.ORDER_COL)).longValue()).collect(Collectors.toList()));
-								}
-							}
-						}
-						else { // Map
-								// Build representation of map in object records
-							for (long objectId : entryRecordsByObjectIdMap.keySet()) {
-								loadedRecordMap.get(objectId).put(entryTableName, ComplexFieldHelpers.entryRecords2Map(genericFieldType, entryRecordsByObjectIdMap.get(objectId)));
-							}
-						}
-					}
+			try {
+				if (hasComplexFields && entrySqlcn == null) { // Result set is still open - use another connection for loading entry records
+					entrySqlcn = SqlConnection.open(sdc.sqlDb.getPool(), true);
 				}
+				flush((entrySqlcn != null ? entrySqlcn.cn : null), false);
+			}
+			catch (SQLException | SqlDbException e) {
+				throw new BatchConsumerException(e);
 			}
 		}
-		catch (SQLException | SqlDbException e) { // Method is indirectly used in Java functional interface (as part of select supplier) and therefore may not throw exceptions
+
+		// Load entry records for current batch and pass batch to consumer
+		void flush(Connection entryCn, boolean entriesSelectableByJoin) throws SQLException, SqlDbException {
+
+			if (loadedRecordMap.isEmpty()) {
+				return;
+			}
+
+			if (hasComplexFields) {
+				retrieveEntryRecordsFromDatabase(entryCn, objectDomainClass, sd, loadedRecordMap, whereClause, values, entriesSelectableByJoin);
+			}
+			batchConsumer.accept(Collections.singletonMap(objectDomainClass, loadedRecordMap));
+
+			loadedRecordMap = new HashMap<>();
+			batchCount++;
+		}
+
+		// Close connection for loading entry records if opened
+		void close() {
+			if (entrySqlcn != null) {
+				entrySqlcn.close();
+			}
+		}
+	}
+
+	// Load object records for one object domain class - means one record per object, containing data of all tables associated with object domain class according inheritance
+	// e.g. class Racebike extends Bike -> tables [ DOM_BIKE, DOM_RACEBIKE ]) - values are values for placeholders of WHERE clause (or null)
+	// Records are streamed from result set and passed to batch consumer in batches of given size (0: one batch containing all records) together with their entry records - so only records of one
+	// batch are held in memory if batch consumer builds objects from them. Batch consumer is called while result set is still open (except for last batch) - so it must not use connection of this
+	// loader
+	void retrieveRecordsFromDatabaseInBatches(int limit, Class<? extends SqlDomainObject> objectDomainClass, String whereClause, List<Object> values, String syncWhereClause, int batchSize,
+			RecordBatchConsumer batchConsumer) throws SQLException, SqlDbException {
+
+		String whereClauseIncludingSyncCondition = whereClause;
+		if (!isEmpty(syncWhereClause)) {
+			whereClauseIncludingSyncCondition = (!isEmpty(whereClause) ? "(" + whereClause + ") AND " : "") + syncWhereClause;
+		}
+
+		SelectDescription sd = buildSelectDescriptionForMainObjectRecords(objectDomainClass);
+		RecordBatchCollector collector = new RecordBatchCollector(objectDomainClass, sd, whereClause, values, batchSize, batchConsumer);
+		try {
+			// Stream (main) object records - complete batches are passed to consumer while streaming
+			sdc.sqlDb.selectFromStreaming(cn, sd.joinedTableExpression, sd.allColumnNames, whereClauseIncludingSyncCondition, null, limit, values, sdc.fetchSize, collector);
+
+			// Pass last (or only) batch to consumer - entry records can be selected using WHERE clause of main records if this clause alone determined loaded objects (no limit and no sync
+			// condition) and if all records fit in this batch
+			collector.flush(cn, limit <= 0 && isEmpty(syncWhereClause) && collector.batchCount == 0);
+		}
+		catch (BatchConsumerException bcex) {
+			Throwable cause = bcex.getCause();
+			log.error("SDC: {} processing loaded objects of domain class '{}': {}", cause.getClass().getSimpleName(), objectDomainClass.getName(), cause.getMessage());
+			if (cause instanceof SQLException) {
+				throw (SQLException) cause;
+			}
+			throw (SqlDbException) cause;
+		}
+		catch (SQLException | SqlDbException e) {
 			log.error("SDC: {} loading objects of domain class '{}' from database: {}", e.getClass().getSimpleName(), objectDomainClass.getName(), e.getMessage());
+			throw e;
 		}
+		finally {
+			collector.close();
+		}
+	}
+
+	// Load all object records for one object domain class (see above) at once
+	Map<Long, SortedMap<String, Object>> retrieveRecordsFromDatabase(int limit, Class<? extends SqlDomainObject> objectDomainClass, String whereClause, List<Object> values,
+			String syncWhereClause) throws SQLException, SqlDbException {
 
+		Map<Long, SortedMap<String, Object>> loadedRecordMap = new HashMap<>();
+		retrieveRecordsFromDatabaseInBatches(limit, objectDomainClass, whereClause, values, syncWhereClause, 0, loadedRecordsMap -> loadedRecordMap.putAll(loadedRecordsMap.get(objectDomainClass)));
 		return loadedRecordMap;
 	}
 
@@ -254,79 +410,165 @@ public class Loader extends Common {
 	// SELECT suppliers
 	// -------------------------------------------------------------------------
 
-	// Select supplier for loading all objects from database - considering data horizon for data horizon controlled domain classes
-	@SafeVarargs
-	final Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> selectAll(Class<? extends SqlDomainObject>... domainClassesToExclude) {
+	// Build database specific datetime string
+	private String toSqlDateTime(LocalDateTime datetime) {
+		return String.format(sdc.sqlDb.getDbType().dateTemplate(), datetime.format(DateTimeFormatter.ofPattern(CDateTime.DATETIME_MS_FORMAT)));
+	}
 
-		Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> loadedRecordsMapByDomainClassMap = new HashMap<>();
+	// # of object records loaded and built to objects at once on loading all objects or objects selected by WHERE clause (also max # of ids in lists used to select entry records of batch)
+	static final int LOAD_BATCH_SIZE = 1000;
+
+	// Select supplier for loading all objects from database - considering data horizon for data horizon controlled domain classes. On incremental loading select only records modified since
+	// watermark of domain class minus clock skew margin. Collect highest last modification date of loaded records by object domain class (new watermarks) in given map. Loaded records are passed
+	// to consumer in batches
+	void selectAll(Collection<Class<? extends SqlDomainObject>> domainClassesToExclude, boolean incrementally, Map<Class<? extends SqlDomainObject>, LocalDateTime> loadedWatermarkMap,
+			RecordBatchConsumer consumer) throws SQLException, SqlDbException {
 
 		// Build database specific datetime string for data horizon
-		String dataHorizon = String.format(sdc.sqlDb.getDbType().dateTemplate(), sdc.getCurrentDataHorizon().format(DateTimeFormatter.ofPattern(CDateTime.DATETIME_MS_FORMAT)));
+		String dataHorizon = toSqlDateTime(sdc.getCurrentDataHorizon());
 
-		// Load objects records for all registered object domain classes - consider data horizon if specified
+		// Build WHERE clauses for all registered object domain classes - consider data horizon if specified
+		Map<Class<? extends SqlDomainObject>, String> whereClauseByDomainClassMap = new LinkedHashMap<>();
 		for (Class<? extends SqlDomainObject> objectDomainClass : sdc.getRegistry().getRegisteredObjectDomainClasses()) {
-			if (domainClassesToExclude != null && Stream.of(domainClassesToExclude).anyMatch(objectDomainClass::isAssignableFrom)) { // Ignore objects of excluded domain classes
+			if (domainClassesToExclude.stream().anyMatch(objectDomainClass::isAssignableFrom)) { // Ignore objects of excluded domain classes
 				continue;
 			}
 
 			// For data horizon controlled object domain classes build WHERE clause for data horizon control
-			String whereClause = (sdc.getRegistry().isDataHorizonControlled(objectDomainClass) ? Const.LAST_MODIFIED_COL + ">=" + dataHorizon : null);
+			List<String> conditions = new ArrayList<>();
+			if (sdc.getRegistry().isDataHorizonControlled(objectDomainClass)) {
+				conditions.add(Const.LAST_MODIFIED_COL + ">=" + dataHorizon);
+			}
 
-			// Retrieve object records for one object domain class by SELECTing from database
-			Map<Long, SortedMap<String, Object>> loadedRecordsMap = retrieveRecordsFromDatabase(0, objectDomainClass, whereClause, null);
-			if (!CMap.isEmpty(loadedRecordsMap)) {
-				loadedRecordsMapByDomainClassMap.put(objectDomainClass, loadedRecordsMap);
+			// On incremental loading build WHERE clause for records modified since watermark
+			LocalDateTime watermark = (incrementally ? sdc.syncWatermarkMap.get(objectDomainClass) : null);
+			if (watermark != null) {
+				conditions.add(Const.LAST_MODIFIED_COL + ">=" + toSqlDateTime(CDateTime.subtract(watermark, sdc.syncClockSkewMargin)));
 			}
+
+			whereClauseByDomainClassMap.put(objectDomainClass, (conditions.isEmpty() ? null : String.join(" AND ", conditions)));
 		}
 
-		return loadedRecordsMapByDomainClassMap;
+		// Determine watermarks from batches before passing them to consumer
+		RecordBatchConsumer watermarkingConsumer = loadedRecordsMap -> {
+			for (Entry<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> entry : loadedRecordsMap.entrySet()) {
+				entry.getValue().values().stream().map(r -> (LocalDateTime) r.get(Const.LAST_MODIFIED_COL)).filter(Objects::nonNull).max(LocalDateTime::compareTo)
+						.ifPresent(lastModified -> loadedWatermarkMap.merge(entry.getKey(), lastModified, (w1, w2) -> (w1.isAfter(w2) ? w1 : w2)));
+			}
+			consumer.accept(loadedRecordsMap);
+		};
+
+		// Retrieve object records for object domain classes by SELECTing from database - in parallel if configured
+		if (sdc.parallelLoadThreads > 1 && whereClauseByDomainClassMap.size() > 1) {
+			retrieveRecordsFromDatabaseInParallel(whereClauseByDomainClassMap, watermarkingConsumer);
+		}
+		else {
+			for (Entry<Class<? extends SqlDomainObject>, String> entry : whereClauseByDomainClassMap.entrySet()) {
+				retrieveRecordsFromDatabaseInBatches(0, entry.getKey(), entry.getValue(), null, null, LOAD_BATCH_SIZE, watermarkingConsumer);
+			}
+		}
 	}
 
-	// Select supplier for loading objects of given object domain class which records in database match given WHERE clause (usage needs knowledge about Java -> SQL mapping)
-	Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> select(Class<? extends SqlDomainObject> objectDomainClass, String whereClause, int maxCount) {
+	// Retrieve object records (including entry records) for multiple object domain classes in parallel using executor of domain controller - every parallel load uses its own pooled connection.
+	// Entry records of one domain class are loaded by the same task as the main records because they are selected for the loaded object ids. Batches of loaded records are handed over to calling
+	// thread which passes them to consumer (building objects is not done in parallel) - bounded hand-over queue blocks loading threads if consumer is too slow to limit memory needed
+	private void retrieveRecordsFromDatabaseInParallel(Map<Class<? extends SqlDomainObject>, String> whereClauseByDomainClassMap, RecordBatchConsumer consumer)
+			throws SQLException, SqlDbException {
+
+		BlockingQueue<Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>>> batchQueue = new ArrayBlockingQueue<>(sdc.parallelLoadThreads);
+		Map<Class<? extends SqlDomainObject>, Future<Void>> futureByDomainClassMap = new LinkedHashMap<>();
+		for (Entry<Class<? extends SqlDomainObject>, String> entry : whereClauseByDomainClassMap.entrySet()) {
+			futureByDomainClassMap.put(entry.getKey(), sdc.getParallelLoadExecutor().submit(() -> {
+				try (SqlConnection sqlcn = SqlConnection.open(sdc.sqlDb.getPool(), true)) {
+					new Loader(sdc, sqlcn.cn).retrieveRecordsFromDatabaseInBatches(0, entry.getKey(), entry.getValue(), null, null, LOAD_BATCH_SIZE, loadedRecordsMap -> {
+						try {
+							batchQueue.put(loadedRecordsMap);
+						}
+						catch (InterruptedException iex) { // Loading was cancelled
+							Thread.currentThread().interrupt();
+							throw new SqlDbException("Parallel loading of objects of domain class '" + entry.getKey().getName() + "' was interrupted");
+						}
+					});
+					return null;
+				}
+			}));
+		}
 
-		// Try to SELECT object records FOR UPDATE
-		Map<Long, SortedMap<String, Object>> loadedRecordsMap = retrieveRecordsFromDatabase(maxCount, objectDomainClass, whereClause, null);
-		if (CMap.isEmpty(loadedRecordsMap)) {
-			return Collections.emptyMap();
+		// Pass batches to consumer until all loads are done - then check results in order of object domain classes. On any failure cancel remaining loads and propagate exception (objects of
+		// domain classes which were not loaded may not be treated as deleted)
+		try {
+			while (true) {
+				Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> loadedRecordsMap = batchQueue.poll(10, TimeUnit.MILLISECONDS);
+				if (loadedRecordsMap != null) {
+					consumer.accept(loadedRecordsMap);
+				}
+				else if (futureByDomainClassMap.values().stream().allMatch(Future::isDone)) {
+					while ((loadedRecordsMap = batchQueue.poll()) != null) { // Batches handed over just before load was done
+						consumer.accept(loadedRecordsMap);
+					}
+					break;
+				}
+			}
+
+			for (Entry<Class<? extends SqlDomainObject>, Future<Void>> entry : futureByDomainClassMap.entrySet()) {
+				try {
+					entry.getValue().get();
+				}
+				catch (ExecutionException eex) {
+					Throwable cause = eex.getCause();
+					if (cause instanceof SQLException) {
+						throw (SQLException) cause;
+					}
+					else if (cause instanceof SqlDbException) {
+						throw (SqlDbException) cause;
+					}
+					else if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					else if (cause instanceof Error) {
+						throw (Error) cause;
+					}
+					throw new SqlDbException(cause.getClass().getSimpleName() + " loading objects of domain class '" + entry.getKey().getName() + "': " + cause.getMessage());
+				}
+			}
 		}
+		catch (InterruptedException iex) {
+			log.error("SDC: Parallel loading of objects was interrupted!");
+			Thread.currentThread().interrupt();
+			throw new SqlDbException("Parallel loading of objects was interrupted");
+		}
+		finally {
+			futureByDomainClassMap.values().forEach(f -> f.cancel(true)); // Has no effect on completed loads
+		}
+	}
 
-		// Build map to return from supplier method
-		Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> loadedRecordsMapByDomainClassMap = new HashMap<>();
-		loadedRecordsMapByDomainClassMap.put(objectDomainClass, loadedRecordsMap);
-		return loadedRecordsMapByDomainClassMap;
+	// Select supplier for loading objects of given object domain class which records in database match given WHERE clause (usage needs knowledge about Java -> SQL mapping) - values are values
+	// for placeholders of WHERE clause (or null). Loaded records are passed to consumer in batches
+	void select(Class<? extends SqlDomainObject> objectDomainClass, String whereClause, List<Object> values, int maxCount, RecordBatchConsumer consumer) throws SQLException, SqlDbException {
+		retrieveRecordsFromDatabaseInBatches(maxCount, objectDomainClass, whereClause, values, null, LOAD_BATCH_SIZE, consumer);
 	}
 
 	// Create object with given id - only used for exclusive selection methods
 	private <S extends SqlDomainObject> S createWithId(Class<S> domainObjectClass, long id) {
 
-		synchronized (domainObjectClass) {
-
-			if (sdc.isRegistered(domainObjectClass, id)) { // An object of given domain class with given id already exists and is registered
+		S obj = sdc.instantiate(domainObjectClass);
+		if (obj != null) {
+			if (!sdc.registerById(obj, id)) { // An object of given domain class with given id already exists and is registered (registration is atomic)
 				if (log.isDebugEnabled()) {
 					log.debug("SDC: Thread collision on exclusive object selection for {}@{}", domainObjectClass, id);
 				}
 				return null;
 			}
-
-			S obj = sdc.instantiate(domainObjectClass);
-			if (obj != null) {
-				if (!sdc.registerById(obj, id)) {
-					log.warn("SDC: Synchronization issue! {}@{}", domainObjectClass, id); // Should not happen because of surrounding 'synchronized' block
-					return null;
-				}
-				if (log.isDebugEnabled()) {
-					log.debug("SDC: Created {} with given id", obj.universalId());
-				}
+			if (log.isDebugEnabled()) {
+				log.debug("SDC: Created {} with given id", obj.universalId());
 			}
-			return obj;
-
 		}
+		return obj;
 	}
 
 	// Select supplier used for synchronization if multiple instances access one database and have to process distinct objects (like orders)
 	Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> selectExclusively(Class<? extends SqlDomainObject> objectDomainClass, Class<? extends SqlDomainObject> inProgressClass,
-			String whereClause, int maxCount) {
+			String whereClause, List<Object> values, int maxCount) throws SQLException, SqlDbException {
 
 		// Build sync WHERE clause - exclude records which currently are in progress (in-progress record exists during SELECT)
 		String objectTableName = sdc.getSqlRegistry().getTableFor(objectDomainClass).name;
@@ -334,7 +576,7 @@ public class Loader extends Common {
 		String syncWhereClause = objectTableName + ".ID NOT IN (SELECT ID FROM " + inProgressTableName + ")";
 
 		// SELECT object records
-		Map<Long, SortedMap<String, Object>> rawRecordsMap = retrieveRecordsFromDatabase(maxCount, objectDomainClass, whereClause, syncWhereClause);
+		Map<Long, SortedMap<String, Object>> rawRecordsMap = retrieveRecordsFromDatabase(maxCount, objectDomainClass, whereClause, values, syncWhereClause);
 		if (CMap.isEmpty(rawRecordsMap)) {
 			return Collections.emptyMap();
 		}
@@ -377,12 +619,12 @@ public class Loader extends Common {
 	}
 
 	// SELECT record(s) for specific object from database and build domain object record for this object - returns empty record map if object could not be loaded
-	Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> selectObjectRecord(SqlDomainObject obj) {
+	Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> selectObjectRecord(SqlDomainObject obj) throws SQLException, SqlDbException {
 
 		String idWhereClause = sdc.getSqlRegistry().getTableFor(obj.getClass()).name + "." + Const.ID_COL + "=" + obj.getId();
 		Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> loadedRecordsMapByDomainClassMap = new HashMap<>();
 
-		Map<Long, SortedMap<String, Object>> loadedRecordsMap = retrieveRecordsFromDatabase(0, obj.getClass(), idWhereClause, null);
+		Map<Long, SortedMap<String, Object>> loadedRecordsMap = retrieveRecordsFromDatabase(0, obj.getClass(), idWhereClause, null, null);
 		if (!loadedRecordsMap.isEmpty()) {
 			loadedRecordsMapByDomainClassMap.put(obj.getClass(), loadedRecordsMap);
 		}
@@ -390,15 +632,99 @@ public class Loader extends Common {
 		return loadedRecordsMapByDomainClassMap;
 	}
 
+	// SELECT record(s) for object of given domain class with given id from database (cache mode: load object on demand) - returns empty record map if object does not exist
+	Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> selectObjectRecord(Class<? extends SqlDomainObject> domainClass, long id) throws SQLException, SqlDbException {
+
+		Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> loadedRecordsMapByDomainClassMap = new HashMap<>();
+		try {
+			// Determine object domain class if given domain class is a base class
+			Class<? extends SqlDomainObject> objectDomainClass = domainClass;
+			if (!sdc.getRegistry().isObjectDomainClass(domainClass)) {
+				String tableName = sdc.getSqlRegistry().getTableFor(domainClass).name;
+				List<SortedMap<String, Object>> records = sdc.sqlDb.selectFrom(cn, tableName, Const.DOMAIN_CLASS_COL, Const.ID_COL + "=" + id, null, 0, null);
+				if (records.isEmpty()) {
+					return loadedRecordsMapByDomainClassMap;
+				}
+				objectDomainClass = sdc.getDomainClassByName((String) records.get(0).get(Const.DOMAIN_CLASS_COL));
+				if (objectDomainClass == null) {
+					return loadedRecordsMapByDomainClassMap;
+				}
+			}
+
+			String idWhereClause = sdc.getSqlRegistry().getTableFor(objectDomainClass).name + "." + Const.ID_COL + "=" + id;
+			Map<Long, SortedMap<String, Object>> loadedRecordsMap = retrieveRecordsFromDatabase(0, objectDomainClass, idWhereClause, null, null);
+			if (!loadedRecordsMap.isEmpty()) {
+				loadedRecordsMapByDomainClassMap.put(objectDomainClass, loadedRecordsMap);
+			}
+		}
+		catch (SQLException | SqlDbException e) {
+			log.error("SDC: {} loading {}@{} from database: {}", e.getClass().getSimpleName(), domainClass.getSimpleName(), id, e.getMessage());
+			throw e;
+		}
+
+		return loadedRecordsMapByDomainClassMap;
+	}
+
+	// SELECT records of currently registered (and stored) objects of given object domain classes (cache mode: refresh objects of cached domain classes on synchronization)
+	Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> selectRegistered(Collection<Class<? extends SqlDomainObject>> objectDomainClasses) throws SQLException, SqlDbException {
+
+		Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> loadedRecordsMapByDomainClassMap = new HashMap<>();
+		for (Class<? extends SqlDomainObject> objectDomainClass : objectDomainClasses) {
+
+			Set<Long> ids = sdc.stream(objectDomainClass).filter(SqlDomainObject::isStored).map(SqlDomainObject::getId).collect(Collectors.toSet());
+			String tableName = sdc.getSqlRegistry().getTableFor(objectDomainClass).name;
+
+			Map<Long, SortedMap<String, Object>> collectedRecordMap = new HashMap<>();
+			for (String idsList : Helpers.buildStringLists(ids, 1000)) { // Oracle limitation max 1000 elements in lists
+				collectedRecordMap.putAll(retrieveRecordsFromDatabase(0, objectDomainClass, tableName + ".ID IN (" + idsList + ")", null, null));
+			}
+			if (!collectedRecordMap.isEmpty()) {
+				loadedRecordsMapByDomainClassMap.put(objectDomainClass, collectedRecordMap);
+			}
+		}
+
+		return loadedRecordsMapByDomainClassMap;
+	}
+
+	// Select ids of objects of given object domain classes existing in database - within data horizon for data horizon controlled domain classes - to detect deleted objects without loading records.
+	// Only ID column of table associated to object domain class is selected and streamed directly into id set - table of base domain class (containing LAST_MODIFIED) is joined only for data
+	// horizon condition
+	Map<Class<? extends SqlDomainObject>, Set<Long>> selectExistingIds(Collection<Class<? extends SqlDomainObject>> objectDomainClasses) throws SQLException, SqlDbException {
+
+		String dataHorizon = toSqlDateTime(sdc.getCurrentDataHorizon());
+
+		Map<Class<? extends SqlDomainObject>, Set<Long>> idsByDomainClassMap = new HashMap<>();
+		for (Class<? extends SqlDomainObject> objectDomainClass : objectDomainClasses) {
+
+			String objectTableName = sdc.getSqlRegistry().getTableFor(objectDomainClass).name;
+			String tableExpression = objectTableName;
+			String whereClause = null;
+			if (sdc.getRegistry().isDataHorizonControlled(objectDomainClass)) {
+				String baseTableName = sdc.getSqlRegistry().getTableFor(sdc.getRegistry().getDomainClassesFor(objectDomainClass).get(0)).name;
+				if (!objectsEqual(baseTableName, objectTableName)) {
+					tableExpression += " JOIN " + baseTableName + " ON " + baseTableName + ".ID=" + objectTableName + ".ID";
+				}
+				whereClause = baseTableName + "." + Const.LAST_MODIFIED_COL + ">=" + dataHorizon;
+			}
+
+			Set<Long> ids = new HashSet<>();
+			sdc.sqlDb.selectFromStreaming(cn, tableExpression, objectTableName + "." + Const.ID_COL, whereClause, null, 0, null, sdc.fetchSize,
+					rec -> ids.add(((Number) rec.get(Const.ID_COL)).longValue()));
+			idsByDomainClassMap.put(objectDomainClass, ids);
+		}
+
+		return idsByDomainClassMap;
+	}
+
 	// -------------------------------------------------------------------------
 	// Build objects from loaded records
 	// -------------------------------------------------------------------------
 
 	// Check if object has unsaved reference changes and assign field warning in this case
-	private void checkForUnsavedReferenceChange(SqlDomainObject obj, Field refField, String foreignKeyColumnName, Long parentObjectIdFromDatabase) {
+	private void checkForUnsavedReferenceChange(SqlDomainObject obj, Field refField, Long parentObjectIdFromDatabase) {
 
 		SqlDomainObject parentObj = (SqlDomainObject) obj.getFieldValue(refField);
-		Number parentObjectIdNumber = (Number) sdc.recordMap.get(obj.getClass()).get(obj.getId()).get(foreignKeyColumnName);
+		Number parentObjectIdNumber = (Number) sdc.recordMap.get(obj.getClass()).get(obj.getId()).get(sdc.getRegistry().getFieldOrdinal(refField));
 		Long parentObjectIdFromLocalObjectRecord = (parentObjectIdNumber != null ? parentObjectIdNumber.longValue() : null);
 
 		if (parentObj == null && parentObjectIdFromLocalObjectRecord != null) {
@@ -420,10 +746,10 @@ public class Loader extends Common {
 	}
 
 	// Check if object has unsaved value changes and assign field warning in this case
-	private void checkForUnsavedValueChange(SqlDomainObject obj, Field dataField, String columnName, Object fieldValueFromDatabase) {
+	private void checkForUnsavedValueChange(SqlDomainObject obj, Field dataField, Object fieldValueFromDatabase) {
 
 		Object fieldValue = obj.getFieldValue(dataField);
-		Object fieldValueFromObjectRecord = sdc.recordMap.get(obj.getClass()).get(obj.getId()).get(columnName);
+		Object fieldValueFromObjectRecord = sdc.recordMap.get(obj.getClass()).get(obj.getId()).get(sdc.getRegistry().getFieldOrdinal(dataField));
 
 		if (!objectsEqual(fieldValue, fieldValueFromObjectRecord)) {
 			log.warn("SDC: Data field '{}' of object '{}' has unsaved changed value {} which will be overridden by value {} from database!", dataField.getName(), obj.name(),
@@ -434,9 +760,9 @@ public class Loader extends Common {
 	}
 
 	// Check if object has unsaved changes in a collection or map and assign field warning in this case
-	private void checkForUnsavedComplexFieldChange(SqlDomainObject obj, Field complexField, String entryTableName, Object complexObjectFromField) {
+	private void checkForUnsavedComplexFieldChange(SqlDomainObject obj, Field complexField, Object complexObjectFromField) {
 
-		Object complexObjectFromColumn = sdc.recordMap.get(obj.getClass()).get(obj.getId()).get(entryTableName);
+		Object complexObjectFromColumn = sdc.recordMap.get(obj.getClass()).get(obj.getId()).get(sdc.getRegistry().getFieldOrdinal(complexField));
 		String objectType = (complexObjectFromField.getClass().isArray() ? "Array" : complexObjectFromField instanceof Collection ? "Collection" : "Map");
 
 		if (!objectsEqual(complexObjectFromField, complexObjectFromColumn)) {
@@ -471,7 +797,7 @@ public class Loader extends Common {
 					}
 
 					if (!isNew) {
-						checkForUnsavedReferenceChange(obj, refField, foreignKeyColumnName, oldParentId);
+						checkForUnsavedReferenceChange(obj, refField, oldParentId);
 					}
 
 					if (newParentId == null) { // Null reference
@@ -480,7 +806,7 @@ public class Loader extends Common {
 					else { // Object reference
 
 						// Check if referenced object is registered (already loaded on change in database)
-						SqlDomainObject newParentObject = sdc.find(sdc.getRegistry().getCastedReferencedDomainClass(refField), newParentId);
+						SqlDomainObject newParentObject = sdc.findRegistered(sdc.getRegistry().getCastedReferencedDomainClass(refField), newParentId);
 						if (newParentObject != null) { // Referenced object is registered (already loaded on change in database)
 							obj.setFieldValue(refField, newParentObject);
 						}
@@ -498,7 +824,7 @@ public class Loader extends Common {
 					// Check if referenced object is still registered and re-register it if not to assure referential integrity again
 					// Note: this scenario normally cannot happen because objects, which are referenced by any registered object, will not be unregistered automatically on synchronization (due to
 					// data horizon condition) - unit test explicitly unregisters referenced objects to force this branch
-					SqlDomainObject newParentObject = sdc.find(sdc.getRegistry().getCastedReferencedDomainClass(refField), oldParentId);
+					SqlDomainObject newParentObject = sdc.findRegistered(sdc.getRegistry().getCastedReferencedDomainClass(refField), oldParentId);
 					if (newParentObject == null) { // Referenced object is registered (already loaded on change in database)
 						sdc.reregister(oldParentObject);
 					}
@@ -506,19 +832,20 @@ public class Loader extends Common {
 			}
 
 			// Data fields: assign - potentially converted - values
-			Predicate<Field> hasValueChangedPredicate = (f -> databaseChangesMap.containsKey(sdc.getSqlRegistry().getColumnFor(f).name));
-			for (Field dataField : sdc.getRegistry().getDataFields(domainClass).stream().filter(hasValueChangedPredicate).collect(Collectors.toList())) {
+			Predicate<FieldAccessor> hasValueChangedPredicate = (a -> databaseChangesMap.containsKey(sdc.getSqlRegistry().getColumnFor(a.field).name));
+			for (FieldAccessor accessor : sdc.getRegistry().getDataAccessors(domainClass).stream().filter(hasValueChangedPredicate).collect(Collectors.toList())) {
 
+				Field dataField = accessor.field;
 				String columnName = sdc.getSqlRegistry().getColumnFor(dataField).name;
 				Object fieldValueFromDatabase = databaseChangesMap.get(columnName);
 
 				if (!isNew) {
-					checkForUnsavedValueChange(obj, dataField, columnName, fieldValueFromDatabase /* only for logging */);
+					checkForUnsavedValueChange(obj, dataField, fieldValueFromDatabase /* only for logging */);
 				}
 
 				// Decrypt encrypted value
 				Object fieldValue = null;
-				if (dataField.isAnnotationPresent(Crypt.class) && dataField.getType() == String.class && fieldValueFromDatabase != null) {
+				if (accessor.isCrypt && fieldValueFromDatabase != null) {
 
 					if (!isEmpty(sdc.cryptPassword)) {
 						try {
@@ -572,28 +899,29 @@ public class Loader extends Common {
 				}
 
 				// Set value for field
-				obj.setFieldValue(dataField, fieldValue);
+				obj.setFieldValue(accessor, fieldValue);
 
 				// Replace loaded column value by field value in database changes map - which will be used to update object record
 				databaseChangesMap.put(columnName, fieldValue);
 			}
 
 			// Complex (table related) fields: set field values of object to collection or map (conversion from entry table record was already done on loading entry records)
-			Predicate<Field> hasEntriesChangedPredicate = (f -> databaseChangesMap.containsKey(sdc.getSqlRegistry().getEntryTableFor(f).name));
-			for (Field complexField : sdc.getRegistry().getComplexFields(domainClass).stream().filter(hasEntriesChangedPredicate).collect(Collectors.toList())) {
+			Predicate<FieldAccessor> hasEntriesChangedPredicate = (a -> databaseChangesMap.containsKey(sdc.getSqlRegistry().getEntryTableFor(a.field).name));
+			for (FieldAccessor accessor : sdc.getRegistry().getComplexAccessors(domainClass).stream().filter(hasEntriesChangedPredicate).collect(Collectors.toList())) {
 
+				Field complexField = accessor.field;
 				String entryTableName = sdc.getSqlRegistry().getEntryTableFor(complexField).name;
-				Object complexObjectFromField = obj.getFieldValue(complexField);
+				Object complexObjectFromField = obj.getFieldValue(accessor);
 
 				if (!isNew) {
-					checkForUnsavedComplexFieldChange(obj, complexField, entryTableName, complexObjectFromField);
+					checkForUnsavedComplexFieldChange(obj, complexField, complexObjectFromField);
 				}
 
 				if (complexField.getType().isArray()) {
 					Object arrayFromColumn = databaseChangesMap.get(entryTableName);
 					Object arrayForField = Array.newInstance(complexField.getType().getComponentType(), Array.getLength(arrayFromColumn));
 					System.arraycopy(arrayFromColumn, 0, arrayForField, 0, Array.getLength(arrayFromColumn));
-					obj.setFieldValue(complexField, arrayForField);
+					obj.setFieldValue(accessor, arrayForField);
 				}
 				else if (Collection.class.isAssignableFrom(complexField.getType())) { // Collection
 					Collection<Object> collectionFromField = (Collection<Object>) complexObjectFromField;
@@ -613,15 +941,25 @@ public class Loader extends Common {
 
 		// Reflect database changes in local object record - do this not until all checks for unsaved changes were done
 		if (isNew) {
-			sdc.recordMap.get(obj.getClass()).put(obj.getId(), databaseChangesMap);
-		}
-		else {
-			sdc.recordMap.get(obj.getClass()).get(obj.getId()).putAll(databaseChangesMap);
+			sdc.recordMap.get(obj.getClass()).put(obj.getId(), sdc.newObjectRecord(obj.getClass()));
 		}
+		sdc.recordMap.get(obj.getClass()).get(obj.getId()).putAll(databaseChangesMap);
 
 		return isAnyReferenceChanged;
 	}
 
+	// Get data, reference and complex fields of object which are associated with columns or entry tables contained in database changes map
+	private Set<Field> getChangedFields(SqlDomainObject obj, SortedMap<String, Object> databaseChangesMap) {
+
+		Set<Field> changedFields = new HashSet<>();
+		for (Class<? extends SqlDomainObject> domainClass : sdc.getRegistry().getDomainClassesFor(obj.getClass())) {
+			sdc.getRegistry().getDataAndReferenceFields(domainClass).stream().filter(f -> databaseChangesMap.containsKey(sdc.getSqlRegistry().getColumnFor(f).name))
+					.forEach(changedFields::add);
+			sdc.getRegistry().getComplexFields(domainClass).stream().filter(f -> databaseChangesMap.containsKey(sdc.getSqlRegistry().getEntryTableFor(f).name)).forEach(changedFields::add);
+		}
+		return changedFields;
+	}
+
 	// Load result containing multiple information collected during building objects from records loaded in one load cycle
 	static class IntermediateLoadResult {
 		boolean hasChanges = false;
@@ -665,7 +1003,7 @@ public class Loader extends Common {
 				boolean isNew = false;
 
 				// Try to find registered domain object for loaded object record
-				SqlDomainObject obj = sdc.find(objectDomainClass, id);
+				SqlDomainObject obj = sdc.findRegistered(objectDomainClass, id);
 				if (obj == null) { // Object is new
 					isNew = true;
 
@@ -674,6 +1012,7 @@ public class Loader extends Common {
 					sdc.registerById(obj, id);
 					obj.setIsStored();
 					obj.lastModifiedInDb = ((LocalDateTime) loadedRecord.get(Const.LAST_MODIFIED_COL));
+					sdc.accessed(obj); // Cache mode: newly loaded object counts as accessed
 				}
 
 				// Build map with changes in database in respect to current object
@@ -686,7 +1025,7 @@ public class Loader extends Common {
 				else { // Object is already registered
 
 					// Collect changes (we assume that differences between object and database values found here can only be caused by changes in database made by another domain controller instance)
-					SortedMap<String, Object> objectRecord = sdc.recordMap.get(objectDomainClass).get(id); // Current object record
+					ObjectRecord objectRecord = sdc.recordMap.get(objectDomainClass).get(id); // Current object record
 					for (String col : loadedRecord.keySet()) {
 
 						Object oldValue = objectRecord.get(col);
@@ -705,7 +1044,7 @@ public class Loader extends Common {
 							log.debug("SDC: Loaded record for '{}@{}' differs from current record. New values: {}", objectDomainClass.getSimpleName(), id,
 									SqlDbHelpers.forSecretLoggingRecord(databaseChangesMap, columnNames, columnTableMap));
 							if (log.isTraceEnabled()) {
-								log.trace("SDC: Current object record: {}", SqlDbHelpers.forSecretLoggingRecord(objectRecord, columnNames, columnTableMap));
+								log.trace("SDC: Current object record: {}", SqlDbHelpers.forSecretLoggingRecord(objectRecord.toMap(), columnNames, columnTableMap));
 							}
 						}
 
@@ -718,6 +1057,13 @@ public class Loader extends Common {
 				if (assignDataToDomainObjectAndCheckReferentialIntegrity(obj, isNew, databaseChangesMap, loadResult.unresolvedReferences)) {
 					loadResult.objectsWhereReferencesChanged.add(obj);
 				}
+				sdc.updateIndexes(obj);
+				if (isNew) {
+					sdc.publishChange(ChangeEvent.Type.CREATED, obj, Collections.emptySet());
+				}
+				else if (!databaseChangesMap.isEmpty()) {
+					sdc.publishChange(ChangeEvent.Type.CHANGED, obj, getChangedFields(obj, databaseChangesMap));
+				}
 				if (log.isTraceEnabled()) {
 					log.trace("SDC: Loaded {}object '{}': {}", (isNew ? "new " : ""), obj.name(), SqlDbHelpers.forSecretLoggingRecord(loadedRecord, columnNames, columnTableMap));
 				}
@@ -761,48 +1107,71 @@ public class Loader extends Common {
 		}
 	}
 
-	// Determine object domain class of (missing) object given by id and derived domain class by loading object record
-	private Class<? extends SqlDomainObject> determineObjectDomainClass(Class<? extends SqlDomainObject> domainClass, long id) throws SQLException, SqlDbException {
+	// Determine object domain classes of (missing) objects given by ids and derived domain class by loading id and domain class name of object records in one query per 1000 ids
+	private Map<Class<? extends SqlDomainObject>, Set<Long>> determineObjectDomainClasses(Class<? extends SqlDomainObject> domainClass, Set<Long> ids) throws SQLException, SqlDbException {
 
 		if (log.isDebugEnabled()) {
-			log.debug("SDC: Domain class '{}' is not an object domain class -> determine object domain class for missing object(s).", domainClass.getSimpleName());
+			log.debug("SDC: Domain class '{}' is not an object domain class -> determine object domain class for {} missing object(s).", domainClass.getSimpleName(), ids.size());
 		}
 
-		// Determine object domain class of missing referenced object by retrieving domain class name from loaded record for object record
+		// Determine object domain classes of missing referenced objects by retrieving domain class names from records of base table - group ids by domain class name
 		String tableName = sdc.getSqlRegistry().getTableFor(domainClass).name;
-		List<SortedMap<String, Object>> records = sdc.sqlDb.selectFrom(cn, tableName, Const.DOMAIN_CLASS_COL, "ID=" + id, null, 0, null);
-		if (records.isEmpty()) {
-			log.error("SDC: No record found for object {}@{} which is referenced and therefore should exist", domainClass.getSimpleName(), id);
-			throw new SqlDbException("Could not determine referenced " + domainClass.getSimpleName() + "@" + id + " object's object domain class");
+		Map<String, Set<Long>> idsByObjectDomainClassNameMap = new HashMap<>();
+		Set<Long> foundIds = new HashSet<>();
+		for (String idsList : Helpers.buildStringLists(ids, 1000)) { // Oracle limitation max 1000 elements in lists
+			sdc.sqlDb.selectFromStreaming(cn, tableName, tableName + "." + Const.ID_COL + ", " + tableName + "." + Const.DOMAIN_CLASS_COL, tableName + ".ID IN (" + idsList + ")", null, 0, null,
+					sdc.fetchSize, rec -> {
+						long id = ((Number) rec.get(Const.ID_COL)).longValue();
+						foundIds.add(id);
+						idsByObjectDomainClassNameMap.computeIfAbsent((String) rec.get(Const.DOMAIN_CLASS_COL), n -> new HashSet<>()).add(id); // Assume JDBC type of column is String
+					});
 		}
-		else {
-			String objectDomainClassName = (String) records.get(0).get(Const.DOMAIN_CLASS_COL); // Assume JDBC type of column is String for String field
+
+		if (foundIds.size() < ids.size()) {
+			Set<Long> notFoundIds = new HashSet<>(ids);
+			notFoundIds.removeAll(foundIds);
+			log.error("SDC: No records found for objects {}@{} which are referenced and therefore should exist", domainClass.getSimpleName(), notFoundIds);
+			throw new SqlDbException("Could not determine referenced " + domainClass.getSimpleName() + "@" + notFoundIds + " objects' object domain class");
+		}
+
+		Map<Class<? extends SqlDomainObject>, Set<Long>> idsByObjectDomainClassMap = new HashMap<>();
+		for (Entry<String, Set<Long>> entry : idsByObjectDomainClassNameMap.entrySet()) {
 			if (log.isDebugEnabled()) {
-				log.debug("SDC: Object domain class for {}@{} is: '{}'", domainClass.getSimpleName(), id, objectDomainClassName);
+				log.debug("SDC: Object domain class for {} {} object(s) is: '{}'", entry.getValue().size(), domainClass.getSimpleName(), entry.getKey());
 			}
-			return sdc.getDomainClassByName(objectDomainClassName);
+			idsByObjectDomainClassMap.computeIfAbsent(sdc.getDomainClassByName(entry.getKey()), c -> new HashSet<>()).addAll(entry.getValue());
 		}
+
+		return idsByObjectDomainClassMap;
 	}
 
 	// Load records of objects which were not yet loaded but which are referenced by loaded objects
 	Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> loadMissingObjects(List<UnresolvedReference> unresolvedReferences) throws SQLException, SqlDbException {
 
-		// Collect missing objects - check if missing object was already loaded before (this happens on circular references)
+		// Collect missing objects - check if missing object was already loaded before (this happens on circular references) - collect ids of objects referenced by non-object domain classes
+		// separately to determine their object domain classes in bulk
 		Map<Class<? extends SqlDomainObject>, Set<Long>> missingObjectIdsMap = new HashMap<>();
+		Map<Class<? extends SqlDomainObject>, Set<Long>> missingBaseClassObjectIdsMap = new HashMap<>();
 		for (UnresolvedReference ur : unresolvedReferences) {
 
-			SqlDomainObject obj = sdc.find(ur.parentDomainClass, ur.parentObjectId);
+			SqlDomainObject obj = sdc.findRegistered(ur.parentDomainClass, ur.parentObjectId);
 			if (obj != null) {
 				if (log.isDebugEnabled()) {
 					log.debug("SDC: {} was already loaded after detecting unresolved reference (circular reference)", obj.name());
 				}
 			}
+			else if (sdc.getRegistry().isObjectDomainClass(ur.parentDomainClass)) {
+				missingObjectIdsMap.computeIfAbsent(ur.parentDomainClass, l -> new HashSet<>()).add(ur.parentObjectId);
+			}
 			else {
-				Class<? extends SqlDomainObject> objectDomainClass = ur.parentDomainClass;
-				if (!sdc.getRegistry().isObjectDomainClass(ur.parentDomainClass)) {
-					objectDomainClass = determineObjectDomainClass(ur.parentDomainClass, ur.parentObjectId);
-				}
-				missingObjectIdsMap.computeIfAbsent(objectDomainClass, l -> new HashSet<>()).add(ur.parentObjectId);
+				missingBaseClassObjectIdsMap.computeIfAbsent(ur.parentDomainClass, l -> new HashSet<>()).add(ur.parentObjectId);
+			}
+		}
+
+		// Determine object domain classes of missing objects referenced by non-object domain class - one grouped query per base table
+		for (Entry<Class<? extends SqlDomainObject>, Set<Long>> entry : missingBaseClassObjectIdsMap.entrySet()) {
+			for (Entry<Class<? extends SqlDomainObject>, Set<Long>> objectDomainClassEntry : determineObjectDomainClasses(entry.getKey(), entry.getValue()).entrySet()) {
+				missingObjectIdsMap.computeIfAbsent(objectDomainClassEntry.getKey(), l -> new HashSet<>()).addAll(objectDomainClassEntry.getValue());
 			}
 		}
 
@@ -820,7 +1189,7 @@ public class Loader extends Common {
 			String tableName = sdc.getSqlRegistry().getTableFor(objectDomainClass).name;
 
 			for (String idsList : Helpers.buildStringLists(missingObjectIds, 1000)) { // Oracle limitation max 1000 elements in lists
-				collectedRecordMap.putAll(retrieveRecordsFromDatabase(0, objectDomainClass, tableName + ".ID IN (" + idsList + ")", null));
+				collectedRecordMap.putAll(retrieveRecordsFromDatabase(0, objectDomainClass, tableName + ".ID IN (" + idsList + ")", null, null));
 			}
 			loadedMissingRecordsMap.put(objectDomainClass, collectedRecordMap);
 		}
@@ -833,12 +1202,13 @@ public class Loader extends Common {
 
 		for (UnresolvedReference ur : unresolvedReferences) {
 
-			SqlDomainObject parentObj = sdc.find(ur.parentDomainClass, ur.parentObjectId);
+			SqlDomainObject parentObj = sdc.findRegistered(ur.parentDomainClass, ur.parentObjectId);
 			if (parentObj == null) {
 				log.error("SDC: Referenced object {}@{} for resolving unresolved reference not found (but should exist)", ur.parentDomainClass.getSimpleName(), ur.parentObjectId);
 			}
 			else {
 				ur.obj.setFieldValue(ur.refField, parentObj);
+				sdc.updateIndexes(ur.obj);
 				if (log.isTraceEnabled()) {
 					log.trace("SDC: Resolve reference of '{}' to parent '{}' after deferred loading of parent", DomainObject.name(ur.obj), DomainObject.name(parentObj));
 				}
@@ -0,0 +1,210 @@
+package com.icx.domain.sql;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.icx.jdbc.SqlDbTable;
+import com.icx.jdbc.SqlDbTable.SqlDbColumn;
+
+/**
+ * Compact local record of an object reflecting object's state in database - used to detect changes on saving and loading objects.
+ * <p>
+ * Values are stored in an array whose layout is given by a column schema shared by all objects of the same object domain class. Value of data or reference field (column value) or of complex field
+ * (immutable copy of array, collection or map stored in entry table) is stored at ordinal of field, so changes can be determined by field ordinal without any column name lookup.
+ *
+ * @author baumgrai
+ */
+class ObjectRecord {
+
+	// Marks slots where no value was assigned yet (to distinguish from null values)
+	private static final Object ABSENT = new Object();
+
+	/**
+	 * Column schema of object records of one object domain class: maps column names of all tables of domain class (and its inherited domain classes) and entry table names of complex fields to slots
+	 * of record array.
+	 */
+	static class Schema {
+
+		// Slot by column or entry table name
+		private final Map<String, Integer> slotByNameMap = new HashMap<>();
+
+		// Names by slot (only for building maps for logging)
+		private String[] names;
+
+		// Build schema for object domain class - slots of registered fields are field ordinals, standard columns and columns not associated with fields follow
+		Schema(
+				SqlRegistry sqlRegistry,
+				Class<? extends SqlDomainObject> objectDomainClass) {
+
+			int slot = sqlRegistry.getFieldCount(objectDomainClass);
+			for (Class<? extends SqlDomainObject> domainClass : sqlRegistry.getDomainClassesFor(objectDomainClass)) {
+				for (Field field : sqlRegistry.getRegisteredFields(domainClass)) {
+					if (sqlRegistry.isComplexField(field)) {
+						SqlDbTable entryTable = sqlRegistry.getEntryTableFor(field);
+						if (entryTable != null) {
+							slotByNameMap.put(entryTable.name, sqlRegistry.getFieldOrdinal(field));
+						}
+					}
+					else {
+						SqlDbColumn column = sqlRegistry.getColumnFor(field);
+						if (column != null) {
+							slotByNameMap.put(column.name, sqlRegistry.getFieldOrdinal(field));
+						}
+					}
+				}
+			}
+
+			for (Class<? extends SqlDomainObject> domainClass : sqlRegistry.getDomainClassesFor(objectDomainClass)) {
+				SqlDbTable table = sqlRegistry.getTableFor(domainClass);
+				if (table != null) {
+					for (SqlDbColumn column : table.columns) {
+						if (!slotByNameMap.containsKey(column.name)) {
+							slotByNameMap.put(column.name, slot++);
+						}
+					}
+				}
+			}
+
+			names = new String[slot];
+			slotByNameMap.forEach((name, s) -> names[s] = name);
+		}
+
+		// Get # of slots
+		int size() {
+			return names.length;
+		}
+
+		// Get slot for column or entry table name or -1 if name is not part of schema
+		int slotOf(String name) {
+			Integer slot = slotByNameMap.get(name);
+			return (slot != null ? slot : -1);
+		}
+	}
+
+	// Schema
+	private final Schema schema;
+
+	// Values by slot
+	private final Object[] values;
+
+	// # of assigned values
+	private int count = 0;
+
+	// Values of columns which are not part of schema (should not happen - only for robustness)
+	private Map<String, Object> extraValueMap = null;
+
+	ObjectRecord(
+			Schema schema) {
+
+		this.schema = schema;
+		this.values = new Object[schema.size()];
+		Arrays.fill(values, ABSENT);
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	// Copy arrays, collections and maps to store them in compact and immutable form
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object compact(Object value) {
+
+		if (value instanceof List) {
+			return Collections.unmodifiableList(Arrays.asList(((List<?>) value).toArray()));
+		}
+		else if (value instanceof SortedSet) {
+			return Collections.unmodifiableSortedSet(new TreeSet<>((SortedSet) value));
+		}
+		else if (value instanceof Set) {
+			return Collections.unmodifiableSet(new HashSet<>((Set<?>) value));
+		}
+		else if (value instanceof Collection) {
+			return Collections.unmodifiableList(Arrays.asList(((Collection<?>) value).toArray()));
+		}
+		else if (value instanceof SortedMap) {
+			return Collections.unmodifiableSortedMap(new TreeMap<>((SortedMap) value));
+		}
+		else if (value instanceof Map) {
+			return Collections.unmodifiableMap(new HashMap<>((Map<?, ?>) value));
+		}
+		return value; // Arrays are always copied by callers
+	}
+
+	// Check if no value was assigned yet
+	boolean isEmpty() {
+		return (count == 0 && extraValueMap == null);
+	}
+
+	// Get value at slot of field ordinal
+	Object get(int slot) {
+		Object value = values[slot];
+		return (value != ABSENT ? value : null);
+	}
+
+	// Get value of column or entry table
+	Object get(String name) {
+
+		int slot = schema.slotOf(name);
+		if (slot < 0) {
+			return (extraValueMap != null ? extraValueMap.get(name) : null);
+		}
+		return get(slot);
+	}
+
+	// Set value of column or entry table
+	void put(String name, Object value) {
+
+		int slot = schema.slotOf(name);
+		if (slot < 0) {
+			if (extraValueMap == null) {
+				extraValueMap = new HashMap<>();
+			}
+			extraValueMap.put(name, compact(value));
+			return;
+		}
+
+		if (values[slot] == ABSENT) {
+			count++;
+		}
+		values[slot] = compact(value);
+	}
+
+	// Set values of columns and entry tables
+	void putAll(Map<String, Object> columnValueMap) {
+		for (Entry<String, Object> entry : columnValueMap.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	// Build sorted column/value map from record (only for logging)
+	SortedMap<String, Object> toMap() {
+
+		SortedMap<String, Object> map = new TreeMap<>();
+		for (int s = 0; s < values.length; s++) {
+			if (values[s] != ABSENT) {
+				map.put(schema.names[s], values[s]);
+			}
+		}
+		if (extraValueMap != null) {
+			map.putAll(extraValueMap);
+		}
+		return map;
+	}
+
+	@Override
+	public String toString() {
+		return toMap().toString();
+	}
+}
@@ -6,8 +6,9 @@ import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -16,9 +17,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.SortedMap;
-import java.util.SortedSet;
 import java.util.TreeMap;
-import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -29,7 +28,9 @@ import com.icx.common.CLog;
 import com.icx.common.CMap;
 import com.icx.common.CReflection;
 import com.icx.common.Common;
+import com.icx.domain.ChangeEvent;
 import com.icx.domain.DomainObject;
+import com.icx.domain.FieldAccessor;
 import com.icx.domain.Registry;
 import com.icx.jdbc.SqlDbException;
 import com.icx.jdbc.SqlDbTable;
@@ -64,38 +65,41 @@ public class Saver extends Common {
 	// Helpers
 	// -------------------------------------------------------------------------
 
-	// Collect changed fields in respect to object record or all fields if object is still not stored for one of the object's domain classes
+	// Collect changed fields in respect to object record or all fields if object is still not stored for one of the object's domain classes - if field ordinals to compare are given (dirty tracking)
+	// compare only these fields with object record
 	// Note: Collected field values in changes map are NOT converted to column values here
-	static Map<Field, Object> getFieldChangesForDomainClass(SqlDomainController sdc, SqlDomainObject object, SortedMap<String, Object> objectRecord, Class<? extends SqlDomainObject> domainClass) {
+	static Map<Field, Object> getFieldChangesForDomainClass(SqlDomainController sdc, SqlDomainObject object, ObjectRecord objectRecord, Class<? extends SqlDomainObject> domainClass,
+			BitSet fieldOrdinalsToCompare) {
 
 		SqlRegistry sqlRegistry = sdc.getSqlRegistry();
 
 		// Try to find object record
 		Map<Field, Object> fieldChangesMap = new HashMap<>();
-		if (CMap.isEmpty(objectRecord)) {
+		if (objectRecord == null || objectRecord.isEmpty()) {
 
 			// New object: add { field , field value } entry to changes map for all data and reference fields (there is no conversion necessary here - field values will be collected as they are)
-			for (Field field : sqlRegistry.getDataAndReferenceFields(domainClass)) {
-				fieldChangesMap.put(field, object.getFieldValue(field));
+			for (FieldAccessor accessor : sqlRegistry.getDataAndReferenceAccessors(domainClass)) {
+				fieldChangesMap.put(accessor.field, object.getFieldValue(accessor));
 			}
 
 			// Add { field, complex field value } entry to changes map for all complex fields where any entry exists in array, collection or map
-			for (Field complexField : sqlRegistry.getComplexFields(domainClass)) {
+			for (FieldAccessor accessor : sqlRegistry.getComplexAccessors(domainClass)) {
+				Field complexField = accessor.field;
 
 				if (complexField.getType().isArray()) { // Array
-					Object fieldArray = object.getFieldValue(complexField);
+					Object fieldArray = object.getFieldValue(accessor);
 					if (!logicallyEqual(fieldArray, null)) {
 						fieldChangesMap.put(complexField, fieldArray);
 					}
 				}
 				else if (Collection.class.isAssignableFrom(complexField.getType())) { // Collection
-					Collection<?> fieldCollection = (Collection<?>) object.getFieldValue(complexField);
+					Collection<?> fieldCollection = (Collection<?>) object.getFieldValue(accessor);
 					if (!logicallyEqual(fieldCollection, null)) {
 						fieldChangesMap.put(complexField, fieldCollection);
 					}
 				}
 				else { // Map
-					Map<?, ?> fieldMap = (Map<?, ?>) object.getFieldValue(complexField);
+					Map<?, ?> fieldMap = (Map<?, ?>) object.getFieldValue(accessor);
 					if (!logicallyEqual(fieldMap, null)) {
 						fieldChangesMap.put(complexField, fieldMap);
 					}
@@ -104,51 +108,61 @@ public class Saver extends Common {
 		}
 		else {
 			// Data fields
-			for (Field dataField : sqlRegistry.getDataFields(domainClass)) {
-				Object fieldValue = object.getFieldValue(dataField);
-				Object columnValue = objectRecord.get(sqlRegistry.getColumnFor(dataField).name);
+			for (FieldAccessor accessor : sqlRegistry.getDataAccessors(domainClass)) {
+				if (fieldOrdinalsToCompare != null && !fieldOrdinalsToCompare.get(accessor.getOrdinal())) {
+					continue;
+				}
+
+				Object fieldValue = object.getFieldValue(accessor);
+				Object columnValue = objectRecord.get(accessor.getOrdinal());
 
 				if (!objectsEqual(fieldValue, columnValue)) {
-					fieldChangesMap.put(dataField, fieldValue);
+					fieldChangesMap.put(accessor.field, fieldValue);
 				}
 			}
 
 			// Reference fields
-			for (Field refField : sqlRegistry.getReferenceFields(domainClass)) {
+			for (FieldAccessor accessor : sqlRegistry.getReferenceAccessors(domainClass)) {
+				if (fieldOrdinalsToCompare != null && !fieldOrdinalsToCompare.get(accessor.getOrdinal())) {
+					continue;
+				}
 
-				SqlDomainObject parentObject = (SqlDomainObject) object.getFieldValue(refField);
+				SqlDomainObject parentObject = (SqlDomainObject) object.getFieldValue(accessor);
 				Long refObjIdFromField = (parentObject != null ? parentObject.getId() : null);
-				Number refObjIdFromColumnNumber = (Number) objectRecord.get(sqlRegistry.getColumnFor(refField).name);
+				Number refObjIdFromColumnNumber = (Number) objectRecord.get(accessor.getOrdinal());
 				Long refObjIdFromColumn = (refObjIdFromColumnNumber != null ? refObjIdFromColumnNumber.longValue() : null);
 
 				if (!objectsEqual(refObjIdFromField, refObjIdFromColumn)) {
-					fieldChangesMap.put(refField, parentObject);
+					fieldChangesMap.put(accessor.field, parentObject);
 				}
 			}
 
 			// Element collection and key/value map fields
-			for (Field complexField : sqlRegistry.getComplexFields(domainClass)) {
-				SqlDbTable entryTable = sqlRegistry.getEntryTableFor(complexField);
+			for (FieldAccessor accessor : sqlRegistry.getComplexAccessors(domainClass)) {
+				if (fieldOrdinalsToCompare != null && !fieldOrdinalsToCompare.get(accessor.getOrdinal())) {
+					continue;
+				}
+				Field complexField = accessor.field;
 
 				if (complexField.getType().isArray()) { // Array
-					Object fieldArray = object.getFieldValue(complexField);
-					Object columnArray = objectRecord.get(entryTable.name);
+					Object fieldArray = object.getFieldValue(accessor);
+					Object columnArray = objectRecord.get(accessor.getOrdinal());
 
 					if (!logicallyEqual(fieldArray, columnArray)) {
 						fieldChangesMap.put(complexField, fieldArray);
 					}
 				}
 				else if (Collection.class.isAssignableFrom(complexField.getType())) { // Collection
-					Collection<?> fieldCollection = (Collection<?>) object.getFieldValue(complexField);
-					Collection<?> columnCollection = (Collection<?>) objectRecord.get(entryTable.name);
+					Collection<?> fieldCollection = (Collection<?>) object.getFieldValue(accessor);
+					Collection<?> columnCollection = (Collection<?>) objectRecord.get(accessor.getOrdinal());
 
 					if (!logicallyEqual(fieldCollection, columnCollection)) {
 						fieldChangesMap.put(complexField, fieldCollection);
 					}
 				}
 				else { // Map
-					Map<?, ?> fieldMap = (Map<?, ?>) object.getFieldValue(complexField);
-					Map<?, ?> columnMap = (Map<?, ?>) objectRecord.get(entryTable.name);
+					Map<?, ?> fieldMap = (Map<?, ?>) object.getFieldValue(accessor);
+					Map<?, ?> columnMap = (Map<?, ?>) objectRecord.get(accessor.getOrdinal());
 
 					if (!logicallyEqual(fieldMap, columnMap)) {
 						fieldChangesMap.put(complexField, fieldMap);
@@ -210,46 +224,42 @@ public class Saver extends Common {
 	}
 
 	// DELETE, UPDATE or/and INSERT entry records reflecting table related collection or map fields (complex fields) and update object record - ignore column related fields here
-	private void updateEntryTable(Field complexField, Object newComplexValue, SortedMap<String, Object> objectRecord, SqlDomainObject object) throws SqlDbException, SQLException {
+	private void updateEntryTable(Field complexField, Object newComplexValue, ObjectRecord objectRecord, SqlDomainObject object) throws SqlDbException, SQLException {
 
 		// Consider complex, table related fields...
 		String entryTableName = sdc.getSqlRegistry().getEntryTableFor(complexField).name;
 		String refIdColumnName = sdc.getSqlRegistry().getMainTableRefIdColumnFor(complexField).name;
-		boolean isSorted = false;
+		Object oldComplexValue = objectRecord.get(sdc.getSqlRegistry().getFieldOrdinal(complexField));
 
 		// DELETE, UPDATE and/or INSERT entry records for maps, sets, lists and arrays
 		try {
 			if (Map.class.isAssignableFrom(complexField.getType())) {
-				isSorted = SortedMap.class.isAssignableFrom(complexField.getType());
-
 				// DELETE, INSERT and/or UPDATE entry records representing map on changes in map
-				Map<?, ?> oldMap = (Map<?, ?>) objectRecord.computeIfAbsent(entryTableName, m -> new HashMap<>());
+				Map<?, ?> oldMap = (oldComplexValue != null ? (Map<?, ?>) oldComplexValue : Collections.emptyMap());
 				Map<?, ?> newMap = (Map<?, ?>) newComplexValue;
 				ComplexFieldHelpers.updateEntriesForMap(oldMap, newMap, sdc, cn, entryTableName, refIdColumnName, object);
 
-				// Update object record by new map
-				objectRecord.put(entryTableName, isSorted ? new TreeMap<>(newMap) : new HashMap<>(newMap));
+				// Update object record by new map (object record stores immutable copy)
+				objectRecord.put(entryTableName, newMap);
 			}
 			else if (Set.class.isAssignableFrom(complexField.getType())) {
-				isSorted = SortedSet.class.isAssignableFrom(complexField.getType());
-
 				// DELETE and/or UPDATE entry records representing set on changes in set
-				Set<?> oldSet = (Set<?>) objectRecord.computeIfAbsent(entryTableName, m -> new HashSet<>());
+				Set<?> oldSet = (oldComplexValue != null ? (Set<?>) oldComplexValue : Collections.emptySet());
 				Set<?> newSet = (Set<?>) newComplexValue;
 				ComplexFieldHelpers.updateEntriesForSet(oldSet, newSet, sdc, cn, entryTableName, refIdColumnName, object);
 
-				// Update object record by new set
-				objectRecord.put(entryTableName, isSorted ? new TreeSet<>(newSet) : new HashSet<>(newSet));
+				// Update object record by new set (object record stores immutable copy)
+				objectRecord.put(entryTableName, newSet);
 			}
 			else if (List.class.isAssignableFrom(complexField.getType())) {
 
 				// DELETE, INSERT and UPDATE entry records representing list on changes in list
-				List<?> oldList = (List<?>) objectRecord.computeIfAbsent(entryTableName, m -> new ArrayList<>());
+				List<?> oldList = (oldComplexValue != null ? (List<?>) oldComplexValue : Collections.emptyList());
 				List<?> newList = (List<?>) newComplexValue;
 				ComplexFieldHelpers.updateEntriesForList(oldList, newList, sdc, cn, entryTableName, refIdColumnName, object.getId(), complexField);
 
-				// Update object record by new list
-				objectRecord.put(entryTableName, new ArrayList<>(newList));
+				// Update object record by new list (object record stores immutable copy)
+				objectRecord.put(entryTableName, newList);
 			}
 			else if (complexField.getType().isArray()) {
 
@@ -461,16 +471,24 @@ public class Saver extends Common {
 			log.trace("SDC: {}Save{} object {}", CLog.tabs(stackSize), (obj.isStored ? "" : " new"), obj.name());
 		}
 
-		// Update accumulations for pending reference changes (only for convenience here) and reset object's exception and field errors/warnings which will be detected if saving fails
+		// Update accumulations and indexes for pending reference and field changes (only for convenience here) and reset object's exception and field errors/warnings which will be detected if saving
+		// fails
 		sdc.updateAccumulationsOfParentObjects(obj);
+		sdc.updateIndexes(obj);
 		obj.clearErrors();
 
+		// On dirty tracking skip saving stored objects without fields marked as changed
+		BitSet fieldOrdinalsToCompare = (obj.isStored ? obj.getFieldOrdinalsToCompare() : null);
+		if (fieldOrdinalsToCompare != null && fieldOrdinalsToCompare.isEmpty()) {
+			return false;
+		}
+
 		// Get domain classes of object and create or retrieve object record
 		List<Class<? extends SqlDomainObject>> domainClasses = sdc.getRegistry().getDomainClassesFor(obj.getClass()); // INSERT from bottom to top level domain class (foreign keys for inheritance)
-		SortedMap<String, Object> objectRecord = null;
+		ObjectRecord objectRecord = null;
 		if (!obj.isStored) { // New object
 			obj.lastModifiedInDb = LocalDateTime.now();
-			objectRecord = new TreeMap<>(); // Create object record
+			objectRecord = sdc.newObjectRecord(obj.getClass()); // Create object record
 			sdc.recordMap.get(obj.getClass()).put(obj.getId(), objectRecord);
 		}
 		else { // Existing object
@@ -480,6 +498,7 @@ public class Saver extends Common {
 
 		// INSERT or UPDATE records in tables associated with domain classes of object
 		Map<Field, SqlDomainObject> collectedParentObjectMap = new HashMap<>();
+		Set<Field> changedFields = new HashSet<>();
 		boolean wasChanged = false;
 		for (Class<? extends SqlDomainObject> domainClass : domainClasses) {
 			SqlDbTable table = sdc.getSqlRegistry().getTableFor(domainClass);
@@ -488,8 +507,9 @@ public class Saver extends Common {
 			collectedParentObjectMap.putAll(storeOrCollectUnstoredParentObjects(obj, domainClass, objectsToCheckForCircularReference));
 
 			// Get field changes for domain class
-			Map<Field, Object> fieldChangesForDomainClassMap = getFieldChangesForDomainClass(sdc, obj, objectRecord, domainClass);
+			Map<Field, Object> fieldChangesForDomainClassMap = getFieldChangesForDomainClass(sdc, obj, objectRecord, domainClass, fieldOrdinalsToCompare);
 			if (!fieldChangesForDomainClassMap.isEmpty()) {
+				changedFields.addAll(fieldChangesForDomainClassMap.keySet());
 				wasChanged = true;
 			}
 
@@ -588,9 +608,20 @@ public class Saver extends Common {
 			}
 		}
 
-		// Mark new object as stored - do this not until all records have been inserted but before saving parent objects which are not yet stored
-		if (!obj.isStored) {
+		// Mark new object as stored - do this not until all records have been inserted but before saving parent objects which are not yet stored - and reset change marks of saved fields
+		boolean wasInserted = !obj.isStored;
+		if (wasInserted) {
 			obj.isStored = true;
+			sdc.newObjects.remove(obj);
+		}
+		obj.clearDirtyFields(fieldOrdinalsToCompare);
+
+		// Publish initial saving of object as creation and subsequent savings as changes
+		if (wasInserted) {
+			sdc.publishChange(ChangeEvent.Type.CREATED, obj, Collections.emptySet());
+		}
+		else if (wasChanged) {
+			sdc.publishChange(ChangeEvent.Type.CHANGED, obj, changedFields);
 		}
 
 		// Save collected parent objects (on nullable foreign key columns) after saving this object and restore (UPDATE) references in database
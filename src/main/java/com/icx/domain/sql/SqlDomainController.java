@@ -7,16 +7,22 @@ import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
 import java.util.SortedMap;
-import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -32,6 +38,9 @@ import com.icx.common.Common;
 import com.icx.domain.DomainController;
 import com.icx.domain.DomainException;
 import com.icx.domain.DomainObject;
+import com.icx.domain.Query;
+import com.icx.domain.sql.Annotations.Cached;
+import com.icx.domain.sql.Annotations.EvictionPolicy;
 import com.icx.domain.sql.Annotations.StoreAsString;
 import com.icx.domain.sql.Annotations.UseDataHorizon;
 import com.icx.domain.sql.Loader.IntermediateLoadResult;
@@ -70,6 +79,10 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 	static final String DATA_HORIZON_PERIOD_PROP = "dataHorizonPeriod";
 	static final String CRYPT_PASSWORD_PROP = "cryptPassword";
 	static final String CRYPT_SALT_PROP = "cryptSalt";
+	static final String COMPACT_OBJECT_STORE_PROP = "compactObjectStore";
+	static final String SYNC_CLOCK_SKEW_MARGIN_PROP = "syncClockSkewMargin";
+	static final String PARALLEL_LOAD_THREADS_PROP = "parallelLoadThreads";
+	static final String FETCH_SIZE_PROP = "fetchSize";
 
 	// -------------------------------------------------------------------------
 	// Members
@@ -82,20 +95,91 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 	String dataHorizonPeriod = "1M"; // Data horizon controlled objects will be loaded from database only if they are modified after data horizon ('now' minus data horizon period)
 	String cryptPassword = null;
 	String cryptSalt = null;
+	String syncClockSkewMargin = "10s"; // Incremental synchronization also reloads records modified within this margin before watermark (clock skew between instances, commit delay)
 
 	// Record map: map of object records by object domain class by object id
 	// Note: Objects of domain classes which are derived from other domain classes however have only one object record with column content of all tables for derived classes
-	Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> recordMap = null;
+	Map<Class<? extends SqlDomainObject>, Map<Long, ObjectRecord>> recordMap = null;
 
-	// List field order cache
-	Map<String, Map<Long, List<Long>>> listOrderCacheMap = new HashMap<>();
+	// Column schemas of object records by object domain class (shared by all object records of object domain class)
+	Map<Class<? extends SqlDomainObject>, ObjectRecord.Schema> recordSchemaMap = null;
+
+	// Create empty object record for object domain class
+	ObjectRecord newObjectRecord(Class<? extends SqlDomainObject> objectDomainClass) {
+		return new ObjectRecord(recordSchemaMap.get(objectDomainClass));
+	}
+
+	// Incremental synchronization: watermarks (highest last modification date of loaded records) by object domain class
+	Map<Class<? extends SqlDomainObject>, LocalDateTime> syncWatermarkMap = new ConcurrentHashMap<>();
+
+	// Registered objects which are not yet stored - to save new objects on synchronization without searching all registered objects
+	Set<SqlDomainObject> newObjects = ConcurrentHashMap.newKeySet();
+
+	// Cache mode: cache definitions of cached object domain classes
+	Map<Class<? extends SqlDomainObject>, Cached> cachedDomainClassMap = new HashMap<>();
+
+	// List field order cache - concurrent because entry records may be loaded in parallel
+	Map<String, Map<Long, List<Long>>> listOrderCacheMap = new ConcurrentHashMap<>();
 
 	List<Long> getOrderedListOrderNumbers(String entryTableName, long objectId) {
-		return listOrderCacheMap.computeIfAbsent(entryTableName, m -> new HashMap<>()).computeIfAbsent(objectId, m -> new ArrayList<>());
+		return listOrderCacheMap.computeIfAbsent(entryTableName, m -> new ConcurrentHashMap<>()).computeIfAbsent(objectId, m -> new ArrayList<>());
 	}
 
 	void setOrderedListOrderNumbers(String entryTableName, long objectId, List<Long> orderedOrderNumbers) {
-		listOrderCacheMap.computeIfAbsent(entryTableName, m -> new HashMap<>()).put(objectId, orderedOrderNumbers);
+		listOrderCacheMap.computeIfAbsent(entryTableName, m -> new ConcurrentHashMap<>()).put(objectId, orderedOrderNumbers);
+	}
+
+	// Parallel loading: # of threads (and so of database connections) used to load records of different object domain classes in parallel on synchronization - 1 means sequential loading
+	int parallelLoadThreads = 1;
+	private ExecutorService parallelLoadExecutor = null;
+
+	/**
+	 * Set number of threads used to load objects of different object domain classes in parallel on synchronization ({@link #synchronize(Class...)}, {@link #synchronizeIncrementally(Class...)}).
+	 * <p>
+	 * Every thread uses its own database connection from connection pool. Default is 1 (sequential loading on one connection) or value of property 'parallelLoadThreads' in 'domain.properties'.
+	 * 
+	 * @param parallelLoadThreads
+	 *            # of threads for parallel loading - values lower than 2 mean sequential loading
+	 */
+	public synchronized void setParallelLoadThreads(int parallelLoadThreads) {
+
+		this.parallelLoadThreads = Math.max(1, parallelLoadThreads);
+		if (parallelLoadExecutor != null) {
+			parallelLoadExecutor.shutdown();
+			parallelLoadExecutor = null;
+		}
+	}
+
+	// Get executor for parallel loading (daemon threads to not prevent JVM from exiting)
+	synchronized ExecutorService getParallelLoadExecutor() {
+
+		if (parallelLoadExecutor == null) {
+			parallelLoadExecutor = Executors.newFixedThreadPool(parallelLoadThreads, r -> {
+				Thread thread = new Thread(r, "domain-parallel-load");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return parallelLoadExecutor;
+	}
+
+	// Streaming load: # of rows fetched per database round trip on loading objects - 0 means JDBC driver default
+	int fetchSize = 0;
+
+	/**
+	 * Set number of rows JDBC driver shall fetch per database round trip on loading objects.
+	 * <p>
+	 * Loaded rows are streamed from result set into object records, so JDBC driver does not need to buffer whole result set. Note that object records of one domain class are collected until objects
+	 * are built from them, so memory needed still grows with # of objects loaded - use data horizon or limited selection to restrict # of objects loaded at once. Default is 0 (JDBC driver default)
+	 * or value of property 'fetchSize' in 'domain.properties'.
+	 * <p>
+	 * MySQL: positive fetch size is effective only if 'useCursorFetch=true' is set in connection string - otherwise rows are streamed one by one (MariaDB supports fetch size natively).
+	 * 
+	 * @param fetchSize
+	 *            # of rows to fetch per round trip or 0 for driver default
+	 */
+	public void setFetchSize(int fetchSize) {
+		this.fetchSize = Math.max(0, fetchSize);
 	}
 
 	/**
@@ -215,6 +299,14 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 	// Initialization methods
 	// -------------------------------------------------------------------------
 
+	// Apply domain properties which must be known before registering domain classes
+	void applyRegistrationProperties(Properties domainProperties) {
+
+		if (domainProperties != null) {
+			setCompactObjectStore(Boolean.parseBoolean(domainProperties.getProperty(COMPACT_OBJECT_STORE_PROP, "false")));
+		}
+	}
+
 	// Initialize database connection by given connection properties and associate domain classes and database tables
 	void initializeDatabase(Properties dbProperties, Properties domainProperties) throws SQLException, ConfigException, SqlDbException {
 
@@ -223,6 +315,9 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 			dataHorizonPeriod = domainProperties.getProperty(DATA_HORIZON_PERIOD_PROP, "1M");
 			cryptPassword = domainProperties.getProperty(CRYPT_PASSWORD_PROP, null);
 			cryptSalt = domainProperties.getProperty(CRYPT_SALT_PROP, "SALTSALT");
+			syncClockSkewMargin = domainProperties.getProperty(SYNC_CLOCK_SKEW_MARGIN_PROP, "10s");
+			setParallelLoadThreads(Integer.parseInt(domainProperties.getProperty(PARALLEL_LOAD_THREADS_PROP, "1").trim()));
+			setFetchSize(Integer.parseInt(domainProperties.getProperty(FETCH_SIZE_PROP, "0").trim()));
 			if (isEmpty(cryptPassword)) {
 				log.warn(
 						"SDC: Use of @Crypt annotation for fields or domain classes needs non-empty 'cryptPassword' property in 'domain.properties' file! If this property is not configured field values will be stored in database without encryption!");
@@ -234,8 +329,17 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 		}
 
 		recordMap = new ConcurrentHashMap<>();
+		recordSchemaMap = new HashMap<>();
 
 		getRegistry().getRegisteredObjectDomainClasses().forEach(c -> recordMap.put(c, new ConcurrentHashMap<>()));
+		getRegistry().getRegisteredObjectDomainClasses().forEach(c -> recordSchemaMap.put(c, new ObjectRecord.Schema(getSqlRegistry(), c)));
+
+		cachedDomainClassMap = new HashMap<>();
+		getRegistry().getRegisteredObjectDomainClasses().stream().filter(c -> c.isAnnotationPresent(Cached.class)).forEach(c -> cachedDomainClassMap.put(c, c.getAnnotation(Cached.class)));
+		if (!cachedDomainClassMap.isEmpty()) {
+			log.info("SDC: Cached domain classes: {}", cachedDomainClassMap.entrySet().stream()
+					.map(e -> e.getKey().getSimpleName() + " (capacity: " + e.getValue().capacity() + ", " + e.getValue().policy() + ")").collect(Collectors.toList()));
+		}
 	}
 
 	/**
@@ -261,6 +365,7 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 	 */
 	public void initialize(Properties dbProperties, Properties domainProperties, String domainPackageName) throws DomainException, SQLException, ConfigException, SqlDbException {
 
+		applyRegistrationProperties(domainProperties);
 		registerDomainClasses(SqlDomainObject.class, domainPackageName);
 		initializeDatabase(dbProperties, domainProperties);
 	}
@@ -292,6 +397,7 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 	public final void initialize(Properties dbProperties, Properties domainProperties, Class<? extends SqlDomainObject>... objectDomainClasses)
 			throws DomainException, SQLException, ConfigException, SqlDbException {
 
+		applyRegistrationProperties(domainProperties);
 		registerDomainClasses(SqlDomainObject.class, objectDomainClasses);
 		initializeDatabase(dbProperties, domainProperties);
 	}
@@ -320,9 +426,34 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 		if (recordMap.containsKey(obj.getClass())) {
 			recordMap.get(obj.getClass()).remove(obj.getId());
 		}
+		newObjects.remove(obj);
 		super.unregister(obj);
 	}
 
+	// Do not publish CREATED change event on registering object - CREATED is published on initially saving (INSERT) or on loading object within save or load change batch
+	@Override
+	protected void registered(SqlDomainObject obj) {
+		// Nothing to do here
+	}
+
+	// Register object and remember it as new object until it is stored
+	@Override
+	public <S extends SqlDomainObject> S register(S obj) {
+		super.register(obj);
+		if (!obj.isStored) {
+			newObjects.add(obj);
+		}
+		return obj;
+	}
+
+	// Register objects and remember them as new objects until they are stored
+	@Override
+	public <S extends SqlDomainObject> Collection<S> registerAll(Collection<S> objects) {
+		super.registerAll(objects);
+		objects.stream().filter(o -> !o.isStored).forEach(newObjects::add);
+		return objects;
+	}
+
 	/**
 	 * Only for unit tests.
 	 * 
@@ -340,9 +471,9 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 		registerById(obj, obj.getId());
 
 		// Collect field changes (because object record was removed here all field/value pairs will be found) and re-generate object record from field/value pairs of all inherited domain classes
-		SortedMap<String, Object> objectRecord = new TreeMap<>();
+		ObjectRecord objectRecord = newObjectRecord(obj.getClass());
 		for (Class<? extends SqlDomainObject> domainClass : getRegistry().getDomainClassesFor(obj.getClass())) {
-			Map<Field, Object> fieldChangesMap = Saver.getFieldChangesForDomainClass(this, obj, objectRecord, domainClass);
+			Map<Field, Object> fieldChangesMap = Saver.getFieldChangesForDomainClass(this, obj, objectRecord, domainClass, null);
 			objectRecord.putAll(Saver.fieldChangesMap2ColumnValueMap(this, fieldChangesMap, obj));
 		}
 
@@ -376,9 +507,122 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 	 * 
 	 * @return set of all objects of given domain class
 	 */
-	@SuppressWarnings("unchecked")
 	public final <S extends SqlDomainObject> Set<S> allValid(Class<S> domainClass) {
-		return (Set<S>) objectMap.get(domainClass).values().stream().filter(o -> o.isValid()).collect(Collectors.toSet());
+		return stream(domainClass).filter(SqlDomainObject::isValid).collect(Collectors.toSet());
+	}
+
+	// -------------------------------------------------------------------------
+	// Cache mode
+	// -------------------------------------------------------------------------
+
+	// Track access to objects for eviction of objects of cached domain classes
+	@Override
+	protected void accessed(SqlDomainObject obj) {
+
+		if (!cachedDomainClassMap.isEmpty()) {
+			obj.lastAccess = System.nanoTime();
+			obj.accessCount++;
+		}
+	}
+
+	// Load object of cached domain class from database if it is not registered
+	@Override
+	protected <S extends SqlDomainObject> S faultIn(Class<S> domainClass, long objectId) {
+
+		if (sqlDb == null || cachedDomainClassMap.keySet().stream().noneMatch(domainClass::isAssignableFrom)) {
+			return null;
+		}
+
+		synchronized (cachedDomainClassMap) {
+
+			// Check again - object may be loaded by another thread in the meantime
+			S obj = findRegistered(domainClass, objectId);
+			if (obj == null) {
+				if (log.isDebugEnabled()) {
+					log.debug("SDC: Load {}@{} on demand", domainClass.getSimpleName(), objectId);
+				}
+
+				try {
+					loadAssuringReferentialIntegrity((cn, consumer) -> consumer.accept(new Loader(this, cn).selectObjectRecord(domainClass, objectId)));
+				}
+				catch (SQLException | SqlDbException e) {
+					log.error("SDC: {} '{}' occurred trying to load {}@{} on demand", e.getClass().getSimpleName(), e.getMessage(), domainClass.getSimpleName(), objectId);
+					return null;
+				}
+
+				obj = findRegistered(domainClass, objectId);
+				if (obj == null) {
+					return null;
+				}
+			}
+
+			accessed(obj);
+			evictCachedObjects(Collections.singleton(obj));
+			return obj;
+		}
+	}
+
+	// Check if object has changes which are not saved - on dirty tracking consider only fields marked as changed
+	private boolean hasUnsavedChanges(SqlDomainObject obj) {
+
+		ObjectRecord objectRecord = recordMap.get(obj.getClass()).get(obj.getId());
+		if (objectRecord == null) {
+			return true;
+		}
+
+		BitSet fieldOrdinalsToCompare = obj.getFieldOrdinalsToCompare();
+		if (fieldOrdinalsToCompare != null && fieldOrdinalsToCompare.isEmpty()) {
+			return false;
+		}
+
+		for (Class<? extends SqlDomainObject> domainClass : getRegistry().getDomainClassesFor(obj.getClass())) {
+			if (!Saver.getFieldChangesForDomainClass(this, obj, objectRecord, domainClass, fieldOrdinalsToCompare).isEmpty()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// Evict (unregister) objects of cached domain classes if number of registered objects exceeds capacity - evict only stored, unchanged and non-referenced objects. Evict down to 90% of capacity to
+	// avoid evicting on every subsequent load
+	void evictCachedObjects(Set<? extends SqlDomainObject> objectsToKeep) {
+
+		for (Entry<Class<? extends SqlDomainObject>, Cached> entry : cachedDomainClassMap.entrySet()) {
+
+			Class<? extends SqlDomainObject> cachedDomainClass = entry.getKey();
+			Cached cached = entry.getValue();
+
+			long count = count(cachedDomainClass, null);
+			if (count <= cached.capacity()) {
+				continue;
+			}
+
+			// Take snapshot of access data of eviction candidates - access data may be changed by other threads during sorting
+			Map<SqlDomainObject, long[]> accessDataMap = new HashMap<>();
+			stream(cachedDomainClass).filter(o -> !objectsToKeep.contains(o) && o.isStored).forEach(o -> accessDataMap.put(o, new long[] { o.accessCount, o.lastAccess }));
+
+			Comparator<SqlDomainObject> evictionOrder = (cached.policy() == EvictionPolicy.LFU
+					? Comparator.<SqlDomainObject> comparingLong(o -> accessDataMap.get(o)[0]).thenComparingLong(o -> accessDataMap.get(o)[1])
+					: Comparator.<SqlDomainObject> comparingLong(o -> accessDataMap.get(o)[1]));
+
+			// Check candidates in eviction order and stop if enough objects to evict were found (checks for references and unsaved changes are expensive) - unregister objects after checking all
+			// candidates to not affect reference checks
+			long countToEvict = count - cached.capacity() * 9L / 10;
+			List<SqlDomainObject> objectsToEvict = new ArrayList<>();
+			for (SqlDomainObject obj : accessDataMap.keySet().stream().sorted(evictionOrder).collect(Collectors.toList())) {
+				if (objectsToEvict.size() >= countToEvict) {
+					break;
+				}
+				if (!isReferenced(obj) && !hasUnsavedChanges(obj)) {
+					objectsToEvict.add(obj);
+				}
+			}
+			objectsToEvict.forEach(this::unregister);
+
+			if (log.isDebugEnabled()) {
+				log.debug("SDC: Evicted {} '{}' objects ({} objects registered before, capacity: {})", objectsToEvict.size(), cachedDomainClass.getSimpleName(), count, cached.capacity());
+			}
+		}
 	}
 
 	// -------------------------------------------------------------------------
@@ -391,62 +635,105 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 		Set<SqlDomainObject> loadedObjects = null;
 	}
 
+	// Consumer of loaded object records - object records by id by object domain class - which may be called multiple times during one load operation (batches)
+	@FunctionalInterface
+	interface RecordBatchConsumer {
+		void accept(Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> loadedRecordsMap) throws SQLException, SqlDbException;
+	}
+
 	// Load objects from database using SELECT supplier, finalize these objects and load and load missing referenced objects in a loop to ensure referential integrity.
-	private LoadResult loadAssuringReferentialIntegrity(Function<Connection, Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>>> select) throws SQLException, SqlDbException {
+	// Select supplier: loads object records from database using given connection and passes them - at once or in batches - to given consumer. Exceptions are propagated to avoid treating objects
+	// of domain classes which could not be loaded as deleted
+	@FunctionalInterface
+	interface SelectSupplier {
+		void select(Connection cn, RecordBatchConsumer consumer) throws SQLException, SqlDbException;
+	}
+
+	private LoadResult loadAssuringReferentialIntegrity(SelectSupplier select) throws SQLException, SqlDbException {
 
 		// Get database connection from pool
 		try (SqlConnection sqlcn = SqlConnection.open(sqlDb.getPool(), true)) {
 
-			// Initially load object records using given select-supplier
-			Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> loadedRecordsMap = select.apply(sqlcn.cn);
+			// Publish changes of load operation in one batch. Assign loaded values within write phases to allow capturing consistent snapshots - write phases cover only in-memory operations
+			// (not loading missing objects from database) to not let snapshots fail during long running synchronizations
+			beginChangeBatch();
+			try {
+
+				// Create loader object containing domain controller and SQL connection
+				Loader loader = new Loader(this, sqlcn.cn);
+
+				// Collect loaded objects, objects where references were changed and unresolved references over all batches and load cycles and determine if database changes were detected
+				// (ignoring unsaved local object changes)
+				LoadResult loadResult = new LoadResult();
+				loadResult.loadedObjects = new HashSet<>();
+				Set<SqlDomainObject> objectsWhereReferencesChanged = new HashSet<>();
+				List<UnresolvedReference> unresolvedReferences = new ArrayList<>();
+				RecordBatchConsumer buildObjects = loadedRecordsMap -> {
+
+					// Instantiate newly loaded objects, assign changed data and references to objects, collect unresolved references
+					IntermediateLoadResult intermediateLoadResult;
+					beginWritePhase();
+					try {
+						intermediateLoadResult = loader.buildObjectsFromLoadedRecords(loadedRecordsMap);
+					}
+					finally {
+						endWritePhase();
+					}
 
-			// Create loader object containing domain controller and SQL connection
-			Loader loader = new Loader(this, sqlcn.cn);
+					loadResult.hasChanges |= intermediateLoadResult.hasChanges;
+					loadResult.loadedObjects.addAll(intermediateLoadResult.loadedObjects);
+					objectsWhereReferencesChanged.addAll(intermediateLoadResult.objectsWhereReferencesChanged);
+					unresolvedReferences.addAll(intermediateLoadResult.unresolvedReferences);
+				};
 
-			// Instantiate newly loaded objects, assign changed data and references to objects, collect initially unresolved references
-			IntermediateLoadResult intermediateLoadResult = loader.buildObjectsFromLoadedRecords(loadedRecordsMap);
+				// Initially load object records using given select-supplier and build objects - batch by batch if select supplier provides records in batches, so only records of one batch are
+				// held in memory. References to objects which are loaded in later batches remain unresolved until all batches are processed
+				select.select(sqlcn.cn, buildObjects);
 
-			// Determine if database changes were detected (ignoring unsaved local object changes) and collect loaded objects and objects where references were changed in initial load cycle
-			LoadResult loadResult = new LoadResult();
-			loadResult.hasChanges = intermediateLoadResult.hasChanges;
-			loadResult.loadedObjects = new HashSet<>(intermediateLoadResult.loadedObjects);
-			Set<SqlDomainObject> objectsWhereReferencesChanged = new HashSet<>(intermediateLoadResult.objectsWhereReferencesChanged);
+				// Cyclicly load and instantiate missing referenced objects and detect unresolved references on these objects
+				int c = 1;
+				while (!unresolvedReferences.isEmpty()) {
 
-			// Cyclicly load and instantiate missing referenced objects and detect unresolved references on these objects
-			int c = 1;
-			Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> missingRecordsMap;
-			List<UnresolvedReference> currentUnresolvedReferences = null;
-			while (!intermediateLoadResult.unresolvedReferences.isEmpty()) {
+					if (log.isDebugEnabled()) {
+						log.debug("SDC: There were in total {} unresolved reference(s) of {} objects referenced by {} objects detected in {}. load cycle", unresolvedReferences.size(),
+								unresolvedReferences.stream().map(ur -> ur.refField.getType().getSimpleName()).distinct().collect(Collectors.toList()),
+								unresolvedReferences.stream().map(ur -> ur.obj.getClass().getSimpleName()).distinct().collect(Collectors.toList()), c++);
+					}
 
-				if (log.isDebugEnabled()) {
-					log.debug("SDC: There were in total {} unresolved reference(s) of {} objects referenced by {} objects detected in {}. load cycle",
-							intermediateLoadResult.unresolvedReferences.size(),
-							intermediateLoadResult.unresolvedReferences.stream().map(ur -> ur.refField.getType().getSimpleName()).distinct().collect(Collectors.toList()),
-							intermediateLoadResult.unresolvedReferences.stream().map(ur -> ur.obj.getClass().getSimpleName()).distinct().collect(Collectors.toList()), c++);
-				}
+					// Load missing objects of unresolved references (objects loaded in later batches are not missing anymore)
+					Map<Class<? extends SqlDomainObject>, Map<Long, SortedMap<String, Object>>> missingRecordsMap = loader.loadMissingObjects(unresolvedReferences);
 
-				// Load and instantiate missing objects of unresolved references
-				missingRecordsMap = loader.loadMissingObjects(intermediateLoadResult.unresolvedReferences);
+					// Store current unresolved references to later resolve them after all missing objects were initiated and initialized
+					List<UnresolvedReference> currentUnresolvedReferences = new ArrayList<>(unresolvedReferences);
+					unresolvedReferences.clear();
 
-				// Store current unresolved references to later resolve them after all missing objects were initiated and initialized
-				currentUnresolvedReferences = new ArrayList<>(intermediateLoadResult.unresolvedReferences);
+					// Instantiate and initialize missed objects and determine further unresolved references
+					buildObjects.accept(missingRecordsMap);
 
-				// Instantiate and initialize missed objects, store current unresolved references and determine further unresolved references
-				intermediateLoadResult = loader.buildObjectsFromLoadedRecords(missingRecordsMap);
+					// Resolve current unresolved references after missing objects were instantiated and initialized
+					beginWritePhase();
+					try {
+						loader.resolveUnresolvedReferences(currentUnresolvedReferences);
+					}
+					finally {
+						endWritePhase();
+					}
+				}
 
-				// Determine if database changes were detected in subsequent load cycle and further collect loaded objects and objects where references were changed
-				loadResult.hasChanges |= intermediateLoadResult.hasChanges;
-				loadResult.loadedObjects.addAll(intermediateLoadResult.loadedObjects);
-				objectsWhereReferencesChanged.addAll(intermediateLoadResult.objectsWhereReferencesChanged);
+				// Update accumulations of all objects which are referenced by any of the objects where references changed
+				beginWritePhase();
+				try {
+					objectsWhereReferencesChanged.forEach(this::updateAccumulationsOfParentObjects);
+				}
+				finally {
+					endWritePhase();
+				}
 
-				// Resolve current unresolved references after missing objects were instantiated and initialized
-				loader.resolveUnresolvedReferences(currentUnresolvedReferences);
+				return loadResult;
+			}
+			finally {
+				endChangeBatch(false);
 			}
-
-			// Update accumulations of all objects which are referenced by any of the objects where references changed
-			objectsWhereReferencesChanged.forEach(this::updateAccumulationsOfParentObjects);
-
-			return loadResult;
 		}
 	}
 
@@ -463,6 +750,8 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 	 * For data horizon controlled domain classes this method first loads only objects within data horizon (see {@link UseDataHorizon}). But method ensures referential integrity by generally loading
 	 * all referenced objects even if they are out of data horizon.
 	 * <p>
+	 * For cached domain classes (see {@link Cached}) only currently registered objects are refreshed from database and objects exceeding capacity are evicted afterwards.
+	 * <p>
 	 * This method is used for initial loading of domain objects from persistence database on startup. If there is a single domain controller instance connected to persistence database this method
 	 * only removes objects which fell out of data horizon from object store on subsequent calls. This also means that for single domain controller instance configurations where data horizon control
 	 * is not active it is sufficient to call this method once at startup.
@@ -480,28 +769,112 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 	 */
 	@SafeVarargs
 	public final boolean synchronize(Class<? extends SqlDomainObject>... objectDomainClassesToExclude) throws SQLException, SqlDbException {
+		List<Class<? extends SqlDomainObject>> domainClassesToExclude = new ArrayList<>(); // Copy without passing varargs array on
+		if (objectDomainClassesToExclude != null) {
+			for (Class<? extends SqlDomainObject> domainClass : objectDomainClassesToExclude) {
+				domainClassesToExclude.add(domainClass);
+			}
+		}
+		return synchronize(false, domainClassesToExclude);
+	}
 
-		log.info("SDC: Synchronize with database... {}",
-				(objectDomainClassesToExclude != null && objectDomainClassesToExclude.length > 0
-						? " - domain classes to exclude from loading: " + Stream.of(objectDomainClassesToExclude).map(Class::getSimpleName).collect(Collectors.toList())
+	/**
+	 * Synchronize domain objects with database loading only records which were modified since last synchronization.
+	 * <p>
+	 * Like {@link #synchronize(Class...)} but for every object domain class only records are selected where last modification date is not before watermark of this domain class minus
+	 * 'syncClockSkewMargin' (configurable in 'domain.properties', default 10s, to compensate clock skew between instances and commit delays). Watermark is the highest last modification date of
+	 * records loaded for domain class by any synchronization. So costs of synchronization are proportional to the number of changes instead of the number of objects. Domain classes without
+	 * watermark (no synchronization done before) are loaded completely.
+	 * <p>
+	 * Objects which were deleted in database by another instance or which fell out of data horizon are detected by selecting only the ids of existing objects (no full records, no entry tables)
+	 * and are unregistered if they are not referenced by any object.
+	 * 
+	 * @param objectDomainClassesToExclude
+	 *            (optional) object domain classes which objects shall not be loaded from database - if objects of this classes are referenced by loaded objects they will be loaded anyway (referential
+	 *            integrity)
+	 * 
+	 * @return true if at least one new or changed object was loaded from database, false otherwise
+	 * 
+	 * @throws SQLException
+	 *             if executed SELECT statement throws SQLException
+	 * @throws SqlDbException
+	 *             on Java/SQL inconsistencies
+	 */
+	@SafeVarargs
+	public final boolean synchronizeIncrementally(Class<? extends SqlDomainObject>... objectDomainClassesToExclude) throws SQLException, SqlDbException {
+		List<Class<? extends SqlDomainObject>> domainClassesToExclude = new ArrayList<>(); // Copy without passing varargs array on
+		if (objectDomainClassesToExclude != null) {
+			for (Class<? extends SqlDomainObject> domainClass : objectDomainClassesToExclude) {
+				domainClassesToExclude.add(domainClass);
+			}
+		}
+		return synchronize(true, domainClassesToExclude);
+	}
+
+	// Synchronize completely or incrementally
+	private boolean synchronize(boolean incrementally, List<Class<? extends SqlDomainObject>> objectDomainClassesToExclude) throws SQLException, SqlDbException {
+
+		log.info("SDC: Synchronize{} with database... {}", (incrementally ? " incrementally" : ""),
+				(!objectDomainClassesToExclude.isEmpty()
+						? " - domain classes to exclude from loading: " + objectDomainClassesToExclude.stream().map(Class::getSimpleName).collect(Collectors.toList())
 						: ""));
 
-		// Save all new, un-stored objects to database (but do not save unsaved changes of already stored objects to avoid overriding with database changes without notification)
-		for (SqlDomainObject obj : findAll(o -> !o.isStored())) {
-			save(obj);
-		}
+		// Publish changes of whole synchronization in one batch
+		beginChangeBatch();
+		try {
+			// Save all new, un-stored objects to database (but do not save unsaved changes of already stored objects to avoid overriding with database changes without notification)
+			for (SqlDomainObject obj : new ArrayList<>(newObjects)) {
+				if (!obj.isStored()) {
+					save(obj);
+				}
+			}
 
-		// Load all objects from database - override unsaved local object changes by changes in database on contradiction, assign field warning(s) to such objects in this case
-		LoadResult loadResult = loadAssuringReferentialIntegrity(cn -> new Loader(this, cn).selectAll(objectDomainClassesToExclude));
+			// Do not load objects of excluded and cached domain classes in bulk - only refresh registered objects of cached domain classes
+			List<Class<? extends SqlDomainObject>> domainClassesToExclude = new ArrayList<>(cachedDomainClassMap.keySet());
+			domainClassesToExclude.addAll(objectDomainClassesToExclude);
+
+			// Load all (or all since last synchronization modified) objects from database - override unsaved local object changes by changes in database on contradiction, assign field warning(s)
+			// to such objects in this case
+			Map<Class<? extends SqlDomainObject>, LocalDateTime> loadedWatermarkMap = new ConcurrentHashMap<>();
+			LoadResult loadResult = loadAssuringReferentialIntegrity((cn, consumer) -> {
+				Loader loader = new Loader(this, cn);
+				loader.selectAll(domainClassesToExclude, incrementally, loadedWatermarkMap, consumer);
+				consumer.accept(loader.selectRegistered(cachedDomainClassMap.keySet()));
+			});
+
+			// Advance watermarks not until loaded records were successfully assigned to objects
+			loadedWatermarkMap.forEach((c, watermark) -> syncWatermarkMap.merge(c, watermark, (w1, w2) -> (w1.isAfter(w2) ? w1 : w2)));
+
+			// On incremental synchronization determine ids of existing objects of incrementally loaded domain classes (only ids are selected) - objects stored after selecting ids are kept
+			Map<Class<? extends SqlDomainObject>, Set<Long>> existingIdsMap = new HashMap<>();
+			LocalDateTime idSelectionStart = LocalDateTime.now();
+			if (incrementally) {
+				try (SqlConnection sqlcn = SqlConnection.open(sqlDb.getPool(), true)) {
+					existingIdsMap = new Loader(this, sqlcn.cn).selectExistingIds(getRegistry().getRegisteredObjectDomainClasses().stream()
+							.filter(c -> domainClassesToExclude.stream().noneMatch(e -> e.isAssignableFrom(c))).collect(Collectors.toList()));
+				}
+			}
+			Map<Class<? extends SqlDomainObject>, Set<Long>> finalExistingIdsMap = existingIdsMap;
+			Predicate<SqlDomainObject> existsPredicate = (o -> loadResult.loadedObjects.contains(o)
+					|| finalExistingIdsMap.getOrDefault(o.getClass(), Collections.emptySet()).contains(o.getId())
+					|| incrementally && o.lastModifiedInDb != null && !o.lastModifiedInDb.isBefore(idSelectionStart));
+
+			// Unregister existing objects which were neither loaded from database again nor found by id (deleted in database by another instance or fell out of data horizon) and which are not
+			// referenced by any object
+			for (SqlDomainObject obj : findAll(o -> !existsPredicate.test(o) && !isReferenced(o))) {
+				unregister(obj);
+			}
 
-		// Unregister existing objects which were not loaded from database again (deleted in database by another instance or fell out of data horizon) and which are not referenced by any object
-		for (SqlDomainObject obj : findAll(o -> !loadResult.loadedObjects.contains(o) && !isReferenced(o))) {
-			unregister(obj);
-		}
+			// Evict objects of cached domain classes if capacity is exceeded
+			evictCachedObjects(Collections.emptySet());
 
-		log.info("SDC: Synchronization with database done.");
+			log.info("SDC: Synchronization with database done.");
 
-		return loadResult.hasChanges;
+			return loadResult.hasChanges;
+		}
+		finally {
+			endChangeBatch(false);
+		}
 	}
 
 	// -------------------------------------------------------------------------
@@ -545,13 +918,47 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 	 *             if object domain class of any referenced object could not be determined
 	 */
 	public Set<SqlDomainObject> loadOnly(Class<? extends SqlDomainObject> objectDomainClass, String whereClause, int maxCount) throws SQLException, SqlDbException {
+		return loadOnly(objectDomainClass, whereClause, null, maxCount);
+	}
+
+	/**
+	 * Load objects of only one (primary) object domain class selected by query and also objects directly or indirectly referenced by these primarily loaded objects (to ensure referential
+	 * integrity).
+	 * <p>
+	 * Query is translated into a WHERE clause using bind variables for condition values - in contrast to {@link #loadOnly(Class, String, int)} no knowledge about Java -> SQL mapping is needed. Query
+	 * conditions on encrypted fields are not allowed.
+	 * 
+	 * @param objectDomainClass
+	 *            object domain class of primary objects to load
+	 * @param query
+	 *            query on data and reference fields of object domain class or of its base classes
+	 * @param maxCount
+	 *            maximum number of primary objects to load
+	 * 
+	 * @return objects loaded from database potentially including referenced objects of other classes than the given object domain class (referential integrity)
+	 * 
+	 * @throws SQLException
+	 *             on opening database connection or performing SELECT statements
+	 * @throws SqlDbException
+	 *             if query is invalid for object domain class or if object domain class of any referenced object could not be determined
+	 */
+	public Set<SqlDomainObject> loadOnlyByQuery(Class<? extends SqlDomainObject> objectDomainClass, Query query, int maxCount) throws SQLException, SqlDbException {
+
+		List<Object> values = new ArrayList<>();
+		String whereClause = getSqlRegistry().buildWhereClause(objectDomainClass, query, values);
+		return loadOnly(objectDomainClass, whereClause, values, maxCount);
+	}
+
+	// Load objects of one object domain class - values are values for placeholders of WHERE clause (or null)
+	private Set<SqlDomainObject> loadOnly(Class<? extends SqlDomainObject> objectDomainClass, String whereClause, List<Object> values, int maxCount) throws SQLException, SqlDbException {
 
 		if (log.isDebugEnabled()) {
 			log.debug("SDC: Load {}'{}' objects{}", (maxCount > 0 ? "max " + maxCount + " " : ""), objectDomainClass.getSimpleName(),
 					(!isEmpty(whereClause) ? " WHERE " + whereClause.toUpperCase() : ""));
 		}
 
-		LoadResult loadResult = loadAssuringReferentialIntegrity(cn -> new Loader(this, cn).select(objectDomainClass, whereClause, maxCount));
+		LoadResult loadResult = loadAssuringReferentialIntegrity((cn, consumer) -> new Loader(this, cn).select(objectDomainClass, whereClause, values, maxCount, consumer));
+		evictCachedObjects(loadResult.loadedObjects);
 
 		return loadResult.loadedObjects;
 	}
@@ -592,7 +999,7 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 			log.debug("SDC: Load {} from database", obj.name());
 		}
 
-		LoadResult loadResult = loadAssuringReferentialIntegrity(cn -> new Loader(this, cn).selectObjectRecord(obj));
+		LoadResult loadResult = loadAssuringReferentialIntegrity((cn, consumer) -> consumer.accept(new Loader(this, cn).selectObjectRecord(obj)));
 		if (loadResult.loadedObjects.isEmpty()) {
 			log.warn("SDC: {} could not be reloaded!", obj.universalId());
 		}
@@ -640,17 +1047,58 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 	 * @throws SqlDbException
 	 *             on internal errors
 	 */
-	@SuppressWarnings("unchecked")
 	public <S extends SqlDomainObject> Set<S> allocateObjectsExclusively(Class<S> objectDomainClass, Class<? extends SqlDomainObject> inProgressClass, String whereClause, int maxCount,
 			Consumer<? super S> update) throws SQLException, SqlDbException {
 
+		return allocateObjectsExclusively(objectDomainClass, inProgressClass, whereClause, null, maxCount, update);
+	}
+
+	/**
+	 * Select objects by query and allocate them for exclusive use.
+	 * <p>
+	 * Works like {@link #allocateObjectsExclusively(Class, Class, String, int, Consumer)} but objects to allocate are selected by query - see {@link #loadOnlyByQuery(Class, Query, int)}.
+	 * 
+	 * @param <S>
+	 *            specific domain object class type
+	 * @param objectDomainClass
+	 *            object domain class of objects to allocate exclusively
+	 * @param inProgressClass
+	 *            class for shadow records to ensure exclusivity of this operation - @see {@link #allocateObjectExclusively(SqlDomainObject, Class, Consumer)}
+	 * @param query
+	 *            query on data and reference fields of object domain class or of its base classes to select objects to allocate
+	 * @param maxCount
+	 *            maximum # of objects to allocate
+	 * @param update
+	 *            optional function to compute immediately on allocated objects (or null)
+	 * 
+	 * @return allocated objects
+	 * 
+	 * @throws SQLException
+	 *             exceptions thrown establishing connection or on executing SQL SELECT or UPDATE statement
+	 * @throws SqlDbException
+	 *             if query is invalid for object domain class or on internal errors
+	 */
+	public <S extends SqlDomainObject> Set<S> allocateObjectsExclusivelyByQuery(Class<S> objectDomainClass, Class<? extends SqlDomainObject> inProgressClass, Query query, int maxCount,
+			Consumer<? super S> update) throws SQLException, SqlDbException {
+
+		List<Object> values = new ArrayList<>();
+		String whereClause = getSqlRegistry().buildWhereClause(objectDomainClass, query, values);
+		return allocateObjectsExclusively(objectDomainClass, inProgressClass, whereClause, values, maxCount, update);
+	}
+
+	// Select and allocate objects for exclusive use - values are values for placeholders of WHERE clause (or null)
+	@SuppressWarnings("unchecked")
+	private <S extends SqlDomainObject> Set<S> allocateObjectsExclusively(Class<S> objectDomainClass, Class<? extends SqlDomainObject> inProgressClass, String whereClause, List<Object> values,
+			int maxCount, Consumer<? super S> update) throws SQLException, SqlDbException {
+
 		if (log.isTraceEnabled()) {
 			log.trace("SDC: Allocate {}'{}' objects{} exclusively for this domain controller instance", (maxCount > 0 ? "max " + maxCount + " " : ""), objectDomainClass.getSimpleName(),
 					(!isEmpty(whereClause) ? " WHERE " + whereClause.toUpperCase() : ""));
 		}
 
 		// Load objects related to given object domain class
-		LoadResult loadResult = loadAssuringReferentialIntegrity(cn -> new Loader(this, cn).selectExclusively(objectDomainClass, inProgressClass, whereClause, maxCount));
+		LoadResult loadResult = loadAssuringReferentialIntegrity((cn, consumer) -> consumer.accept(new Loader(this, cn).selectExclusively(objectDomainClass, inProgressClass, whereClause, values, maxCount)));
+		evictCachedObjects(loadResult.loadedObjects);
 
 		// Filter objects of object domain class itself (because loaded objects may contain referenced objects of other domain classes too)
 		Set<S> allocatedObjects = new HashSet<>(loadResult.loadedObjects.stream().filter(o -> o.getClass().equals(objectDomainClass)).map(o -> (S) o).collect(Collectors.toSet()));
@@ -738,7 +1186,7 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 	public <S extends SqlDomainObject> boolean releaseObject(S obj, Class<? extends SqlDomainObject> inProgressClass, Consumer<? super S> update) throws SQLException, SqlDbException {
 
 		// Check if object is allocated for exclusive use
-		SqlDomainObject inProgressObject = find(inProgressClass, obj.getId());
+		SqlDomainObject inProgressObject = findRegistered(inProgressClass, obj.getId());
 		if (inProgressObject == null) {
 			log.warn("SDC: {} is currently not allocated for exclusive usage", obj);
 			return false;
@@ -854,6 +1302,8 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 	 */
 	public boolean save(Connection cn, SqlDomainObject obj) throws SQLException, SqlDbException {
 
+		boolean isRolledBack = false;
+		beginChangeBatch();
 		try {
 			// Save object
 			boolean wasChanged = new Saver(this, cn).save(obj, new ArrayList<>());
@@ -876,9 +1326,13 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 
 			// ROLL BACK complete save transaction
 			SqlConnection.rollback(cn);
+			isRolledBack = true;
 
 			throw sqlex;
 		}
+		finally {
+			endChangeBatch(isRolledBack); // Discard change events of rolled back transaction
+		}
 	}
 
 	/**
@@ -1031,6 +1485,8 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 			return false;
 		}
 
+		boolean isRolledBack = false;
+		beginChangeBatch();
 		try {
 			if (log.isDebugEnabled()) {
 				log.debug("SDC: Delete {}", obj.name());
@@ -1057,9 +1513,13 @@ public class SqlDomainController extends DomainController<SqlDomainObject> {
 
 			// ROLL BACK complete delete transaction
 			SqlConnection.rollback(cn);
+			isRolledBack = true;
 
 			throw sqlex;
 		}
+		finally {
+			endChangeBatch(isRolledBack); // Discard change events of rolled back transaction (deleted objects were re-registered)
+		}
 	}
 
 	/**
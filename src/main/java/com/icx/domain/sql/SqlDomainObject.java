@@ -4,6 +4,7 @@ import java.lang.reflect.Field;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -14,6 +15,8 @@ import org.slf4j.LoggerFactory;
 
 import com.icx.common.AESCrypt;
 import com.icx.domain.DomainObject;
+import com.icx.domain.FieldAccessor;
+import com.icx.domain.Registry;
 import com.icx.domain.sql.Annotations.Crypt;
 import com.icx.jdbc.SqlDbException;
 
@@ -38,6 +41,11 @@ public abstract class SqlDomainObject extends DomainObject {
 	// Is already saved to database?
 	transient boolean isStored = false;
 
+	// Time of last access and number of accesses - only used for eviction of objects of cached domain classes. Updated without synchronization, so values are approximate if object is accessed
+	// concurrently (lost increments are acceptable for selecting eviction candidates)
+	transient long lastAccess = 0;
+	transient int accessCount = 0;
+
 	/**
 	 * Check if domain object is already stored to database (persisted).
 	 * 
@@ -68,9 +76,23 @@ public abstract class SqlDomainObject extends DomainObject {
 	@Override
 	public Object getFieldValue(Field field) {
 
-		Object fieldValue = super.getFieldValue(field);
+		FieldAccessor accessor = getAccessor(field);
+		if (accessor != null) {
+			return getFieldValue(accessor);
+		}
+		return encryptIfSecret(field, field.isAnnotationPresent(Crypt.class) && field.getType() == String.class, super.getFieldValue(field));
+	}
+
+	// Get encrypted field value for 'secret' fields using given accessor
+	@Override
+	public Object getFieldValue(FieldAccessor accessor) {
+		return encryptIfSecret(accessor.field, accessor.isCrypt, accessor.get(this));
+	}
+
+	// Encrypt value of 'secret' field
+	private Object encryptIfSecret(Field field, boolean isCrypt, Object fieldValue) {
 
-		if (field.isAnnotationPresent(Crypt.class) && field.getType() == String.class && fieldValue != null) { // Column value is encrypted
+		if (isCrypt && fieldValue != null) { // Column value is encrypted
 
 			if (!isEmpty(sdc().cryptPassword)) {
 				try {
@@ -93,6 +115,108 @@ public abstract class SqlDomainObject extends DomainObject {
 		}
 	}
 
+	// -------------------------------------------------------------------------
+	// Dirty tracking
+	// -------------------------------------------------------------------------
+
+	// Ordinals of fields marked as changed since last saving - only used for objects of domain classes annotated with @DirtyTracking (null if no field is marked)
+	private transient BitSet dirtyFieldOrdinals = null;
+
+	// All fields are marked as changed
+	private transient boolean isAllDirty = false;
+
+	// Get registered (data, reference or complex) field by name - null if field does not exist
+	private Field getRegisteredField(String fieldName) {
+
+		SqlRegistry registry = sdc().getSqlRegistry();
+		Field field = registry.getFieldByName(registry.getCastedDomainClass(this), fieldName);
+		if (field == null || !(Registry.isDataField(field) || registry.isReferenceField(field) || registry.isComplexField(field))) {
+			log.error("SDC: Field '{}' is not a registered field of domain class '{}' or any of its base classes", fieldName, getClass().getSimpleName());
+			return null;
+		}
+		return field;
+	}
+
+	/**
+	 * Mark field as changed.
+	 * <p>
+	 * Only relevant for objects of domain classes annotated with {@link Annotations.DirtyTracking} - on saving such objects only changes of fields marked as changed are saved. For reference fields
+	 * parent/child index is updated for all objects, so the changed reference is considered on deletion of referenced objects even if it is not saved yet.
+	 * 
+	 * @param fieldName
+	 *            name of changed data, reference or collection/map field of object's domain class or any of its base classes
+	 */
+	public final void markDirty(String fieldName) {
+
+		Field field = getRegisteredField(fieldName);
+		if (field == null) {
+			return;
+		}
+
+		int ordinal = sdc().getRegistry().getFieldOrdinal(field);
+		synchronized (this) {
+			if (dirtyFieldOrdinals == null) {
+				dirtyFieldOrdinals = new BitSet();
+			}
+			dirtyFieldOrdinals.set(ordinal);
+		}
+
+		if (sdc().getRegistry().isReferenceField(field)) {
+			sdc().updateChildrenIndex(this);
+		}
+	}
+
+	/**
+	 * Mark all fields as changed - forces comparing all fields with database state on next saving for objects of domain classes annotated with {@link Annotations.DirtyTracking}.
+	 */
+	public final void markDirty() {
+
+		synchronized (this) {
+			isAllDirty = true;
+		}
+		sdc().updateChildrenIndex(this);
+	}
+
+	/**
+	 * Set field value and mark field as changed - see {@link #markDirty(String)}.
+	 * 
+	 * @param fieldName
+	 *            name of data, reference or collection/map field of object's domain class or any of its base classes
+	 * @param value
+	 *            new field value
+	 */
+	public final void setAndMarkDirty(String fieldName, Object value) {
+
+		Field field = getRegisteredField(fieldName);
+		if (field == null) {
+			return;
+		}
+
+		setFieldValue(field, value);
+		markDirty(fieldName);
+	}
+
+	// Get ordinals of fields to compare with database state on saving - null if all fields have to be compared (no dirty tracking or all fields marked as changed)
+	synchronized BitSet getFieldOrdinalsToCompare() {
+
+		if (isAllDirty || !sdc().getRegistry().isDirtyTracked(getClass())) {
+			return null;
+		}
+		return (dirtyFieldOrdinals != null ? (BitSet) dirtyFieldOrdinals.clone() : new BitSet());
+	}
+
+	// Reset change marks for given fields (all marks if null) after saving
+	synchronized void clearDirtyFields(BitSet savedFieldOrdinals) {
+
+		if (savedFieldOrdinals == null) {
+			dirtyFieldOrdinals = null;
+			isAllDirty = false;
+		}
+		else if (dirtyFieldOrdinals != null) {
+			dirtyFieldOrdinals.andNot(savedFieldOrdinals);
+		}
+	}
+
 	// -------------------------------------------------------------------------
 	// Field errors
 	// -------------------------------------------------------------------------
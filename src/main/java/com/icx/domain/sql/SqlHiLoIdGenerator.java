@@ -0,0 +1,240 @@
+package com.icx.domain.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.icx.common.Common;
+import com.icx.domain.IdGenerator;
+import com.icx.jdbc.ConnectionPool;
+import com.icx.jdbc.SqlConnection;
+
+/**
+ * Hi/lo id generator which allocates blocks of ids from a database table.
+ * <p>
+ * Ids are generated as 'hi' * block size + 'lo' where 'hi' is incremented in database once per block and 'lo' is counted up in memory lock-free. Only fetching a new block is synchronized. So
+ * generated ids are unique across multiple domain controller instances (JVMs) using the same database - in contrast to {@link com.icx.domain.TimeBasedIdGenerator} where id collisions between
+ * instances are only unlikely.
+ * <p>
+ * Id block table must exist in database, e.g.: {@code CREATE TABLE DOM_ID_BLOCK (NAME VARCHAR(64) NOT NULL PRIMARY KEY, NEXT_HI BIGINT NOT NULL)}. Row for generator name will be created on first
+ * use (if another instance creates this row concurrently allocation is retried). Ids of blocks not fully used on shutdown are lost. On reserving multiple ids at once all needed blocks are
+ * allocated in one database operation.
+ * <p>
+ * Usage: {@code sdc.setIdGenerator(new SqlHiLoIdGenerator(sdc.getPool(), "DOM_ID_BLOCK", "DEFAULT", 1000))} after initializing domain controller.
+ *
+ * @author baumgrai
+ */
+public class SqlHiLoIdGenerator extends Common implements IdGenerator {
+
+	static final Logger log = LoggerFactory.getLogger(SqlHiLoIdGenerator.class);
+
+	// Block of ids - 'next' is counted up lock-free until 'end' is reached
+	private static class Block {
+
+		final AtomicLong next;
+		final long end;
+
+		Block(
+				long start,
+				long end) {
+
+			this.next = new AtomicLong(start);
+			this.end = end;
+		}
+	}
+
+	// Members
+
+	private final ConnectionPool pool;
+	private final String tableName;
+	private final String name;
+	private final int blockSize;
+
+	// Current block - initially empty
+	private volatile Block block = new Block(0, 0);
+
+	/**
+	 * Constructor
+	 *
+	 * @param pool
+	 *            connection pool of database containing id block table
+	 * @param tableName
+	 *            name of id block table (with columns NAME and NEXT_HI)
+	 * @param name
+	 *            name of id sequence (row in id block table)
+	 * @param blockSize
+	 *            number of ids allocated at once
+	 */
+	public SqlHiLoIdGenerator(
+			ConnectionPool pool,
+			String tableName,
+			String name,
+			int blockSize) {
+
+		this.pool = pool;
+		this.tableName = tableName.toUpperCase();
+		this.name = name;
+		this.blockSize = blockSize;
+	}
+
+	// Check if exception was caused by violation of primary key or unique constraint (SQL state class 23: integrity constraint violation)
+	private static boolean isDuplicateKey(SQLException sqlex) {
+		return (sqlex instanceof SQLIntegrityConstraintViolationException || sqlex.getSQLState() != null && sqlex.getSQLState().startsWith("23"));
+	}
+
+	// Increment 'hi' value in database by given # of blocks and return value before incrementing - 'hi' values start with 1 to avoid id 0. Increment is committed explicitly - if commit fails
+	// exception is thrown and block must not be used
+	private long allocateHi(int blocks) throws SQLException {
+
+		try (SqlConnection sqlcn = SqlConnection.open(pool, false)) {
+			Connection cn = sqlcn.cn;
+
+			for (int attempt = 1;; attempt++) {
+				try {
+					long hi;
+
+					// UPDATE locks row until commit so concurrent instances get different 'hi' values
+					String update = "UPDATE " + tableName + " SET NEXT_HI=NEXT_HI+? WHERE NAME=?";
+					try (PreparedStatement pst = cn.prepareStatement(update)) {
+						if (log.isDebugEnabled()) {
+							log.debug("SQL: {}", update);
+						}
+						pst.setLong(1, blocks);
+						pst.setString(2, name);
+						if (pst.executeUpdate() == 0) {
+
+							// First use of id sequence - create row
+							String insert = "INSERT INTO " + tableName + " (NAME, NEXT_HI) VALUES (?, ?)";
+							try (PreparedStatement ipst = cn.prepareStatement(insert)) {
+								if (log.isDebugEnabled()) {
+									log.debug("SQL: {}", insert);
+								}
+								ipst.setString(1, name);
+								ipst.setLong(2, 1L + blocks);
+								ipst.executeUpdate();
+							}
+							hi = 1;
+						}
+						else {
+							String select = "SELECT NEXT_HI FROM " + tableName + " WHERE NAME=?";
+							try (PreparedStatement spst = cn.prepareStatement(select)) {
+								if (log.isDebugEnabled()) {
+									log.debug("SQL: {}", select);
+								}
+								spst.setString(1, name);
+								try (ResultSet rs = spst.executeQuery()) {
+									if (!rs.next()) {
+										throw new SQLException("Row for id sequence '" + name + "' disappeared after incrementing 'hi' value");
+									}
+									hi = rs.getLong(1) - blocks;
+								}
+							}
+						}
+					}
+
+					// Commit explicitly (closing connection only logs failed commits) - ids of block are unique only if incremented 'hi' value is persisted
+					cn.commit();
+					return hi;
+				}
+				catch (SQLException sqlex) {
+					SqlConnection.rollback(cn);
+
+					// Another instance created row for id sequence concurrently on first use - retry UPDATE
+					if (attempt == 1 && isDuplicateKey(sqlex)) {
+						log.info("SDC: Row for id sequence '{}' was created concurrently by another instance - retry allocating id block", name);
+						continue;
+					}
+					throw sqlex;
+				}
+			}
+		}
+	}
+
+	// Allocate given # of consecutive blocks - throws IllegalStateException if blocks could not be allocated
+	private long allocateBlocks(int blocks) {
+
+		try {
+			long hi = allocateHi(blocks);
+			if (log.isDebugEnabled()) {
+				log.debug("SDC: Allocated id block(s) {}..{} for '{}' ({} ids per block)", hi, hi + blocks - 1, name, blockSize);
+			}
+			return hi;
+		}
+		catch (SQLException sqlex) {
+			log.error("SDC: {} '{}' occurred trying to allocate id block for '{}' from table '{}'", sqlex.getClass().getSimpleName(), sqlex.getMessage(), name, tableName);
+			throw new IllegalStateException("Id block could not be allocated", sqlex);
+		}
+	}
+
+	// Fetch new block of ids if given block is still current block (was not replaced by another thread in the meantime)
+	private synchronized void refill(Block exhaustedBlock) {
+
+		if (block != exhaustedBlock) {
+			return;
+		}
+
+		long hi = allocateBlocks(1);
+		block = new Block(hi * blockSize, (hi + 1) * blockSize);
+	}
+
+	// Reserve ids in newly allocated consecutive blocks - remaining ids of last block become current block if current block has less ids left
+	private synchronized void reserveIdsInNewBlocks(long[] ids) {
+
+		int blocks = (int) ((ids.length + (long) blockSize - 1) / blockSize);
+		long start = allocateBlocks(blocks) * blockSize;
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = start + i;
+		}
+
+		Block rest = new Block(start + ids.length, start + (long) blocks * blockSize);
+		if (rest.end - rest.next.get() > block.end - block.next.get()) {
+			block = rest;
+		}
+	}
+
+	@Override
+	public long nextId() {
+
+		while (true) {
+			Block current = block;
+			long id = current.next.getAndIncrement();
+			if (id < current.end) {
+				return id;
+			}
+			refill(current);
+		}
+	}
+
+	// Reserve ids from current block if it contains enough ids, otherwise allocate all needed blocks in one database operation
+	@Override
+	public long[] reserveIds(int count) {
+
+		long[] ids = new long[count];
+		if (count == 0) {
+			return ids;
+		}
+
+		Block current = block;
+		while (true) {
+			long start = current.next.get();
+			if (start + count > current.end) {
+				break;
+			}
+			if (current.next.compareAndSet(start, start + count)) {
+				for (int i = 0; i < count; i++) {
+					ids[i] = start + i;
+				}
+				return ids;
+			}
+		}
+
+		reserveIdsInNewBlocks(ids);
+		return ids;
+	}
+}
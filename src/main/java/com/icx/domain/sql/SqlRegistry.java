@@ -8,6 +8,7 @@ import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,11 +18,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.icx.common.CReflection;
+import com.icx.domain.DomainException;
 import com.icx.domain.DomainObject;
 import com.icx.domain.GuavaReplacements.CaseFormat;
 import com.icx.domain.sql.Annotations.Secret;
 import com.icx.domain.sql.Annotations.SqlColumn;
 import com.icx.domain.sql.Annotations.SqlTable;
+import com.icx.domain.Query;
 import com.icx.domain.Registry;
 import com.icx.jdbc.SqlDbHelpers;
 import com.icx.jdbc.SqlDb;
@@ -349,4 +352,103 @@ public class SqlRegistry extends Registry<SqlDomainObject> {
 			}
 		}
 	}
+
+	// -------------------------------------------------------------------------
+	// Query translation
+	// -------------------------------------------------------------------------
+
+	// Qualified column name for query field condition - column of table associated to domain class declaring field
+	private String getQualifiedColumnNameForQueryCondition(Class<? extends SqlDomainObject> domainClass, Query condition) throws SqlDbException {
+
+		Field field;
+		try {
+			field = getFieldForQueryCondition(domainClass, condition);
+		}
+		catch (DomainException dex) {
+			throw new SqlDbException(dex.getMessage());
+		}
+
+		if (getAccessor(field) != null && getAccessor(field).isCrypt) {
+			throw new SqlDbException("Field '" + CReflection.qualifiedName(field) + "' of query '" + condition + "' is encrypted in database and cannot be used in WHERE clause!");
+		}
+		return getTableFor(getCastedDeclaringDomainClass(field)).name + "." + getColumnFor(field).name;
+	}
+
+	// Column value for query condition value - referenced object's id for reference fields
+	private static Object toColumnValue(Object value) {
+		return (value instanceof DomainObject ? ((DomainObject) value).getId() : value);
+	}
+
+	/**
+	 * Only for internal use!
+	 * <p>
+	 * Translate query into SQL WHERE clause (without 'WHERE') for loading objects of given domain class using bind variables. Columns are qualified by table names.
+	 *
+	 * @param domainClass
+	 *            domain class to load objects of
+	 * @param query
+	 *            query on data and reference fields of domain class or of its base classes
+	 * @param values
+	 *            list where values for placeholders of WHERE clause are added to in order of placeholders
+	 *
+	 * @return WHERE clause
+	 *
+	 * @throws SqlDbException
+	 *             if query is invalid for domain class or contains conditions on encrypted fields
+	 */
+	public String buildWhereClause(Class<? extends SqlDomainObject> domainClass, Query query, List<Object> values) throws SqlDbException {
+
+		if (!query.isFieldCondition()) {
+			if (query.getOperands().isEmpty()) {
+				return (query.getOperator() == Query.Operator.AND ? "1=1" : "1=0");
+			}
+			List<String> operandClauses = new ArrayList<>();
+			for (Query operand : query.getOperands()) {
+				operandClauses.add(buildWhereClause(domainClass, operand, values));
+			}
+			return "(" + String.join(" " + query.getOperator() + " ", operandClauses) + ")";
+		}
+
+		String column = getQualifiedColumnNameForQueryCondition(domainClass, query);
+		switch (query.getOperator()) {
+		case EQ:
+			values.add(toColumnValue(query.getValues().get(0)));
+			return column + "=?";
+
+		case IN:
+			if (query.getValues().isEmpty()) {
+				return "1=0";
+			}
+			List<String> inClauses = new ArrayList<>();
+			for (int i = 0; i < query.getValues().size(); i += 1000) { // Oracle limitation max 1000 elements in lists
+				List<Object> chunk = query.getValues().subList(i, Math.min(i + 1000, query.getValues().size()));
+				chunk.forEach(v -> values.add(toColumnValue(v)));
+				inClauses.add(column + " IN (" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")");
+			}
+			return (inClauses.size() == 1 ? inClauses.get(0) : "(" + String.join(" OR ", inClauses) + ")");
+
+		case RANGE:
+			Object from = query.getValues().get(0);
+			Object to = query.getValues().get(1);
+			if (from != null && to != null) {
+				values.add(from);
+				values.add(to);
+				return column + " BETWEEN ? AND ?";
+			}
+			else if (from != null) {
+				values.add(from);
+				return column + ">=?";
+			}
+			else if (to != null) {
+				values.add(to);
+				return column + "<=?";
+			}
+			else {
+				return column + " IS NOT NULL";
+			}
+
+		default: // IS_NULL
+			return column + " IS NULL";
+		}
+	}
 }
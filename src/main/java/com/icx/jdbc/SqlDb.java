@@ -20,7 +20,6 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +31,8 @@ import java.util.SortedSet;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -148,6 +149,9 @@ public class SqlDb extends Common {
 	// Query timeout for SELECT statements
 	int queryTimeout = 60;
 
+	// MySQL only: 'useCursorFetch=true' is set in connection string - positive fetch size is effective only in this case
+	boolean useCursorFetch = false;
+
 	// Registry: Registered tables
 	List<SqlDbTable> halfOrderedTables = new ArrayList<>();
 	private Set<SqlDbTable> registeredTables = new HashSet<>();
@@ -161,10 +165,12 @@ public class SqlDb extends Common {
 
 		// Get database meta data
 		String dbProdName = null;
+		String url = null;
 		try (SqlConnection connection = SqlConnection.open(pool, true)) {
 			DatabaseMetaData dbmd = connection.cn.getMetaData();
 
 			dbProdName = dbmd.getDatabaseProductName();
+			url = dbmd.getURL();
 			log.info("SQL: {}, version: {}.{}", dbProdName, dbmd.getDatabaseMajorVersion(), dbmd.getDatabaseMinorVersion());
 			log.info("SQL: {}, version: {}, JDBC version: {}.{}", dbmd.getDriverName(), dbmd.getDriverVersion(), dbmd.getJDBCMajorVersion(), dbmd.getJDBCMinorVersion());
 			log.info("SQL: ----------------");
@@ -179,6 +185,7 @@ public class SqlDb extends Common {
 		}
 		else if (dbProdName.contains("MySQL")) {
 			type = DbType.MYSQL;
+			useCursorFetch = (url != null && url.toLowerCase().contains("usecursorfetch=true"));
 		}
 		else if (dbProdName.contains("MariaDB")) {
 			type = DbType.MARIA;
@@ -282,7 +289,31 @@ public class SqlDb extends Common {
 	// Store records
 	// -------------------------------------------------------------------------
 
-	// Assign value to store to place holder - convert value to string on special cases and if converter is registered for specific value type, otherwise rely on internal driver conversion
+	// Assign non-null value to place holder - convert value to string on special cases and if converter is registered for specific value type, otherwise rely on internal driver conversion
+	private static void assignNonNullValue(PreparedStatement pst, int c, Object value) throws SQLException {
+
+		Class<?> objectClass = value.getClass();
+		if (SqlDbHelpers.isBasicType(objectClass) || objectClass.isArray()) {
+
+			if (objectClass == Character.class || objectClass == Boolean.class || Enum.class.isAssignableFrom(objectClass)) {
+				pst.setString(c, value.toString()); // Store values of specific classes as string
+			}
+			else if (objectClass == byte[].class) {
+				pst.setBlob(c, new ByteArrayInputStream((byte[]) value)); // Store other value using JDBC conversion
+			}
+			else if (objectClass == char[].class) {
+				pst.setClob(c, new CharArrayReader((char[]) value)); // Store other value using JDBC conversion
+			}
+			else {
+				pst.setObject(c, value); // Store other value using JDBC conversion
+			}
+		}
+		else {
+			pst.setObject(c, SqlDbHelpers.tryToBuildStringValueFromColumnValue(value)); // Store value as string using either registered to-string converter or declared toString()
+		}
+	}
+
+	// Assign value to store to place holder
 	private static void assignValue(PreparedStatement pst, int c, SqlDbColumn column, Object columnValue) throws SQLException {
 
 		try {
@@ -290,25 +321,7 @@ public class SqlDb extends Common {
 				pst.setNull(c, SqlDbHelpers.typeIntegerFromJdbcType(column.jdbcType)); // Store null value - provide JDBC type of column
 			}
 			else {
-				Class<?> objectClass = columnValue.getClass();
-				if (SqlDbHelpers.isBasicType(objectClass) || objectClass.isArray()) {
-
-					if (objectClass == Character.class || objectClass == Boolean.class || Enum.class.isAssignableFrom(objectClass)) {
-						pst.setString(c, columnValue.toString()); // Store values of specific classes as string
-					}
-					else if (objectClass == byte[].class) {
-						pst.setBlob(c, new ByteArrayInputStream((byte[]) columnValue)); // Store other value using JDBC conversion
-					}
-					else if (objectClass == char[].class) {
-						pst.setClob(c, new CharArrayReader((char[]) columnValue)); // Store other value using JDBC conversion
-					}
-					else {
-						pst.setObject(c, columnValue); // Store other value using JDBC conversion
-					}
-				}
-				else {
-					pst.setObject(c, SqlDbHelpers.tryToBuildStringValueFromColumnValue(columnValue)); // Store value as string using either registered to-string converter or declared toString()
-				}
+				assignNonNullValue(pst, c, columnValue);
 			}
 		}
 		catch (IllegalArgumentException ex) {
@@ -320,8 +333,8 @@ public class SqlDb extends Common {
 	// Retrieve records
 	// -------------------------------------------------------------------------
 
-	// Get potentially cached table from qualified column name
-	private static Map<String, SqlDbTable> tableCacheMap = new HashMap<>();
+	// Get potentially cached table from qualified column name - concurrent because records may be retrieved in parallel
+	private static Map<String, SqlDbTable> tableCacheMap = new ConcurrentHashMap<>();
 
 	private SqlDbTable getTableFromQualifiedColumnName(String qualifiedColumnName) {
 
@@ -343,8 +356,8 @@ public class SqlDb extends Common {
 		return table;
 	}
 
-	// Get potentially cached field type for column from qualified column name
-	private static Map<String, Class<?>> fieldtypeCacheMap = new HashMap<>();
+	// Get potentially cached field type for column from qualified column name - concurrent because records may be retrieved in parallel
+	private static Map<String, Class<?>> fieldtypeCacheMap = new ConcurrentHashMap<>();
 
 	private static Class<?> getFieldTypeFromQualifiedColumnName(SqlDbTable table, String qualifiedColumnName) {
 
@@ -556,22 +569,10 @@ public class SqlDb extends Common {
 	// SELECT
 	// -------------------------------------------------------------------------
 
-	/**
-	 * Perform SQL SELECT operation on given connection.
-	 * 
-	 * @param cn
-	 *            database connection
-	 * @param sql
-	 *            SQL SELECT statement, may contain '?' for place holders
-	 * @param valuesOfPlaceholders
-	 *            Values which replace place holders
-	 * 
-	 * @return result records as list of sorted column/value maps
-	 * 
-	 * @throws SQLException
-	 *             on JDBC or SQL errors
-	 */
-	public List<SortedMap<String, Object>> select(Connection cn, String sql, List<Object> valuesOfPlaceholders) throws SQLException {
+	// Execute SELECT statement and pass result records one by one to record consumer - fetch size > 0 is given to driver as hint for # of rows to fetch per round trip. If result records to log are
+	// given (records collected by consumer) they are logged while result set is still open (some drivers do not allow access to result set metadata after closing result set)
+	private void select(Connection cn, String sql, List<Object> valuesOfPlaceholders, int fetchSize, Consumer<SortedMap<String, Object>> recordConsumer,
+			List<SortedMap<String, Object>> resultRecordsToLog) throws SQLException {
 
 		// Retrieve qualified column names from SELECT statement
 		List<String> orderedColumnNames = null;
@@ -599,6 +600,12 @@ public class SqlDb extends Common {
 					else if (obj instanceof Double) {
 						st.setDouble(counter++, (Double) obj);
 					}
+					else if (obj == null) {
+						st.setNull(counter++, Types.NULL);
+					}
+					else { // Convert other values in the same way as on storing values
+						assignNonNullValue(st, counter++, obj);
+					}
 				}
 			}
 
@@ -619,30 +626,34 @@ public class SqlDb extends Common {
 			}, (queryTimeout + 1) * 1000L); // A bit more than timeout for setQueryTimeout()
 			st.setQueryTimeout(queryTimeout); // Does not work (for Oracle?)
 
+			if (fetchSize > 0) {
+				// MySQL driver ignores positive fetch size and reads whole result into memory if 'useCursorFetch=true' is not set - use row by row streaming in this case
+				st.setFetchSize(type == DbType.MYSQL && !useCursorFetch ? Integer.MIN_VALUE : fetchSize);
+			}
+
 			// Execute SELECT statement and retrieve results
 			try (ResultSet rs = st.executeQuery()) {
 				timer.cancel();
 
 				// Retrieve result set metadata
-				List<SortedMap<String, Object>> resultRecords = new ArrayList<>();
 				ResultSetMetaData rsmd = rs.getMetaData();
 				if (rsmd != null) {
 
 					// Get basic column information from metadata and try to determine table name and type of associated field for all columns
 					ColumnInfo[] columnInfos = getColumnInfos(rsmd, orderedColumnNames);
 
-					// Retrieve results from result set
+					// Retrieve results from result set and pass them to consumer
 					while (rs.next()) {
-						resultRecords.add(retrieveRecord(rs, columnInfos));
+						recordConsumer.accept(retrieveRecord(rs, columnInfos));
 					}
 
-					SqlDbHelpers.logResultRecordsOnDebugLevel(rsmd, sql, resultRecords);
+					if (resultRecordsToLog != null) {
+						SqlDbHelpers.logResultRecordsOnDebugLevel(rsmd, sql, resultRecordsToLog);
+					}
 				}
 				else {
 					log.error("SQL: No result set meta information available! Results cannot be retrieved.");
 				}
-
-				return resultRecords;
 			}
 		}
 		catch (Exception ex) {
@@ -651,6 +662,69 @@ public class SqlDb extends Common {
 		}
 	}
 
+	/**
+	 * Perform SQL SELECT operation on given connection.
+	 * 
+	 * @param cn
+	 *            database connection
+	 * @param sql
+	 *            SQL SELECT statement, may contain '?' for place holders
+	 * @param valuesOfPlaceholders
+	 *            Values which replace place holders
+	 * 
+	 * @return result records as list of sorted column/value maps
+	 * 
+	 * @throws SQLException
+	 *             on JDBC or SQL errors
+	 */
+	public List<SortedMap<String, Object>> select(Connection cn, String sql, List<Object> valuesOfPlaceholders) throws SQLException {
+
+		List<SortedMap<String, Object>> resultRecords = new ArrayList<>();
+		select(cn, sql, valuesOfPlaceholders, 0, resultRecords::add, resultRecords);
+
+		return resultRecords;
+	}
+
+	/**
+	 * Perform SQL SELECT operation on given connection and pass result records one by one to given consumer instead of collecting them.
+	 * <p>
+	 * Result records are retrieved from result set while consumer processes them, so memory needed depends only on what consumer keeps. Given fetch size is a hint for JDBC driver how many rows to
+	 * fetch per database round trip (0 for driver default).
+	 * <p>
+	 * MySQL: positive fetch size is effective only if 'useCursorFetch=true' is set in connection string - otherwise result records are streamed row by row. In this case no other statement may be
+	 * executed on connection before all result records were retrieved, so consumer must not use given connection.
+	 * 
+	 * @param cn
+	 *            database connection
+	 * @param sql
+	 *            SQL SELECT statement, may contain '?' for place holders
+	 * @param valuesOfPlaceholders
+	 *            Values which replace place holders
+	 * @param fetchSize
+	 *            # of rows to fetch per round trip or 0 for driver default
+	 * @param recordConsumer
+	 *            consumer of result records (sorted column/value maps)
+	 * 
+	 * @return # of result records
+	 * 
+	 * @throws SQLException
+	 *             on JDBC or SQL errors
+	 */
+	public long selectStreaming(Connection cn, String sql, List<Object> valuesOfPlaceholders, int fetchSize, Consumer<SortedMap<String, Object>> recordConsumer) throws SQLException {
+
+		long[] count = { 0L };
+		select(cn, sql, valuesOfPlaceholders, fetchSize, r -> {
+			count[0]++;
+			recordConsumer.accept(r);
+		}, null);
+
+		if (log.isDebugEnabled()) {
+			log.debug("SQL: {} record(s) retrieved", count[0]);
+		}
+
+		return count[0];
+	}
+
 	/**
 	 * Perform SQL SELECT statement on given connection.
 	 * 
@@ -676,10 +750,52 @@ public class SqlDb extends Common {
 	 * @throws SQLException
 	 *             on JDBC or SQL errors
 	 */
-	@SuppressWarnings("unchecked")
 	public List<SortedMap<String, Object>> selectFrom(Connection cn, String tableExpr, Object colExpr, String whereClause, String orderByClause, int limit, List<Object> values)
 			throws SQLException, SqlDbException {
 
+		return select(cn, buildSelectStatement(tableExpr, colExpr, whereClause, orderByClause, limit), values);
+	}
+
+	/**
+	 * Perform SQL SELECT statement on given connection and pass result records one by one to given consumer instead of collecting them (see
+	 * {@link #selectStreaming(Connection, String, List, int, Consumer)}).
+	 * 
+	 * @param cn
+	 *            database connection
+	 * @param tableExpr
+	 *            table name or SQL joined table expression
+	 * @param colExpr
+	 *            either a list of column names or a SQL column expression string or null, empty list or "*" for "SELECT * FROM..."
+	 * @param whereClause
+	 *            SQL where clause string (without "WHERE") or null
+	 * @param orderByClause
+	 *            SQL order by clause string (without "ORDER BY") or null
+	 * @param limit
+	 *            maximum # of records to retrieve
+	 * @param values
+	 *            values to assign to placeholders for prepared statement
+	 * @param fetchSize
+	 *            # of rows to fetch per round trip or 0 for driver default
+	 * @param recordConsumer
+	 *            consumer of result records (sorted column/value maps)
+	 * 
+	 * @return # of result records
+	 * 
+	 * @throws SqlDbException
+	 *             if table expression is empty or null or column expression type is not of type {@code String} or {@code List}
+	 * @throws SQLException
+	 *             on JDBC or SQL errors
+	 */
+	public long selectFromStreaming(Connection cn, String tableExpr, Object colExpr, String whereClause, String orderByClause, int limit, List<Object> values, int fetchSize,
+			Consumer<SortedMap<String, Object>> recordConsumer) throws SQLException, SqlDbException {
+
+		return selectStreaming(cn, buildSelectStatement(tableExpr, colExpr, whereClause, orderByClause, limit), values, fetchSize, recordConsumer);
+	}
+
+	// Build SELECT statement from table and column expression, WHERE and ORDER BY clause and limit
+	@SuppressWarnings("unchecked")
+	private String buildSelectStatement(String tableExpr, Object colExpr, String whereClause, String orderByClause, int limit) throws SqlDbException {
+
 		// Check preconditions
 		if (isEmpty(tableExpr)) {
 			throw new SqlDbException("SELECT: No table(s) specified!");
@@ -751,7 +867,7 @@ public class SqlDb extends Common {
 			sql.append(" LIMIT " + limit);
 		}
 
-		return select(cn, sql.toString(), values);
+		return sql.toString();
 	}
 
 	/**
@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -197,8 +198,8 @@ public abstract class SqlDbHelpers extends Common {
 		toStringConverterMap.put(cls, toStringConverter);
 	}
 
-	// Map containing to-string converter or null for all classes which were once checked for having to-string converter
-	private static Map<Class<?>, Method> toStringMethodCacheMap = new HashMap<>();
+	// Map containing to-string converter or null for all classes which were once checked for having to-string converter - synchronized because records may be retrieved in parallel
+	private static Map<Class<?>, Method> toStringMethodCacheMap = Collections.synchronizedMap(new HashMap<>());
 
 	// If column value is not of basic type, check for registered to-string converter and, if not found, for declared toString() method - cache things found
 	static String tryToBuildStringValueFromColumnValue(Object columnValue) {
@@ -258,8 +259,8 @@ public abstract class SqlDbHelpers extends Common {
 		fromStringConverterMap.put(cls, fromStringConverter);
 	}
 
-	// Map containing valueOf(String) method or null for all classes which were once checked for having valueOf(String) declared
-	private static Map<Class<?>, Method> valueOfStringMethodCacheMap = new HashMap<>();
+	// Map containing valueOf(String) method or null for all classes which were once checked for having valueOf(String) declared - synchronized because records may be retrieved in parallel
+	private static Map<Class<?>, Method> valueOfStringMethodCacheMap = Collections.synchronizedMap(new HashMap<>());
 
 	// Check if valueOf(String) method is defined and invoke this method to build object from string value
 	@SuppressWarnings("unchecked")
@@ -16,6 +16,7 @@ import com.icx.domain.sql.Annotations.Accumulation;
 import com.icx.domain.sql.Annotations.Changed;
 import com.icx.domain.sql.Annotations.Created;
 import com.icx.domain.sql.Annotations.Crypt;
+import com.icx.domain.sql.Annotations.Indexed;
 import com.icx.domain.sql.Annotations.Removed;
 import com.icx.domain.sql.Annotations.Secret;
 import com.icx.domain.sql.Annotations.SqlColumn;
@@ -68,6 +69,7 @@ public abstract class A extends SqlDomainObject {
 	public short sh = 0;
 	public Short shortValue;
 
+	@Indexed(sorted = true)
 	public int i = 0;
 	public Integer integerValue;
 
@@ -0,0 +1,11 @@
+package com.icx.dom.junit.domain;
+
+import com.icx.domain.sql.SqlDomainObject;
+import com.icx.domain.sql.Annotations.Cached;
+
+@Cached(capacity = 5)
+public class D extends SqlDomainObject {
+
+	public String name;
+
+}
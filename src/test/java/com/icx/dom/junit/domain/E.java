@@ -0,0 +1,14 @@
+package com.icx.dom.junit.domain;
+
+import com.icx.domain.sql.SqlDomainObject;
+import com.icx.domain.sql.Annotations.Cached;
+import com.icx.domain.sql.Annotations.EvictionPolicy;
+
+@Cached(capacity = 5, policy = EvictionPolicy.LFU)
+public class E extends SqlDomainObject {
+
+	public String name;
+
+	public D d;
+
+}
@@ -0,0 +1,13 @@
+package com.icx.dom.junit.domain;
+
+import com.icx.domain.sql.SqlDomainObject;
+import com.icx.domain.sql.Annotations.DirtyTracking;
+
+@DirtyTracking
+public class F extends SqlDomainObject {
+
+	public String name;
+
+	public int i;
+
+}
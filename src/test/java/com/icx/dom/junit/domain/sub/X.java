@@ -6,6 +6,7 @@ import java.util.Set;
 import com.icx.dom.junit.domain.A;
 import com.icx.domain.sql.SqlDomainObject;
 import com.icx.domain.sql.Annotations.Accumulation;
+import com.icx.domain.sql.Annotations.Indexed;
 import com.icx.domain.sql.Annotations.UseDataHorizon;
 
 @UseDataHorizon
@@ -14,6 +15,7 @@ public class X extends SqlDomainObject {
 	public static class InProgress extends SqlDomainObject {
 	}
 
+	@Indexed
 	public String s;
 
 	public List<Integer> is;
@@ -16,15 +16,20 @@ import java.io.File;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.Order;
@@ -49,18 +54,29 @@ import com.icx.dom.junit.domain.AA;
 import com.icx.dom.junit.domain.AB;
 import com.icx.dom.junit.domain.B;
 import com.icx.dom.junit.domain.C;
+import com.icx.dom.junit.domain.D;
+import com.icx.dom.junit.domain.E;
+import com.icx.dom.junit.domain.F;
 import com.icx.dom.junit.domain.O;
 import com.icx.dom.junit.domain.sub.X;
 import com.icx.dom.junit.domain.sub.Y;
 import com.icx.dom.junit.domain.sub.Z;
+import com.icx.domain.ChangeEvent;
+import com.icx.domain.ChangeListener;
+import com.icx.domain.IdGenerator;
+import com.icx.domain.Query;
+import com.icx.domain.Snapshot;
 import com.icx.domain.sql.ComplexFieldHelpers;
 import com.icx.domain.sql.Helpers;
 import com.icx.domain.sql.SqlDomainController;
 import com.icx.domain.sql.SqlDomainObject;
+import com.icx.domain.sql.SqlHiLoIdGenerator;
 import com.icx.jdbc.ConnectionPool;
 import com.icx.jdbc.SqlConnection;
 import com.icx.jdbc.SqlDb;
 import com.icx.jdbc.SqlDb.DbType;
+import com.icx.jdbc.SqlDbException;
+import com.icx.jdbc.SqlDbTable;
 
 /**
  * Tests were performed on a Lenovo X1/2019 laptop with Windows 11 using local databases: Oracle 11g (11.2), Microsoft SQL Sever 2017, MySQL 8.0.36, MariaDB 11.3 - and JDBC drivers:
@@ -80,6 +96,13 @@ class LoadAndSaveTest extends TestHelpers {
 
 	static SqlDomainController sdc = new SqlDomainController();
 
+	static Properties readDbProperties() throws Exception {
+
+		File dbPropsFile = CProp.findPropertiesFile("db.properties");
+		String localConf = "local/" + dbType.toString().toLowerCase() + "/junit";
+		return CProp.readEnvironmentSpecificProperties(dbPropsFile, localConf, CList.newList(ConnectionPool.DB_CONNECTION_STRING_PROP, ConnectionPool.DB_USER_PROP));
+	}
+
 	static void cleanup() throws Exception {
 
 		log.info("\tcleanup()");
@@ -110,6 +133,15 @@ class LoadAndSaveTest extends TestHelpers {
 		for (C c : sdc.all(C.class)) {
 			sdc.delete(c);
 		}
+		for (E e : sdc.all(E.class)) {
+			sdc.delete(e);
+		}
+		for (D d : sdc.all(D.class)) {
+			sdc.delete(d);
+		}
+		for (F f : sdc.all(F.class)) {
+			sdc.delete(f);
+		}
 
 		try (SqlConnection sqlcn = SqlConnection.open(sdc.getPool(), true)) { // Data horizon controlled objects which were not be loaded
 			SqlDb.deleteFrom(sqlcn.cn, "DOM_Z", null);
@@ -126,6 +158,9 @@ class LoadAndSaveTest extends TestHelpers {
 			SqlDb.deleteFrom(sqlcn.cn, "DOM_A_MAP_OF_MAPS", null);
 			SqlDb.deleteFrom(sqlcn.cn, "DOM_A", null);
 			SqlDb.deleteFrom(sqlcn.cn, "DOM_AA", null);
+			SqlDb.deleteFrom(sqlcn.cn, "DOM_E", null); // Evicted objects of cached domain classes
+			SqlDb.deleteFrom(sqlcn.cn, "DOM_D", null);
+			SqlDb.deleteFrom(sqlcn.cn, "DOM_F", null);
 		}
 	}
 
@@ -143,9 +178,7 @@ class LoadAndSaveTest extends TestHelpers {
 
 			assertEquals(A.class, sdc.getDomainClassByName("A"));
 
-			File dbPropsFile = CProp.findPropertiesFile("db.properties");
-			String localConf = "local/" + dbType.toString().toLowerCase() + "/junit";
-			Properties dbProps = CProp.readEnvironmentSpecificProperties(dbPropsFile, localConf, CList.newList(ConnectionPool.DB_CONNECTION_STRING_PROP, ConnectionPool.DB_USER_PROP));
+			Properties dbProps = readDbProperties();
 
 			Properties domainProps = CProp.readProperties(CProp.findPropertiesFile(SqlDomainController.DOMAIN_PROPERIES_FILE));
 
@@ -260,7 +293,9 @@ class LoadAndSaveTest extends TestHelpers {
 			log.info("\tLoad objects from database...");
 
 			assertTrue(oriFile.setWritable(true));
+			sdc.setFetchSize(2); // Stream records and entry records in small chunks from database
 			sdc.synchronize();
+			sdc.setFetchSize(0);
 
 			log.info("\tAssertions on loaded objects...");
 
@@ -336,7 +371,9 @@ class LoadAndSaveTest extends TestHelpers {
 
 			sdc.unregisterOnlyForTest(aa2);
 
+			sdc.setParallelLoadThreads(4); // Load objects of different domain classes in parallel
 			sdc.synchronize();
+			sdc.setParallelLoadThreads(1);
 
 			aa2 = sdc.findAny(AA.class, aa -> aa.i == 0); // find aa2, not aa1
 
@@ -345,6 +382,38 @@ class LoadAndSaveTest extends TestHelpers {
 
 			aa2.delete();
 			assertEquals(1, sdc.count(AA.class, aa -> true));
+
+			log.info("\tLoad objects into compact object store...");
+
+			Properties domainProps = CProp.readProperties(CProp.findPropertiesFile(SqlDomainController.DOMAIN_PROPERIES_FILE));
+			domainProps.setProperty("compactObjectStore", "true");
+			SqlDomainController compactSdc = new SqlDomainController();
+			compactSdc.initialize(readDbProperties(), domainProps, A.class.getPackage().getName());
+			try {
+				compactSdc.synchronize();
+
+				assertEquals(sdc.all(AA.class).size(), compactSdc.all(AA.class).size());
+				assertEquals(sdc.all(O.class).size(), compactSdc.all(O.class).size());
+
+				long aa1Id = aa1.getId();
+				AA compactAa1 = compactSdc.get(AA.class, aa1Id);
+				assertSame(compactAa1, compactSdc.findAny(A.class, a -> a.getId() == aa1Id)); // Objects of derived domain classes are stored also for base class
+				assertSame(compactSdc.get(O.class, o1.getId()), compactAa1.o);
+				assertEquals(aa1.strings, compactAa1.strings);
+				assertEquals(aa1.mapOfMaps, compactAa1.mapOfMaps);
+
+				compactAa1.setS("compact");
+				compactSdc.save(compactAa1);
+				assertTrue(sdc.reload(aa1));
+				assertEquals("compact", aa1.getS());
+
+				compactSdc.unregisterOnlyForTest(compactAa1);
+				assertNull(compactSdc.findRegistered(AA.class, aa1.getId()));
+				assertNull(compactSdc.findRegistered(A.class, aa1.getId()));
+			}
+			finally {
+				compactSdc.getSqlDb().close();
+			}
 		}
 		catch (AssertionFailedError failed) {
 			throw failed;
@@ -549,6 +618,61 @@ class LoadAndSaveTest extends TestHelpers {
 			assertEquals(CMap.newMap("0", new HashMap<>(), "1", CMap.newMap(Type.A, true), "2", CMap.newMap(Type.A, false, Type.B, true)), aa1.mapOfMaps);
 
 			assertEquals(o1, aa1.o);
+
+			log.info("\tCheck incremental synchronization...");
+
+			sdc.unregisterOnlyForTest(aa1);
+			assertTrue(sdc.synchronizeIncrementally()); // Object was modified within clock skew margin before watermark and is therefore reloaded
+			aa1 = sdc.findAny(AA.class, aa -> true);
+			assertEquals(1, aa1.i);
+			assertEquals(o1, aa1.o);
+			assertFalse(sdc.synchronizeIncrementally());
+
+			log.info("\tSave only marked changes of objects of dirty tracked domain class...");
+
+			F f1 = sdc.createAndSave(F.class, f -> {
+				f.name = "f1";
+				f.i = 1;
+			}); // New objects are saved completely
+			long f1Id = f1.getId();
+
+			f1.name = "unmarked";
+			sdc.save(f1); // Not marked change is not saved
+			f1.setAndMarkDirty("i", 2);
+			sdc.save(f1); // Only marked change is saved
+
+			sdc.unregisterOnlyForTest(f1);
+			sdc.synchronize();
+			f1 = sdc.get(F.class, f1Id);
+
+			assertEquals("f1", f1.name);
+			assertEquals(2, f1.i);
+
+			f1.name = "marked";
+			f1.markDirty("name");
+			sdc.save(f1);
+			f1.i = 3;
+			f1.markDirty(); // Compare all fields
+			sdc.save(f1);
+
+			sdc.unregisterOnlyForTest(f1);
+			sdc.synchronize();
+			f1 = sdc.get(F.class, f1Id);
+
+			assertEquals("marked", f1.name);
+			assertEquals(3, f1.i);
+
+			log.info("\tSave new objects of dirty tracked domain class on synchronization...");
+
+			F f2 = sdc.create(F.class, f -> f.name = "f2"); // Registered but not saved
+			assertFalse(f2.isStored());
+
+			sdc.synchronize();
+
+			assertTrue(f2.isStored());
+			sdc.unregisterOnlyForTest(f2);
+			sdc.synchronize();
+			assertEquals("f2", sdc.get(F.class, f2.getId()).name);
 		}
 		catch (AssertionFailedError failed) {
 			throw failed;
@@ -599,6 +723,11 @@ class LoadAndSaveTest extends TestHelpers {
 				assertEquals(5, SqlDb.deleteFrom(sqlcn.cn, "DOM_X", "S='6' OR S='7' OR S='8' OR S='9' OR S='10'"));
 			}
 
+			log.info("\tSynchronize incrementally with database to recognize and unregister externally deleted objects by their ids...");
+
+			sdc.synchronizeIncrementally(); // Determine and unregister X objects meanwhile deleted in database without reloading unchanged objects
+			assertEquals(5, sdc.count(X.class, x -> true));
+
 			log.info("\tSynchronize with database to recognize and unregister externally deleted objects...");
 
 			sdc.synchronize(); // Determine and unregister X objects meanwhile deleted in database
@@ -803,6 +932,14 @@ class LoadAndSaveTest extends TestHelpers {
 			assertTrue(sdc.hasAny(AB.class));
 			assertTrue(sdc.hasAny(O.class));
 
+			log.info("\tLoad objects selected by query...");
+
+			AB ab = sdc.findAny(AB.class, a -> true);
+			sdc.all(X.class).forEach(sdc::unregisterOnlyForTest);
+			sdc.loadOnlyByQuery(X.class, Query.and(Query.eq("s", "available"), Query.eq("a", ab)), -1);
+			assertEquals(1, sdc.count(X.class, x -> true));
+			assertSame(ab, sdc.findAny(X.class, x -> true).a);
+
 		}
 		catch (AssertionFailedError failed) {
 			throw failed;
@@ -925,6 +1062,21 @@ class LoadAndSaveTest extends TestHelpers {
 				assertEquals(0, sdc.getSqlDb().selectCountFrom(sqlcn.cn, "DOM_C", null));
 			}
 
+			log.info("\tDelete object referenced by unsaved reference...");
+
+			C cu1 = sdc.createAndSave(C.class, null);
+			C cu2 = sdc.createAndSave(C.class, null);
+			cu2.setAndMarkDirty("c", cu1); // Not saved - reference change is reported to parent/child index
+			assertEquals(Collections.singleton(cu2), sdc.getDirectChildren(cu1));
+
+			assertDoesNotThrow(() -> sdc.delete(cu1)); // Child referencing object by unsaved reference is also deleted
+
+			assertEquals(0, sdc.count(C.class, c -> true));
+			assertTrue(sdc.getDirectChildren(cu1).isEmpty());
+			try (SqlConnection sqlcn = SqlConnection.open(sdc.getPool(), false)) {
+				assertEquals(0, sdc.getSqlDb().selectCountFrom(sqlcn.cn, "DOM_C", null));
+			}
+
 			log.info("\tError case exception on deletion...");
 
 			C ce1 = sdc.create(C.class, null);
@@ -977,6 +1129,7 @@ class LoadAndSaveTest extends TestHelpers {
 			X x2 = new X();
 			sdc.register(x2);
 			assertTrue(x2.compareTo(x1) > 0);
+			assertThrows(NullPointerException.class, () -> x1.compareTo(null));
 
 			log.info("\tCheck object order on overridden compareTo()...");
 
@@ -996,10 +1149,72 @@ class LoadAndSaveTest extends TestHelpers {
 			sdc.register(aad);
 
 			assertEquals(CList.newList(aaa, aab, aac, aad), sdc.sort(CList.newList(aad, aab, aac, aaa)));
+			assertEquals(CList.newList(aaa, aab, aac, aad), sdc.sort(CList.newList(aad, aab, aac, aaa), AA::getS));
+			assertEquals(4, CSet.newSet(aaa.getId(), aab.getId(), aac.getId(), aad.getId()).size());
+			assertEquals(3, Arrays.stream(sdc.getIdGenerator().reserveIds(3)).distinct().count());
+			assertEquals(sdc.all(AA.class), new HashSet<>(sdc.view(AA.class)));
+			assertEquals(2, sdc.stream(AA.class).filter(a -> a.bool).count());
 
 			assertEquals(CMap.newMap("A", CSet.newSet(aaa), "B", CSet.newSet(aab), "C", CSet.newSet(aac), "D", CSet.newSet(aad)), sdc.groupBy(o1.as, a -> a.getS()));
 			assertEquals(CMap.newMap(false, CSet.newSet(aaa, aac), true, CSet.newSet(aab, aad)), sdc.groupBy(o1.as, a -> a.bool));
 			assertEquals(2, sdc.countBy(o1.as, a -> a.bool).get(true));
+			assertEquals(2, sdc.countBy(o1.as, a -> (a.bool ? null : a.getS())).get(null));
+			assertEquals(sdc.countBy(o1.as, a -> (a.bool ? null : a.getS())), sdc.parallelCountBy(o1.as, a -> (a.bool ? null : a.getS())));
+			assertEquals(sdc.groupBy(o1.as, a -> (a.bool ? null : a.getS())), sdc.parallelGroupBy(o1.as, a -> (a.bool ? null : a.getS())));
+			assertEquals(2, sdc.parallelCount(AA.class, a -> a.bool));
+			assertEquals(sdc.groupBy(o1.as, a -> a.bool), sdc.parallelGroupBy(AA.class, a -> a.bool));
+
+			log.info("\tCheck lookup by index...");
+
+			x1.s = "x";
+			sdc.updateIndexes(x1);
+			assertEquals(CSet.newSet(x1), sdc.findByIndex(X.class, "s", "x"));
+			assertTrue(sdc.findByIndex(X.class, "s", "y").isEmpty());
+
+			aaa.i = 1;
+			aab.i = 2;
+			aac.i = 3;
+			aad.i = 4;
+			CList.newList(aaa, aab, aac, aad).forEach(sdc::updateIndexes);
+			assertEquals(CSet.newSet(aab, aac), sdc.findByIndexRange(A.class, "i", 2, 3));
+			assertEquals(CSet.newSet(aac, aad), sdc.findByIndexRange(AA.class, "i", 3, null));
+
+			log.info("\tCheck query...");
+
+			assertEquals(CSet.newSet(aab, aac), sdc.findAllByQuery(A.class, Query.between("i", 2, 3)));
+			assertEquals(CSet.newSet(aac), sdc.findAllByQuery(AA.class, Query.and(Query.between("i", 2, null), Query.eq("s", aac.getS()))));
+			assertEquals(CSet.newSet(aaa, aac, aad), sdc.findAllByQuery(AA.class, Query.or(Query.eq("i", 1), Query.in("i", CList.newList(3, 4)))));
+			assertEquals(CSet.newSet(x1), sdc.findAllByQuery(X.class, Query.eq("s", "x")));
+			assertTrue(sdc.findAllByQuery(AA.class, Query.eq("i", "1")).isEmpty()); // Wrong value type
+
+			log.info("\tCheck snapshot...");
+
+			Snapshot<SqlDomainObject> snapshot = sdc.snapshot(AA.class, O.class);
+			aab.i = 5;
+			sdc.unregisterOnlyForTest(aad);
+			assertTrue(snapshot.isConsistent());
+			assertEquals(CSet.newSet(aaa, aab, aac, aad), snapshot.all(AA.class));
+			assertEquals(2, snapshot.get(aab, "i"));
+			assertEquals(o1, snapshot.get(aad, "o"));
+			assertEquals(CSet.newSet(aaa, aab, aac, aad), snapshot.getChildren(o1, AA.class, "o"));
+			assertEquals(CSet.newSet(aab, aac), snapshot.findAllByQuery(AA.class, Query.between("i", 2, 3)));
+			assertTrue(snapshot.all(X.class).isEmpty()); // Not selected
+			sdc.register(aad);
+
+			log.info("\tCheck change events...");
+
+			List<ChangeEvent<SqlDomainObject>> events = new ArrayList<>();
+			ChangeListener<SqlDomainObject> listener = events::addAll;
+			sdc.addChangeListener(listener);
+			X x3 = sdc.create(X.class, x -> x.s = "x3");
+			assertTrue(events.isEmpty()); // Creation is published on initial saving
+			sdc.save(x3);
+			x3.s = "x4";
+			sdc.save(x3);
+			sdc.delete(x3);
+			sdc.removeChangeListener(listener);
+			assertEquals(CList.newList(ChangeEvent.Type.CREATED, ChangeEvent.Type.CHANGED, ChangeEvent.Type.DELETED), events.stream().map(ChangeEvent::getType).collect(Collectors.toList()));
+			assertTrue(events.get(1).getChangedFields().contains(X.class.getDeclaredField("s")));
 
 			sdc.delete(aaa);
 			sdc.delete(aab);
@@ -1100,12 +1315,363 @@ class LoadAndSaveTest extends TestHelpers {
 	@SuppressWarnings("static-method")
 	@Test
 	@Order(12)
+	void cache() throws Throwable {
+
+		try {
+			cleanup();
+
+			log.info("\tTEST 12: cache()");
+
+			log.info("\tEvict least recently used objects...");
+
+			List<D> ds = new ArrayList<>();
+			for (int i = 1; i <= 10; i++) {
+				String name = "d" + i;
+				ds.add(sdc.createAndSave(D.class, d -> d.name = name));
+			}
+			E e1 = sdc.createAndSave(E.class, e -> e.d = ds.get(0)); // Referenced object may not be evicted
+			ds.get(2).name = "changed"; // Object with unsaved changes may not be evicted
+			for (int i = 6; i < 10; i++) {
+				assertSame(ds.get(i), sdc.find(D.class, ds.get(i).getId()));
+			}
+
+			sdc.synchronize(); // Evicts objects down to 90% of capacity
+
+			assertEquals(4, sdc.all(D.class).size());
+			assertSame(ds.get(0), sdc.findRegistered(D.class, ds.get(0).getId()));
+			assertSame(ds.get(2), sdc.findRegistered(D.class, ds.get(2).getId()));
+			assertSame(ds.get(8), sdc.findRegistered(D.class, ds.get(8).getId()));
+			assertSame(ds.get(9), sdc.findRegistered(D.class, ds.get(9).getId()));
+			assertEquals("changed", ds.get(2).name);
+
+			log.info("\tLoad evicted objects on demand...");
+
+			assertNull(sdc.findRegistered(D.class, ds.get(1).getId())); // Does not load object
+
+			D d2 = sdc.find(D.class, ds.get(1).getId());
+			assertNotNull(d2);
+			assertNotSame(ds.get(1), d2);
+			assertEquals("d2", d2.name);
+			assertEquals(5, sdc.all(D.class).size()); // Capacity not exceeded
+
+			D d4 = sdc.get(D.class, ds.get(3).getId()); // Capacity exceeded - evict least recently used objects but not loaded one
+
+			assertEquals(4, sdc.all(D.class).size());
+			assertSame(d4, sdc.findRegistered(D.class, ds.get(3).getId()));
+			assertSame(d2, sdc.findRegistered(D.class, ds.get(1).getId()));
+			assertNull(sdc.findRegistered(D.class, ds.get(8).getId()));
+			assertNull(sdc.findRegistered(D.class, ds.get(9).getId()));
+
+			log.info("\tEvict least frequently used objects...");
+
+			List<E> es = new ArrayList<>();
+			es.add(e1);
+			for (int i = 2; i <= 6; i++) {
+				String name = "e" + i;
+				es.add(sdc.createAndSave(E.class, e -> e.name = name));
+			}
+			for (int[] access : new int[][] { { 5, 3 }, { 2, 2 }, { 3, 2 }, { 4, 2 }, { 1, 1 } }) { // { object index, # of accesses } - least recently used object is not least frequently used one
+				for (int a = 0; a < access[1]; a++) {
+					sdc.find(E.class, es.get(access[0]).getId());
+				}
+			}
+
+			sdc.synchronize();
+
+			assertEquals(4, sdc.all(E.class).size());
+			assertNull(sdc.findRegistered(E.class, es.get(0).getId()));
+			assertNull(sdc.findRegistered(E.class, es.get(1).getId()));
+			assertSame(es.get(5), sdc.findRegistered(E.class, es.get(5).getId()));
+
+			E e1Reloaded = sdc.find(E.class, e1.getId());
+			assertNotNull(e1Reloaded);
+			assertSame(ds.get(0), e1Reloaded.d); // Referenced object was not evicted and is therefore not reloaded
+
+			cleanup();
+		}
+		catch (AssertionFailedError failed) {
+			throw failed;
+		}
+		catch (Throwable ex) {
+			log.error(Common.exceptionStackToString(ex));
+			throw ex;
+		}
+	}
+
+	// Get current 'hi' value of id sequence from id block table
+	static long getNextHi(String name) throws Exception {
+
+		try (SqlConnection sqlcn = SqlConnection.open(sdc.getPool(), true)) {
+			return ((Number) sdc.getSqlDb().selectFrom(sqlcn.cn, "DOM_ID_BLOCK", "NEXT_HI", "NAME='" + name + "'", null, 0, null).get(0).get("NEXT_HI")).longValue();
+		}
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	@Order(13)
+	void idGeneration() throws Throwable {
+
+		try {
+			log.info("\tTEST 13: idGeneration()");
+
+			try (SqlConnection sqlcn = SqlConnection.open(sdc.getPool(), true)) {
+				SqlDb.deleteFrom(sqlcn.cn, "DOM_ID_BLOCK", "NAME='JUNIT'");
+			}
+
+			log.info("\tGenerate ids from blocks allocated in database...");
+
+			SqlHiLoIdGenerator generator = new SqlHiLoIdGenerator(sdc.getPool(), "DOM_ID_BLOCK", "JUNIT", 10);
+
+			assertEquals(10, generator.nextId()); // Row is created on first use - 'hi' values start with 1
+			assertEquals(2, getNextHi("JUNIT"));
+			for (long id = 11; id < 20; id++) {
+				assertEquals(id, generator.nextId());
+			}
+			assertEquals(2, getNextHi("JUNIT"));
+
+			log.info("\tRefill exhausted block...");
+
+			assertEquals(20, generator.nextId());
+			assertEquals(3, getNextHi("JUNIT"));
+
+			log.info("\tReserve ids across block boundaries...");
+
+			long[] ids = generator.reserveIds(25); // Current block has only 9 ids left -> 3 blocks are allocated at once
+			assertEquals(25, ids.length);
+			for (int i = 0; i < ids.length; i++) {
+				assertEquals(30 + i, ids[i]);
+			}
+			assertEquals(6, getNextHi("JUNIT"));
+			assertEquals(21, generator.nextId()); // Current block has more ids left than rest of reserved blocks and is kept
+
+			ids = generator.reserveIds(5); // Taken from current block
+			assertArrayEquals(new long[] { 22, 23, 24, 25, 26 }, ids);
+			assertEquals(6, getNextHi("JUNIT"));
+
+			assertEquals(0, generator.reserveIds(0).length);
+
+			log.info("\tIds of multiple generator instances using same id sequence are unique...");
+
+			SqlHiLoIdGenerator otherGenerator = new SqlHiLoIdGenerator(sdc.getPool(), "DOM_ID_BLOCK", "JUNIT", 10);
+			assertEquals(60, otherGenerator.nextId());
+			assertEquals(7, getNextHi("JUNIT"));
+
+			Set<Long> generatedIds = new HashSet<>();
+			for (int i = 0; i < 100; i++) {
+				assertTrue(generatedIds.add(generator.nextId()));
+				assertTrue(generatedIds.add(otherGenerator.nextId()));
+			}
+
+			log.info("\tUse hi/lo id generator for domain objects...");
+
+			IdGenerator defaultGenerator = sdc.getIdGenerator();
+			sdc.setIdGenerator(generator);
+			try {
+				O o = sdc.createAndSave(O.class, null);
+				assertFalse(generatedIds.contains(o.getId()));
+				sdc.delete(o);
+			}
+			finally {
+				sdc.setIdGenerator(defaultGenerator);
+			}
+		}
+		catch (AssertionFailedError failed) {
+			throw failed;
+		}
+		catch (Throwable ex) {
+			log.error(Common.exceptionStackToString(ex));
+			throw ex;
+		}
+	}
+
+	// Assert that collection and map fields of loaded object contain entries saved for object with given value of field 'i'
+	static void assertComplexFieldsLoaded(AA aa) {
+
+		assertEquals(CList.newList("s" + aa.i, "t" + aa.i), aa.strings, "strings of object " + aa.i);
+		assertEquals(CSet.newSet((double) aa.i, aa.i + 0.5), aa.doubleSet, "doubleSet of object " + aa.i);
+		assertEquals(CMap.newMap("a", BigDecimal.valueOf(aa.i), "b", BigDecimal.valueOf(-aa.i)), aa.bigDecimalMap, "bigDecimalMap of object " + aa.i);
+		assertEquals(CMap.newMap((long) aa.i, CList.newList("A" + aa.i)), aa.mapOfLists, "mapOfLists of object " + aa.i);
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	@Order(14)
+	void loadComplexFieldsOfSelectedObjects() throws Throwable {
+
+		try {
+			cleanup();
+
+			log.info("\tTEST 14: loadComplexFieldsOfSelectedObjects()");
+
+			// Objects 101..103 will be selected, object 200 has entries too but will not be selected
+			List<AA> aas = new ArrayList<>();
+			for (int i : new int[] { 101, 102, 103, 200 }) {
+				aas.add(sdc.createAndSave(AA.class, a -> {
+					a.i = i;
+					a.setS("aa" + i); // MS SQL allows only one NULL value in unique column
+					a.strings = CList.newList("s" + i, "t" + i);
+					a.doubleSet = CSet.newSet((double) i, i + 0.5);
+					a.bigDecimalMap = CMap.newMap("a", BigDecimal.valueOf(i), "b", BigDecimal.valueOf(-i));
+					a.mapOfLists = CMap.newMap((long) i, CList.newList("A" + i));
+				}));
+			}
+
+			log.info("\tLoad entries of objects selected by WHERE clause only (entry records are selected by joining main tables)...");
+
+			aas.forEach(sdc::unregisterOnlyForTest);
+			Set<SqlDomainObject> loadedObjects = sdc.loadOnly(AA.class, "DOM_A.I>100 AND DOM_A.I<200", 0);
+			Set<AA> loadedAAs = loadedObjects.stream().filter(AA.class::isInstance).map(AA.class::cast).collect(Collectors.toSet());
+			assertEquals(CSet.newSet(101, 102, 103), loadedAAs.stream().map(aa -> aa.i).collect(Collectors.toSet()));
+			loadedAAs.forEach(LoadAndSaveTest::assertComplexFieldsLoaded);
+
+			log.info("\tLoad entries of objects selected by WHERE clause and max count (entry records are selected by id lists of loaded objects)...");
+
+			loadedAAs.forEach(sdc::unregisterOnlyForTest);
+			loadedObjects = sdc.loadOnly(AA.class, "DOM_A.I>100", 2);
+			loadedAAs = loadedObjects.stream().filter(AA.class::isInstance).map(AA.class::cast).collect(Collectors.toSet());
+			assertEquals(2, loadedAAs.size());
+			assertTrue(loadedAAs.stream().allMatch(aa -> aa.i > 100));
+			loadedAAs.forEach(LoadAndSaveTest::assertComplexFieldsLoaded);
+
+			log.info("\tLoad entries of all objects...");
+
+			sdc.synchronize();
+			assertEquals(4, sdc.count(AA.class, aa -> true));
+			sdc.all(AA.class).forEach(LoadAndSaveTest::assertComplexFieldsLoaded);
+		}
+		catch (AssertionFailedError failed) {
+			throw failed;
+		}
+		catch (Throwable ex) {
+			log.error(Common.exceptionStackToString(ex));
+			throw ex;
+		}
+	}
+
+	// Enable or disable foreign key constraint of reference field X.a to allow dangling references in database
+	static void setForeignKeyXaEnabled(Connection cn, boolean enabled) throws SQLException {
+
+		String constraintName = (dbType.isMySql() ? "FK_X$A" : "FK_X#A");
+		try (Statement st = cn.createStatement()) {
+			if (dbType.isMySql()) {
+				st.execute("SET FOREIGN_KEY_CHECKS=" + (enabled ? "1" : "0")); // Session specific
+			}
+			else if (dbType == DbType.MS_SQL) {
+				st.execute("ALTER TABLE DOM_X " + (enabled ? "CHECK" : "NOCHECK") + " CONSTRAINT " + constraintName);
+			}
+			else {
+				st.execute("ALTER TABLE DOM_X " + (enabled ? "ENABLE" : "DISABLE") + " CONSTRAINT " + constraintName);
+			}
+		}
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	@Order(15)
+	void loadObjectsReferencedByBaseClass() throws Throwable {
+
+		try {
+			cleanup();
+
+			log.info("\tTEST 15: loadObjectsReferencedByBaseClass()");
+
+			log.info("\tCreate and save objects referencing objects of different object domain classes by base class reference field...");
+
+			List<A> as = new ArrayList<>();
+			for (int i = 401; i <= 403; i++) {
+				int ai = i;
+				as.add(sdc.createAndSave(AA.class, a -> {
+					a.i = ai;
+					a.setS("aa" + ai);
+				}));
+			}
+			for (int i = 411; i <= 412; i++) {
+				int ai = i;
+				as.add(sdc.createAndSave(AB.class, a -> {
+					a.i = ai;
+					a.setS("ab" + ai);
+				}));
+			}
+			for (A a : as) {
+				sdc.createAndSave(X.class, x -> {
+					x.a = a;
+					x.s = "x" + a.i;
+				});
+			}
+
+			log.info("\tUnregister all objects to force loading referenced objects as missing objects...");
+
+			sdc.all(X.class).forEach(sdc::unregisterOnlyForTest);
+			as.forEach(sdc::unregisterOnlyForTest);
+			assertFalse(sdc.hasAny(AA.class));
+			assertFalse(sdc.hasAny(AB.class));
+
+			log.info("\tLoad referencing objects - object domain classes of referenced objects are determined in bulk...");
+
+			Set<SqlDomainObject> objects = sdc.loadOnly(X.class, null, -1);
+
+			assertEquals(10, objects.size());
+			assertEquals(5, sdc.count(X.class, x -> true));
+			assertEquals(3, sdc.count(AA.class, a -> true));
+			assertEquals(2, sdc.count(AB.class, a -> true));
+			for (X x : sdc.all(X.class)) {
+				assertNotNull(x.a, "reference of " + x.s);
+				assertEquals("x" + x.a.i, x.s);
+				assertEquals((x.a.i < 410 ? AA.class : AB.class), x.a.getClass());
+			}
+
+			log.info("\tLoad object referencing object which exists in no table...");
+			log.warn("Test error case: error messages are expected here...");
+
+			long xId = sdc.findAny(X.class, x -> "x401".equals(x.s)).getId();
+			try (SqlConnection sqlcn = SqlConnection.open(sdc.getPool(), true)) {
+				setForeignKeyXaEnabled(sqlcn.cn, false);
+				try {
+					sdc.getSqlDb().update(sqlcn.cn, "DOM_X", CMap.newMap("A_ID", 999999999999L), "ID=" + xId);
+				}
+				finally {
+					if (dbType.isMySql()) {
+						setForeignKeyXaEnabled(sqlcn.cn, true);
+					}
+				}
+			}
+
+			try {
+				sdc.all(X.class).forEach(sdc::unregisterOnlyForTest);
+				sdc.all(A.class).forEach(sdc::unregisterOnlyForTest);
+
+				assertThrows(SqlDbException.class, () -> sdc.loadOnly(X.class, null, -1));
+
+				sdc.all(X.class).forEach(sdc::unregisterOnlyForTest);
+				sdc.all(A.class).forEach(sdc::unregisterOnlyForTest);
+			}
+			finally {
+				try (SqlConnection sqlcn = SqlConnection.open(sdc.getPool(), true)) {
+					SqlDb.deleteFrom(sqlcn.cn, "DOM_X", "ID=" + xId); // Remove dangling reference before enabling constraint again
+					if (!dbType.isMySql()) {
+						setForeignKeyXaEnabled(sqlcn.cn, true);
+					}
+				}
+			}
+		}
+		catch (AssertionFailedError failed) {
+			throw failed;
+		}
+		catch (Throwable ex) {
+			log.error(Common.exceptionStackToString(ex));
+			throw ex;
+		}
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	@Order(16)
 	void errorCases() throws Throwable {
 
 		try {
 			cleanup();
 
-			log.info("\tTEST 12: errorCases()");
+			log.info("\tTEST 16: errorCases()");
 
 			AA aa1 = sdc.create(AA.class, a -> a.setS("aa1"));
 
@@ -1172,6 +1738,21 @@ class LoadAndSaveTest extends TestHelpers {
 			assertFalse(aa1.isValid());
 			assertEquals(2, aa1.getErrorsAndWarnings().size());
 
+			log.info("\tFailing load of one domain class on parallel loading...");
+
+			SqlDbTable aaTable = sdc.getSqlRegistry().getTableFor(AA.class);
+			String aaTableName = aaTable.name;
+			aaTable.name = "DOM_INEXISTENT"; // Force SELECT of AA objects to fail
+			sdc.setParallelLoadThreads(4);
+			try {
+				assertThrows(SQLException.class, () -> sdc.synchronize());
+				assertEquals(2, sdc.all(AA.class).size()); // Objects of domain class which could not be loaded may not be unregistered
+			}
+			finally {
+				aaTable.name = aaTableName;
+				sdc.setParallelLoadThreads(1);
+			}
+
 			cleanup();
 
 			sdc.getSqlDb().close();
@@ -9,7 +9,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
@@ -29,6 +34,9 @@ import com.icx.dom.junit.domain.AA;
 import com.icx.dom.junit.domain.AB;
 import com.icx.dom.junit.domain.B;
 import com.icx.dom.junit.domain.C;
+import com.icx.dom.junit.domain.D;
+import com.icx.dom.junit.domain.E;
+import com.icx.dom.junit.domain.F;
 import com.icx.dom.junit.domain.O;
 import com.icx.dom.junit.domain.RemovedClass;
 import com.icx.dom.junit.domain.sub.X;
@@ -60,10 +68,10 @@ class RegistryTest extends TestHelpers {
 
 		// Expected values
 
-		List<Class<? extends SqlDomainObject>> registeredDomainClasses = CList.newList(O.class, AA.class, A.class, A.Inner.class, AB.class, B.class, C.class, X.class, X.InProgress.class, Y.class,
-				Z.class);
-		List<Class<? extends SqlDomainObject>> registeredObjectDomainClasses = CList.newList(O.class, AA.class, A.Inner.class, AB.class, B.class, C.class, X.class, X.InProgress.class, Y.class,
-				Z.class);
+		List<Class<? extends SqlDomainObject>> registeredDomainClasses = CList.newList(O.class, AA.class, A.class, A.Inner.class, AB.class, B.class, C.class, D.class, E.class, F.class,
+				X.class, X.InProgress.class, Y.class, Z.class);
+		List<Class<? extends SqlDomainObject>> registeredObjectDomainClasses = CList.newList(O.class, AA.class, A.Inner.class, AB.class, B.class, C.class, D.class, E.class, F.class,
+				X.class, X.InProgress.class, Y.class, Z.class);
 		List<Class<? extends SqlDomainObject>> relevantDomainClasses = new ArrayList<>(registeredDomainClasses);
 		relevantDomainClasses.add(RemovedClass.class);
 
@@ -98,7 +106,7 @@ class RegistryTest extends TestHelpers {
 		assertEquals(O.class, sdc.getDomainClassByName("O"), "register inherited domain class");
 		assertEquals(Z.class, sdc.getDomainClassByName("Z"), "register referenced domain class");
 
-		assertDoesNotThrow(() -> sdc.registerDomainClasses(SqlDomainObject.class, O.class, AA.class, A.Inner.class, AB.class, B.class, C.class, X.class, RemovedClass.class));
+		assertDoesNotThrow(() -> sdc.registerDomainClasses(SqlDomainObject.class, O.class, AA.class, A.Inner.class, AB.class, B.class, C.class, E.class, F.class, X.class, RemovedClass.class));
 
 		assertListsEqualButOrder(registeredDomainClasses, sdc.getRegistry().getRegisteredDomainClasses(), "register domain classes by class list");
 
@@ -115,6 +123,25 @@ class RegistryTest extends TestHelpers {
 
 		assertDoesNotThrow(() -> sdc.getRegistry().registerDomainClasses(SqlDomainObject.class, A.class.getPackage().getName()));
 
+		log.info("\tRegister by domain classes in specific package using incomplete domain class index...");
+
+		Path indexDir = Files.createTempDirectory("domain-class-index");
+		Path indexFile = indexDir.resolve(Registry.DOMAIN_CLASS_INDEX_RESOURCE);
+		Files.createDirectories(indexFile.getParent());
+		Files.write(indexFile, Collections.singletonList(AA.class.getName())); // AA depends on A which is not indexed
+
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		try (URLClassLoader indexClassLoader = new URLClassLoader(new URL[] { indexDir.toUri().toURL() }, contextClassLoader)) {
+			Thread.currentThread().setContextClassLoader(indexClassLoader);
+			assertDoesNotThrow(() -> sdc.getRegistry().registerDomainClasses(SqlDomainObject.class, A.class.getPackage().getName()));
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(contextClassLoader);
+			Files.delete(indexFile);
+		}
+
+		assertListsEqualButOrder(registeredDomainClasses, sdc.getRegistry().getRegisteredDomainClasses(), "register domain classes by package name falling back to class path scan");
+
 		log.info("\tClass related checks...");
 
 		assertListsEqualButOrder(registeredDomainClasses, sdc.getRegistry().getRegisteredDomainClasses(), "register domain classes by package name");
@@ -140,6 +167,10 @@ class RegistryTest extends TestHelpers {
 		assertListsEqualButOrder(dataAndReferenceFieldsOfA, sdc.getRegistry().getDataAndReferenceFields(A.class), "data and reference fields");
 		assertListsEqualButOrder(registeredFieldsOfA, sdc.getRegistry().getRegisteredFields(A.class), "registered fields");
 		assertListsEqualButOrder(allFieldsReferencingA, sdc.getRegistry().getAllReferencingFields(A.class), "referencing fields");
+		assertListsEqualButOrder(fields(X.class, "s"), sdc.getRegistry().getIndexedFields(X.class), "indexed fields");
+		assertTrue(Registry.isSortedIndex(A.class.getDeclaredField("i")));
+		assertEquals(sdc.getRegistry().getRegisteredFields(A.class).size() + sdc.getRegistry().getRegisteredFields(AA.class).size(), sdc.getRegistry().getFieldCount(AA.class));
+		assertEquals(sdc.getRegistry().getRegisteredFields(A.class).indexOf(A.class.getDeclaredField("i")), sdc.getRegistry().getFieldOrdinal(A.class.getDeclaredField("i")));
 
 		assertTrue(Registry.isDataField(A.class.getDeclaredField("l")));
 		assertTrue(sdc.getRegistry().isReferenceField(X.class.getDeclaredField("a")));
@@ -0,0 +1,215 @@
+package com.icx.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.icx.dom.junit.TestHelpers;
+import com.icx.dom.junit.domain.O;
+
+// Package of tested class because compact object store is only used internally
+@TestMethodOrder(OrderAnnotation.class)
+class CompactObjectStoreTest extends TestHelpers {
+
+	static final Logger log = LoggerFactory.getLogger(CompactObjectStoreTest.class);
+
+	static O o(long id) {
+		O o = new O();
+		o.setId(id);
+		return o;
+	}
+
+	// Find ids which hash to same segment and same home slot in initial segment table
+	static List<Long> collidingIds(int count) {
+
+		List<Long> ids = new ArrayList<>();
+		int hash0 = CompactObjectStore.hash(1L);
+		int segment = hash0 >>> (32 - CompactObjectStore.SEGMENT_BITS);
+		int slot = hash0 & (CompactObjectStore.INITIAL_SEGMENT_CAPACITY - 1);
+		for (long id = 1; ids.size() < count; id++) {
+			int hash = CompactObjectStore.hash(id);
+			if (hash >>> (32 - CompactObjectStore.SEGMENT_BITS) == segment && (hash & (CompactObjectStore.INITIAL_SEGMENT_CAPACITY - 1)) == slot) {
+				ids.add(id);
+			}
+		}
+		return ids;
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	@Order(1)
+	void putAndRemove() throws Exception {
+
+		log.info("\tTEST 1: putAndRemove()");
+
+		CompactObjectStore<O> store = new CompactObjectStore<>();
+
+		assertTrue(store.isEmpty());
+		assertNull(store.get(1L));
+		assertNull(store.remove(1L));
+
+		O o1 = o(1L);
+		O o2 = o(2L);
+		store.put(1L, o1);
+		store.put(2L, o2);
+
+		assertEquals(2, store.size());
+		assertSame(o1, store.get(1L));
+		assertTrue(store.containsKey(2L));
+		assertFalse(store.containsKey(3L));
+
+		O o1a = o(1L);
+		assertSame(o1, store.putIfAbsent(1L, o1a)); // Existing object is kept
+		assertSame(o1, store.get(1L));
+		store.put(1L, o1a); // Existing object is replaced
+		assertSame(o1a, store.get(1L));
+		assertEquals(2, store.size());
+
+		assertSame(o1a, store.remove(1L));
+		assertNull(store.get(1L));
+		assertNull(store.remove(1L));
+		assertEquals(1, store.size());
+		assertNull(store.putIfAbsent(1L, o1));
+		assertEquals(2, store.size());
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	@Order(2)
+	void collisions() throws Exception {
+
+		log.info("\tTEST 2: collisions()");
+
+		CompactObjectStore<O> store = new CompactObjectStore<>();
+
+		// Colliding ids build one probe sequence - removing entries in between must not break finding following entries (backward shift deletion)
+		List<Long> ids = collidingIds(5);
+		for (long id : ids) {
+			store.put(id, o(id));
+		}
+		assertEquals(ids.size(), store.size());
+
+		assertEquals(ids.get(1), store.remove(ids.get(1)).getId());
+		assertEquals(ids.get(3), store.remove(ids.get(3)).getId());
+		for (int i = 0; i < ids.size(); i++) {
+			if (i == 1 || i == 3) {
+				assertNull(store.get(ids.get(i)));
+			}
+			else {
+				assertEquals(ids.get(i), store.get(ids.get(i)).getId());
+			}
+		}
+
+		// Removed slots are reused
+		store.put(ids.get(1), o(ids.get(1)));
+		assertEquals(ids.get(1), store.get(ids.get(1)).getId());
+		assertEquals(ids.size() - 1, store.size());
+
+		// Probe sequence wraps around end of segment table
+		for (long id : ids) {
+			store.remove(id);
+		}
+		assertTrue(store.isEmpty());
+		int lastSlot = CompactObjectStore.INITIAL_SEGMENT_CAPACITY - 1;
+		List<Long> wrappingIds = new ArrayList<>();
+		for (long id = 1; wrappingIds.size() < 3; id++) {
+			int hash = CompactObjectStore.hash(id);
+			if (hash >>> (32 - CompactObjectStore.SEGMENT_BITS) == 0 && (hash & lastSlot) == lastSlot) {
+				wrappingIds.add(id);
+			}
+		}
+		wrappingIds.forEach(id -> store.put(id, o(id)));
+		store.remove(wrappingIds.get(0));
+		assertEquals(wrappingIds.get(1), store.get(wrappingIds.get(1)).getId());
+		assertEquals(wrappingIds.get(2), store.get(wrappingIds.get(2)).getId());
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	@Order(3)
+	void resizeAndIterate() throws Exception {
+
+		log.info("\tTEST 3: resizeAndIterate()");
+
+		CompactObjectStore<O> store = new CompactObjectStore<>();
+
+		// Force resizing of segments multiple times
+		int count = 10000;
+		for (long id = 1; id <= count; id++) {
+			store.put(id, o(id));
+		}
+		assertEquals(count, store.size());
+		for (long id = 1; id <= count; id++) {
+			assertEquals(id, store.get(id).getId());
+		}
+
+		// Iterate and stream - also in parallel (spliterator splits by segments)
+		Set<Long> iteratedIds = new HashSet<>();
+		for (O o : store.values()) {
+			assertTrue(iteratedIds.add(o.getId()));
+		}
+		assertEquals(count, iteratedIds.size());
+		assertEquals(count, store.values().stream().count());
+		assertEquals((long) count * (count + 1) / 2, store.values().parallelStream().mapToLong(O::getId).sum());
+
+		for (long id = 2; id <= count; id += 2) {
+			store.remove(id);
+		}
+		assertEquals(count / 2, store.size());
+		assertEquals(count / 2, store.values().size());
+		assertTrue(store.values().stream().allMatch(o -> o.getId() % 2 == 1));
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	@Order(4)
+	void randomOperations() throws Exception {
+
+		log.info("\tTEST 4: randomOperations()");
+
+		// Compare with hash map on random operations with many collisions (small id range)
+		CompactObjectStore<O> store = new CompactObjectStore<>();
+		Map<Long, O> map = new HashMap<>();
+		Random random = new Random(4711);
+		for (int n = 0; n < 100000; n++) {
+			long id = random.nextInt(2000);
+			int op = random.nextInt(3);
+			if (op == 0) {
+				O o = o(id);
+				store.put(id, o);
+				map.put(id, o);
+			}
+			else if (op == 1) {
+				O o = o(id);
+				assertSame(map.putIfAbsent(id, o), store.putIfAbsent(id, o));
+			}
+			else {
+				assertSame(map.remove(id), store.remove(id));
+			}
+		}
+
+		assertEquals(map.size(), store.size());
+		for (long id = 0; id < 2000; id++) {
+			assertSame(map.get(id), store.get(id));
+		}
+		assertEquals(map.keySet(), store.values().stream().map(O::getId).collect(Collectors.toSet()));
+	}
+}